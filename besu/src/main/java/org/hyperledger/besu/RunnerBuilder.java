@@ -33,6 +33,7 @@ import org.hyperledger.besu.ethereum.api.graphql.GraphQLProvider;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcHttpService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcApi;
+import org.hyperledger.besu.ethereum.api.jsonrpc.cache.JsonRpcResultCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.HealthService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.LivenessCheck;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.ReadinessCheck;
@@ -509,6 +510,17 @@ public class RunnerBuilder {
             accountPermissioningController.flatMap(
                 AccountPermissioningController::getAccountLocalConfigPermissioningController);
 
+    // The result cache is shared by the HTTP and web socket services
+    final Optional<JsonRpcResultCache> jsonRpcResultCache =
+        jsonRpcConfiguration.getResultCacheSizeBytes() > 0
+                && (jsonRpcConfiguration.isEnabled() || webSocketConfiguration.isEnabled())
+            ? Optional.of(
+                new JsonRpcResultCache(
+                    context.getBlockchain(),
+                    metricsSystem,
+                    jsonRpcConfiguration.getResultCacheSizeBytes()))
+            : Optional.empty();
+
     Optional<JsonRpcHttpService> jsonRpcHttpService = Optional.empty();
     if (jsonRpcConfiguration.isEnabled()) {
       final Map<String, JsonRpcMethod> jsonRpcMethods =
@@ -532,7 +544,8 @@ public class RunnerBuilder {
               metricsConfiguration,
               natService,
               besuPluginContext.getNamedPlugins(),
-              dataDir);
+              dataDir,
+              jsonRpcResultCache);
       jsonRpcHttpService =
           Optional.of(
               new JsonRpcHttpService(
@@ -597,7 +610,8 @@ public class RunnerBuilder {
               metricsConfiguration,
               natService,
               besuPluginContext.getNamedPlugins(),
-              dataDir);
+              dataDir,
+              jsonRpcResultCache);
 
       final SubscriptionManager subscriptionManager =
           createSubscriptionManager(vertx, transactionPool, blockchainQueries);
@@ -774,7 +788,8 @@ public class RunnerBuilder {
       final MetricsConfiguration metricsConfiguration,
       final NatService natService,
       final Map<String, BesuPlugin> namedPlugins,
-      final Path dataDir) {
+      final Path dataDir,
+      final Optional<JsonRpcResultCache> resultCache) {
     final Map<String, JsonRpcMethod> methods =
         new JsonRpcMethodsFactory()
             .methods(
@@ -800,9 +815,10 @@ public class RunnerBuilder {
                 natService,
                 namedPlugins,
                 dataDir,
-                besuController.getProtocolManager().ethContext().getEthPeers());
+                besuController.getProtocolManager().ethContext().getEthPeers(),
+                besuController.getProtocolContext().getBlockProcessingMetrics().getEvmProfiler());
     methods.putAll(besuController.getAdditionalJsonRpcMethods(jsonRpcApis));
-    return methods;
+    return resultCache.map(cache -> cache.wrap(methods)).orElse(methods);
   }
 
   private SubscriptionManager createSubscriptionManager(
@@ -0,0 +1,188 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainexport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.hyperledger.besu.config.JsonUtil;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.util.io.RollingFileWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Exports blocks and their receipts to an indexed archive.
+ *
+ * <p>The archive is a directory of snappy compressed rolling data files with an index holding the
+ * offset of every entry, so any block can be located without decoding the blocks before it. Each
+ * entry is the RLP list of a block and its receipts, and the manifest records the first block and
+ * the number of blocks in the archive.
+ */
+public class BlockArchiveExporter {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String MANIFEST_FILE_NAME = "besu-block-archive-manifest.json";
+  private static final int PENDING_BLOCKS_PER_THREAD = 16;
+
+  private final Blockchain blockchain;
+  private final int parallelism;
+
+  public BlockArchiveExporter(final Blockchain blockchain) {
+    this(blockchain, Runtime.getRuntime().availableProcessors());
+  }
+
+  public BlockArchiveExporter(final Blockchain blockchain, final int parallelism) {
+    checkArgument(parallelism > 0, "Parallelism must be greater than 0.");
+    this.blockchain = blockchain;
+    this.parallelism = parallelism;
+  }
+
+  public static Path dataFileName(
+      final Path archiveDir, final int fileNumber, final boolean compressed) {
+    return archiveDir.resolve(
+        String.format("besu-block-archive-%04d.%sdat", fileNumber, compressed ? "c" : "r"));
+  }
+
+  public static Path manifestFileName(final Path archiveDir) {
+    return archiveDir.resolve(MANIFEST_FILE_NAME);
+  }
+
+  /**
+   * Export blocks that are stored in Besu's block storage, along with their receipts.
+   *
+   * <p>Blocks are read and encoded on a pool of worker threads and written to the archive in block
+   * order.
+   *
+   * @param archiveDir the directory in which to write the archive
+   * @param maybeStartBlock the starting index of the block list to export (inclusive)
+   * @param maybeEndBlock the ending index of the block list to export (exclusive), if not specified
+   *     all blocks up to the chain head are exported
+   * @throws IOException if an I/O error occurs while writing data to disk
+   */
+  public void exportBlocks(
+      final Path archiveDir,
+      final Optional<Long> maybeStartBlock,
+      final Optional<Long> maybeEndBlock)
+      throws IOException {
+    final long startBlock = maybeStartBlock.orElse(BlockHeader.GENESIS_BLOCK_NUMBER);
+    final long endBlock = maybeEndBlock.orElse(blockchain.getChainHeadBlockNumber() + 1L);
+    checkArgument(startBlock >= 0 && endBlock >= 0, "Start and end blocks must be greater than 0.");
+    checkArgument(startBlock < endBlock, "Start block must be less than end block");
+
+    LOG.info("Exporting blocks [{},{}) to archive {}", startBlock, endBlock, archiveDir);
+
+    final ExecutorService encodingExecutor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(getClass().getSimpleName() + "-%d")
+                .build());
+    final Deque<CompletableFuture<Optional<byte[]>>> pendingEntries = new ArrayDeque<>();
+    long nextBlockToEncode = startBlock;
+    long blockCount = 0;
+    try (final RollingFileWriter writer =
+        new RollingFileWriter(
+            (fileNumber, compressed) -> dataFileName(archiveDir, fileNumber, compressed), true)) {
+      while (nextBlockToEncode < endBlock || !pendingEntries.isEmpty()) {
+        while (nextBlockToEncode < endBlock
+            && pendingEntries.size() < parallelism * PENDING_BLOCKS_PER_THREAD) {
+          final long blockNumber = nextBlockToEncode++;
+          pendingEntries.add(
+              CompletableFuture.supplyAsync(() -> encodeEntry(blockNumber), encodingExecutor));
+        }
+
+        final Optional<byte[]> entry = joinEntry(pendingEntries.remove());
+        if (entry.isEmpty()) {
+          LOG.warn(
+              "Unable to export blocks [{} - {}).  Blocks not found.",
+              startBlock + blockCount,
+              endBlock);
+          break;
+        }
+        writer.writeBytes(entry.get());
+        blockCount++;
+        if ((startBlock + blockCount) % 10_000 == 0) {
+          LOG.info("Export at block {}", startBlock + blockCount);
+        }
+      }
+    } finally {
+      encodingExecutor.shutdownNow();
+    }
+
+    writeManifest(archiveDir, startBlock, blockCount);
+    LOG.info("Export complete, {} blocks written to archive {}", blockCount, archiveDir);
+  }
+
+  private Optional<byte[]> encodeEntry(final long blockNumber) {
+    final Optional<Block> maybeBlock = blockchain.getBlockByNumber(blockNumber);
+    if (maybeBlock.isEmpty()) {
+      return Optional.empty();
+    }
+    final Block block = maybeBlock.get();
+    final Optional<List<TransactionReceipt>> receipts = blockchain.getTxReceipts(block.getHash());
+    checkState(receipts.isPresent(), "Receipts for block %s were not found", blockNumber);
+
+    final BytesValueRLPOutput output = new BytesValueRLPOutput();
+    output.startList();
+    block.writeTo(output);
+    output.writeList(receipts.get(), TransactionReceipt::writeToWithRevertReason);
+    output.endList();
+    return Optional.of(output.encoded().toArrayUnsafe());
+  }
+
+  private static Optional<byte[]> joinEntry(final CompletableFuture<Optional<byte[]>> entry) {
+    try {
+      return entry.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private static void writeManifest(
+      final Path archiveDir, final long firstBlock, final long blockCount) throws IOException {
+    final Map<String, Object> manifest = new HashMap<>();
+    manifest.put("compressed", true);
+    manifest.put("firstBlock", firstBlock);
+    manifest.put("blockCount", blockCount);
+
+    Files.write(
+        manifestFileName(archiveDir), JsonUtil.getJson(manifest).getBytes(StandardCharsets.UTF_8));
+  }
+}
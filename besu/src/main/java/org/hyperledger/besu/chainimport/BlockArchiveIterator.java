@@ -0,0 +1,130 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainimport;
+
+import org.hyperledger.besu.chainexport.BlockArchiveExporter;
+import org.hyperledger.besu.config.JsonUtil;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.core.BlockWithReceipts;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPInput;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+import org.hyperledger.besu.util.io.RollingFileReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Iterates over the blocks and receipts of an archive written by {@link BlockArchiveExporter},
+ * starting at any block held in the archive.
+ */
+public final class BlockArchiveIterator implements Iterator<BlockWithReceipts>, Closeable {
+
+  private final BlockHeaderFunctions blockHeaderFunctions;
+  private final RollingFileReader reader;
+  private final long endBlock;
+  private long nextBlock;
+
+  /**
+   * Opens an archive for iteration.
+   *
+   * @param archiveDir the directory holding the archive
+   * @param blockHeaderFunctions the functions used to hash the decoded block headers
+   * @param startBlock the first block to return (inclusive)
+   * @param endBlock the last block to return (exclusive)
+   * @throws IOException if the archive can not be read
+   */
+  public BlockArchiveIterator(
+      final Path archiveDir,
+      final BlockHeaderFunctions blockHeaderFunctions,
+      final long startBlock,
+      final long endBlock)
+      throws IOException {
+    this.blockHeaderFunctions = blockHeaderFunctions;
+    final ObjectNode manifest =
+        JsonUtil.objectNodeFromString(
+            Files.readString(BlockArchiveExporter.manifestFileName(archiveDir)));
+    final boolean compressed = manifest.get("compressed").asBoolean(false);
+    final long firstBlock = manifest.get("firstBlock").asLong();
+    final long blockCount = manifest.get("blockCount").asLong();
+
+    this.nextBlock = Math.max(startBlock, firstBlock);
+    this.endBlock = Math.min(endBlock, firstBlock + blockCount);
+    if (nextBlock < this.endBlock) {
+      reader =
+          new RollingFileReader(
+              (fileNumber, isCompressed) ->
+                  BlockArchiveExporter.dataFileName(archiveDir, fileNumber, isCompressed),
+              compressed);
+      if (nextBlock > firstBlock) {
+        // the index holds one entry per block, so the entry position is the block offset
+        reader.seek(nextBlock - firstBlock);
+      }
+    } else {
+      reader = null;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return nextBlock < endBlock;
+  }
+
+  @Override
+  public BlockWithReceipts next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more blocks found in the archive.");
+    }
+    final BlockWithReceipts result;
+    try {
+      result = readEntry(reader.readBytes());
+    } catch (final IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+    if (result.getNumber() != nextBlock) {
+      throw new IllegalStateException(
+          String.format(
+              "Archive entry for block %d holds block %d", nextBlock, result.getNumber()));
+    }
+    nextBlock++;
+    return result;
+  }
+
+  private BlockWithReceipts readEntry(final byte[] entry) {
+    final RLPInput input = new BytesValueRLPInput(Bytes.wrap(entry), false);
+    input.enterList();
+    final Block block = Block.readFrom(input, blockHeaderFunctions);
+    final List<TransactionReceipt> receipts =
+        input.readList(receipt -> TransactionReceipt.readFrom(receipt, true));
+    input.leaveList();
+    return new BlockWithReceipts(block, receipts);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (reader != null) {
+      reader.close();
+    }
+  }
+}
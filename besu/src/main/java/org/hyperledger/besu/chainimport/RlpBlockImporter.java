@@ -20,11 +20,14 @@ import org.hyperledger.besu.controller.BesuController;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockImporter;
+import org.hyperledger.besu.ethereum.core.BlockWithReceipts;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.mainnet.BlockHeaderValidator;
+import org.hyperledger.besu.ethereum.mainnet.BodyValidation;
 import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
@@ -35,6 +38,8 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -45,6 +50,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Iterators;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -56,12 +62,16 @@ public class RlpBlockImporter implements Closeable {
 
   private final ExecutorService validationExecutor = Executors.newCachedThreadPool();
   private final ExecutorService importExecutor = Executors.newSingleThreadExecutor();
+  private final int signatureRecoveryParallelism = Runtime.getRuntime().availableProcessors();
+  private final ExecutorService signatureRecoveryExecutor =
+      Executors.newFixedThreadPool(signatureRecoveryParallelism);
 
   private long cumulativeGas;
   private long segmentGas;
   private final Stopwatch cumulativeTimer = Stopwatch.createUnstarted();
   private final Stopwatch segmentTimer = Stopwatch.createUnstarted();
   private static final long SEGMENT_SIZE = 1000;
+  private static final int TRUSTED_IMPORT_BATCH_SIZE = 500;
 
   /**
    * Imports blocks that are stored as concatenated RLP sections in the given file into Besu's block
@@ -87,97 +97,280 @@ public class RlpBlockImporter implements Closeable {
       final long endBlock)
       throws IOException {
     final ProtocolSchedule protocolSchedule = besuController.getProtocolSchedule();
-    final ProtocolContext context = besuController.getProtocolContext();
-    final MutableBlockchain blockchain = context.getBlockchain();
-    int count = 0;
-
     try (final RawBlockIterator iterator =
         new RawBlockIterator(
             blocks,
             rlp ->
                 BlockHeader.readFrom(
                     rlp, ScheduleBasedBlockHeaderFunctions.create(protocolSchedule)))) {
-      BlockHeader previousHeader = null;
-      CompletableFuture<Void> previousBlockFuture = null;
-      final AtomicReference<Throwable> threadedException = new AtomicReference<>();
+      return importBlocks(
+          Iterators.transform(
+              iterator, block -> new BlockWithReceipts(block, Collections.emptyList())),
+          besuController,
+          skipPowValidation,
+          false,
+          startBlock,
+          endBlock);
+    }
+  }
+
+  /**
+   * Imports blocks from an archive written by {@link
+   * org.hyperledger.besu.chainexport.BlockArchiveExporter}. The archive is indexed, so the import
+   * seeks directly to the start block rather than decoding the blocks before it.
+   *
+   * @param archiveDir Path to the directory holding the archive
+   * @param besuController the BesuController that defines blockchain behavior
+   * @param skipPowValidation Skip proof of work validation (correct mix hash and difficulty)
+   * @param importReceipts Append the blocks with the receipts stored in the archive instead of
+   *     executing their transactions, no world state is built for the imported blocks
+   * @param startBlock the first block to import (inclusive)
+   * @param endBlock the last block to import (exclusive)
+   * @return the import result
+   * @throws IOException On Failure
+   */
+  public RlpBlockImporter.ImportResult importArchive(
+      final Path archiveDir,
+      final BesuController besuController,
+      final boolean skipPowValidation,
+      final boolean importReceipts,
+      final long startBlock,
+      final long endBlock)
+      throws IOException {
+    final ProtocolSchedule protocolSchedule = besuController.getProtocolSchedule();
+    try (final BlockArchiveIterator iterator =
+        new BlockArchiveIterator(
+            archiveDir,
+            ScheduleBasedBlockHeaderFunctions.create(protocolSchedule),
+            startBlock,
+            endBlock)) {
+      return importBlocks(
+          iterator, besuController, skipPowValidation, importReceipts, startBlock, endBlock);
+    }
+  }
+
+  /**
+   * Imports blocks from an archive written by {@link
+   * org.hyperledger.besu.chainexport.BlockArchiveExporter} without executing them. Only the
+   * detached header rules and the transactions, ommers and receipts roots are checked, in parallel,
+   * and the blocks are appended with their stored receipts in large batches. No world state is
+   * built for the imported blocks, it has to be restored separately from a state backup.
+   *
+   * @param archiveDir Path to the directory holding a trusted archive
+   * @param besuController the BesuController that defines blockchain behavior
+   * @param skipPowValidation Skip proof of work validation (correct mix hash and difficulty)
+   * @param startBlock the first block to import (inclusive)
+   * @param endBlock the last block to import (exclusive)
+   * @return the import result
+   * @throws IOException On Failure
+   */
+  public RlpBlockImporter.ImportResult importArchiveTrusted(
+      final Path archiveDir,
+      final BesuController besuController,
+      final boolean skipPowValidation,
+      final long startBlock,
+      final long endBlock)
+      throws IOException {
+    final ProtocolSchedule protocolSchedule = besuController.getProtocolSchedule();
+    final ProtocolContext context = besuController.getProtocolContext();
+    final MutableBlockchain blockchain = context.getBlockchain();
+    // batches are appended on top of the chain head, so blocks up to it are already present
+    final long firstBlock = Math.max(startBlock, blockchain.getChainHeadBlockNumber() + 1);
+    int count = 0;
+
+    try (final BlockArchiveIterator iterator =
+        new BlockArchiveIterator(
+            archiveDir,
+            ScheduleBasedBlockHeaderFunctions.create(protocolSchedule),
+            firstBlock,
+            endBlock)) {
+      BlockHeader previousHeader = blockchain.getChainHeadHeader();
+      CompletableFuture<Void> previousBatchFuture = CompletableFuture.completedFuture(null);
       while (iterator.hasNext()) {
-        final Block block = iterator.next();
-        final BlockHeader header = block.getHeader();
-        final long blockNumber = header.getNumber();
-        if (blockNumber == BlockHeader.GENESIS_BLOCK_NUMBER
-            || blockNumber < startBlock
-            || blockNumber >= endBlock) {
-          continue;
-        }
-        if (blockchain.contains(header.getHash())) {
-          continue;
-        }
-        if (previousHeader == null) {
-          previousHeader = lookupPreviousHeader(blockchain, header);
-        }
-        final ProtocolSpec protocolSpec = protocolSchedule.getByBlockNumber(blockNumber);
-        final BlockHeader lastHeader = previousHeader;
-
-        final CompletableFuture<Void> validationFuture =
-            CompletableFuture.runAsync(
-                () -> validateBlock(protocolSpec, context, lastHeader, header, skipPowValidation),
-                validationExecutor);
-
-        final CompletableFuture<Void> extractingFuture =
-            CompletableFuture.runAsync(() -> extractSignatures(block));
-
-        final CompletableFuture<Void> calculationFutures;
-        if (previousBlockFuture == null) {
-          calculationFutures = extractingFuture;
-        } else {
-          calculationFutures = CompletableFuture.allOf(extractingFuture, previousBlockFuture);
+        final List<BlockWithReceipts> batch = new ArrayList<>(TRUSTED_IMPORT_BATCH_SIZE);
+        while (iterator.hasNext() && batch.size() < TRUSTED_IMPORT_BATCH_SIZE) {
+          batch.add(iterator.next());
         }
+        validateTrustedBatch(protocolSchedule, context, previousHeader, batch, skipPowValidation);
 
-        try {
-          do {
-            final Throwable t = (Exception) threadedException.get();
-            if (t != null) {
-              throw new RuntimeException("Error importing block " + header.getNumber(), t);
-            }
-          } while (!blockBacklog.tryAcquire(1, SECONDS));
-        } catch (final InterruptedException e) {
-          LOG.error("Interrupted adding to backlog.", e);
-          break;
-        }
-        previousBlockFuture =
-            validationFuture.runAfterBothAsync(
-                calculationFutures,
-                () -> evaluateBlock(context, block, header, protocolSpec, skipPowValidation),
-                importExecutor);
-        previousBlockFuture.exceptionally(
-            exception -> {
-              threadedException.set(exception);
-              return null;
-            });
-
-        ++count;
-        previousHeader = header;
+        // validating the next batch overlaps with writing this one
+        previousBatchFuture.join();
+        previousBatchFuture =
+            CompletableFuture.runAsync(() -> appendTrustedBatch(blockchain, batch), importExecutor);
+
+        count += batch.size();
+        previousHeader = batch.get(batch.size() - 1).getHeader();
       }
-      if (previousBlockFuture != null) {
-        previousBlockFuture.join();
+      previousBatchFuture.join();
+    }
+    return new RlpBlockImporter.ImportResult(blockchain.getChainHead().getTotalDifficulty(), count);
+  }
+
+  private RlpBlockImporter.ImportResult importBlocks(
+      final Iterator<BlockWithReceipts> iterator,
+      final BesuController besuController,
+      final boolean skipPowValidation,
+      final boolean importReceipts,
+      final long startBlock,
+      final long endBlock) {
+    final ProtocolSchedule protocolSchedule = besuController.getProtocolSchedule();
+    final ProtocolContext context = besuController.getProtocolContext();
+    final MutableBlockchain blockchain = context.getBlockchain();
+    int count = 0;
+
+    BlockHeader previousHeader = null;
+    CompletableFuture<Void> previousBlockFuture = null;
+    final AtomicReference<Throwable> threadedException = new AtomicReference<>();
+    while (iterator.hasNext()) {
+      final BlockWithReceipts blockWithReceipts = iterator.next();
+      final Block block = blockWithReceipts.getBlock();
+      final BlockHeader header = block.getHeader();
+      final long blockNumber = header.getNumber();
+      if (blockNumber == BlockHeader.GENESIS_BLOCK_NUMBER
+          || blockNumber < startBlock
+          || blockNumber >= endBlock) {
+        continue;
       }
-      logProgress(blockchain.getChainHeadBlockNumber());
-      return new RlpBlockImporter.ImportResult(
-          blockchain.getChainHead().getTotalDifficulty(), count);
+      if (blockchain.contains(header.getHash())) {
+        continue;
+      }
+      if (previousHeader == null) {
+        previousHeader = lookupPreviousHeader(blockchain, header);
+      }
+      final ProtocolSpec protocolSpec = protocolSchedule.getByBlockNumber(blockNumber);
+      final BlockHeader lastHeader = previousHeader;
+
+      final CompletableFuture<Void> validationFuture =
+          CompletableFuture.runAsync(
+              () -> validateBlock(protocolSpec, context, lastHeader, header, skipPowValidation),
+              validationExecutor);
+
+      // appending with stored receipts does not execute transactions, so senders are not needed
+      final CompletableFuture<Void> extractingFuture =
+          importReceipts
+              ? CompletableFuture.completedFuture(null)
+              : CompletableFuture.runAsync(() -> extractSignatures(block), validationExecutor);
+
+      final CompletableFuture<Void> calculationFutures;
+      if (previousBlockFuture == null) {
+        calculationFutures = extractingFuture;
+      } else {
+        calculationFutures = CompletableFuture.allOf(extractingFuture, previousBlockFuture);
+      }
+
+      try {
+        do {
+          final Throwable t = (Exception) threadedException.get();
+          if (t != null) {
+            throw new RuntimeException("Error importing block " + header.getNumber(), t);
+          }
+        } while (!blockBacklog.tryAcquire(1, SECONDS));
+      } catch (final InterruptedException e) {
+        LOG.error("Interrupted adding to backlog.", e);
+        break;
+      }
+      previousBlockFuture =
+          validationFuture.runAfterBothAsync(
+              calculationFutures,
+              () ->
+                  evaluateBlock(
+                      context,
+                      blockWithReceipts,
+                      importReceipts,
+                      protocolSpec,
+                      skipPowValidation),
+              importExecutor);
+      previousBlockFuture.exceptionally(
+          exception -> {
+            threadedException.set(exception);
+            return null;
+          });
+
+      ++count;
+      previousHeader = header;
     }
+    if (previousBlockFuture != null) {
+      previousBlockFuture.join();
+    }
+    logProgress(blockchain.getChainHeadBlockNumber());
+    return new RlpBlockImporter.ImportResult(blockchain.getChainHead().getTotalDifficulty(), count);
   }
 
   private void extractSignatures(final Block block) {
-    final List<CompletableFuture<Void>> futures =
-        new ArrayList<>(block.getBody().getTransactions().size());
-    for (final Transaction tx : block.getBody().getTransactions()) {
-      futures.add(CompletableFuture.runAsync(tx::getSender, validationExecutor));
+    final List<Transaction> transactions = block.getBody().getTransactions();
+    final int parallelism = signatureRecoveryParallelism;
+    final int chunkSize = Math.max(1, (transactions.size() + parallelism - 1) / parallelism);
+    final List<CompletableFuture<Void>> futures = new ArrayList<>(parallelism);
+    for (int start = 0; start < transactions.size(); start += chunkSize) {
+      final List<Transaction> chunk =
+          transactions.subList(start, Math.min(start + chunkSize, transactions.size()));
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> chunk.forEach(Transaction::getSender), signatureRecoveryExecutor));
+    }
+    for (final CompletableFuture<Void> future : futures) {
+      future.join();
+    }
+  }
+
+  private void validateTrustedBatch(
+      final ProtocolSchedule protocolSchedule,
+      final ProtocolContext context,
+      final BlockHeader previousHeader,
+      final List<BlockWithReceipts> batch,
+      final boolean skipPowValidation) {
+    final int parallelism = signatureRecoveryParallelism;
+    final int chunkSize = Math.max(1, (batch.size() + parallelism - 1) / parallelism);
+    final List<CompletableFuture<Void>> futures = new ArrayList<>(parallelism);
+    for (int start = 0; start < batch.size(); start += chunkSize) {
+      final int chunkStart = start;
+      final int chunkEnd = Math.min(start + chunkSize, batch.size());
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> {
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                  final BlockHeader parent = i == 0 ? previousHeader : batch.get(i - 1).getHeader();
+                  validateTrustedBlock(
+                      protocolSchedule, context, parent, batch.get(i), skipPowValidation);
+                }
+              },
+              validationExecutor));
     }
     for (final CompletableFuture<Void> future : futures) {
       future.join();
     }
   }
 
+  private void validateTrustedBlock(
+      final ProtocolSchedule protocolSchedule,
+      final ProtocolContext context,
+      final BlockHeader previousHeader,
+      final BlockWithReceipts blockWithReceipts,
+      final boolean skipPowValidation) {
+    final BlockHeader header = blockWithReceipts.getHeader();
+    final BlockBody body = blockWithReceipts.getBlock().getBody();
+    validateBlock(
+        protocolSchedule.getByBlockNumber(header.getNumber()),
+        context,
+        previousHeader,
+        header,
+        skipPowValidation);
+    if (!BodyValidation.transactionsRoot(body.getTransactions())
+            .equals(header.getTransactionsRoot())
+        || !BodyValidation.ommersHash(body.getOmmers()).equals(header.getOmmersHash())
+        || !BodyValidation.receiptsRoot(blockWithReceipts.getReceipts())
+            .equals(header.getReceiptsRoot())) {
+      throw new IllegalStateException(
+          "Invalid block body or receipts at block number " + header.getNumber() + ".");
+    }
+  }
+
+  private void appendTrustedBatch(
+      final MutableBlockchain blockchain, final List<BlockWithReceipts> batch) {
+    blockchain.appendBlocks(batch);
+    LOG.info("Trusted import at block %8d", batch.get(batch.size() - 1).getNumber());
+  }
+
   private void validateBlock(
       final ProtocolSpec protocolSpec,
       final ProtocolContext context,
@@ -200,22 +393,32 @@ public class RlpBlockImporter implements Closeable {
 
   private void evaluateBlock(
       final ProtocolContext context,
-      final Block block,
-      final BlockHeader header,
+      final BlockWithReceipts blockWithReceipts,
+      final boolean importReceipts,
       final ProtocolSpec protocolSpec,
       final boolean skipPowValidation) {
+    final Block block = blockWithReceipts.getBlock();
+    final BlockHeader header = block.getHeader();
     try {
       cumulativeTimer.start();
       segmentTimer.start();
       final BlockImporter blockImporter = protocolSpec.getBlockImporter();
+      final HeaderValidationMode headerValidationMode =
+          skipPowValidation
+              ? HeaderValidationMode.LIGHT_SKIP_DETACHED
+              : HeaderValidationMode.SKIP_DETACHED;
+      final HeaderValidationMode ommerValidationMode =
+          skipPowValidation ? HeaderValidationMode.LIGHT : HeaderValidationMode.FULL;
       final boolean blockImported =
-          blockImporter.importBlock(
-              context,
-              block,
-              skipPowValidation
-                  ? HeaderValidationMode.LIGHT_SKIP_DETACHED
-                  : HeaderValidationMode.SKIP_DETACHED,
-              skipPowValidation ? HeaderValidationMode.LIGHT : HeaderValidationMode.FULL);
+          importReceipts
+              ? blockImporter.fastImportBlock(
+                  context,
+                  block,
+                  blockWithReceipts.getReceipts(),
+                  headerValidationMode,
+                  ommerValidationMode)
+              : blockImporter.importBlock(
+                  context, block, headerValidationMode, ommerValidationMode);
       if (!blockImported) {
         throw new IllegalStateException(
             "Invalid block at block number " + header.getNumber() + ".");
@@ -269,6 +472,14 @@ public class RlpBlockImporter implements Closeable {
       LOG.error("Error shutting down validatorExecutor.", e);
     }
 
+    signatureRecoveryExecutor.shutdownNow();
+    try {
+      //noinspection ResultOfMethodCallIgnored
+      signatureRecoveryExecutor.awaitTermination(5, SECONDS);
+    } catch (final Exception e) {
+      LOG.error("Error shutting down signatureRecoveryExecutor.", e);
+    }
+
     importExecutor.shutdownNow();
     try {
       //noinspection ResultOfMethodCallIgnored
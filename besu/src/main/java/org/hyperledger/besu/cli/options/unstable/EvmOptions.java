@@ -0,0 +1,35 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.cli.options.unstable;
+
+import picocli.CommandLine;
+
+public class EvmOptions {
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xevm-profiling-enabled"},
+      description =
+          "Profile the opcodes executed while importing blocks, reported through debug_evmProfile and metrics (default: ${DEFAULT-VALUE})")
+  private final Boolean profilingEnabled = false;
+
+  public static EvmOptions create() {
+    return new EvmOptions();
+  }
+
+  public Boolean isProfilingEnabled() {
+    return profilingEnabled;
+  }
+}
@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.cli.options.unstable;
 
+import static org.hyperledger.besu.ethereum.core.MiningParameters.DEFAULT_MINER_THREADS;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.DEFAULT_REMOTE_SEALERS_LIMIT;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.DEFAULT_REMOTE_SEALERS_TTL;
 
@@ -42,6 +43,20 @@ public class MiningOptions {
       description = "Extranonce for Stratum network miners (default: ${DEFAULT-VALUE})")
   private String stratumExtranonce = "080c";
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xminer-ethash-full-dataset-enabled"},
+      description =
+          "Mine with the full EthHash dataset, generated in the data directory, instead of computing dataset items from the light cache (default: ${DEFAULT-VALUE})")
+  private final Boolean ethHashFullDatasetEnabled = false;
+
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xminer-threads"},
+      description =
+          "Number of threads searching for a nonce when CPU mining is enabled (default: ${DEFAULT-VALUE})")
+  private final Integer minerThreads = DEFAULT_MINER_THREADS;
+
   public static MiningOptions create() {
     return new MiningOptions();
   }
@@ -57,4 +72,12 @@ public class MiningOptions {
   public String getStratumExtranonce() {
     return stratumExtranonce;
   }
+
+  public Boolean isEthHashFullDatasetEnabled() {
+    return ethHashFullDatasetEnabled;
+  }
+
+  public Integer getMinerThreads() {
+    return minerThreads;
+  }
 }
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.cli.options.unstable;
 
 import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
+import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
 
 import picocli.CommandLine;
 
@@ -34,6 +35,15 @@ public class RPCOptions {
       arity = "1")
   private final Long wsTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
 
+  @CommandLine.Option(
+      hidden = true,
+      names = {"--Xrpc-result-cache-size-bytes"},
+      description =
+          "Maximum size of the cache of serialized results shared by HTTP and web socket JSON-RPC"
+              + " requests, 0 to disable (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long resultCacheSizeBytes = JsonRpcConfiguration.DEFAULT_RESULT_CACHE_SIZE_BYTES;
+
   public static RPCOptions create() {
     return new RPCOptions();
   }
@@ -45,4 +55,8 @@ public class RPCOptions {
   public Long getWsTimeoutSec() {
     return wsTimeoutSec;
   }
+
+  public Long getResultCacheSizeBytes() {
+    return resultCacheSizeBytes;
+  }
 }
@@ -15,5 +15,6 @@
 package org.hyperledger.besu.cli.subcommands.blocks;
 
 public enum BlockExportFormat {
-  RLP
+  RLP,
+  ARCHIVE
 }
@@ -16,5 +16,6 @@ package org.hyperledger.besu.cli.subcommands.blocks;
 
 public enum BlockImportFormat {
   RLP,
-  JSON
+  JSON,
+  ARCHIVE
 }
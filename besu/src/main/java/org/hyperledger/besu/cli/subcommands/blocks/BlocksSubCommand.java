@@ -19,6 +19,7 @@ import static org.hyperledger.besu.cli.subcommands.blocks.BlocksSubCommand.COMMA
 import static org.hyperledger.besu.ethereum.core.MiningParameters.DEFAULT_REMOTE_SEALERS_LIMIT;
 import static org.hyperledger.besu.ethereum.core.MiningParameters.DEFAULT_REMOTE_SEALERS_TTL;
 
+import org.hyperledger.besu.chainexport.BlockArchiveExporter;
 import org.hyperledger.besu.chainexport.RlpBlockExporter;
 import org.hyperledger.besu.chainimport.JsonBlockImporter;
 import org.hyperledger.besu.chainimport.RlpBlockImporter;
@@ -154,6 +155,18 @@ public class BlocksSubCommand implements Runnable {
         description = "Skip proof of work validation when importing.")
     private final Boolean skipPow = false;
 
+    @Option(
+        names = "--import-receipts-enabled",
+        description =
+            "Append blocks from an ARCHIVE together with their stored receipts instead of executing them. No world state is built for the imported blocks.")
+    private final Boolean importReceipts = false;
+
+    @Option(
+        names = "--trusted-import-enabled",
+        description =
+            "Import ARCHIVE blocks and receipts without executing them, checking only header seals and the transactions, ommers and receipts roots. Blocks are written in large batches and no world state is built, restore it from a state backup.")
+    private final Boolean trustedImport = false;
+
     @Option(names = "--run", description = "Start besu after importing.")
     private final Boolean runBesu = false;
 
@@ -192,6 +205,14 @@ public class BlocksSubCommand implements Runnable {
         throw new ParameterException(
             spec.commandLine(), "Can't skip proof of work validation for JSON blocks");
       }
+      if (importReceipts && !format.equals(BlockImportFormat.ARCHIVE)) {
+        throw new ParameterException(
+            spec.commandLine(), "Receipts can only be imported from ARCHIVE block data");
+      }
+      if (trustedImport && !format.equals(BlockImportFormat.ARCHIVE)) {
+        throw new ParameterException(
+            spec.commandLine(), "Trusted import is only supported for ARCHIVE block data");
+      }
       LOG.info("Import {} block data from {} files", format, blockImportFiles.size());
       final Optional<MetricsService> metricsService = initMetrics(parentCommand);
 
@@ -206,6 +227,9 @@ public class BlocksSubCommand implements Runnable {
               case JSON:
                 importJsonBlocks(controller, path);
                 break;
+              case ARCHIVE:
+                importArchiveBlocks(controller, path);
+                break;
             }
           } catch (final FileNotFoundException e) {
             if (blockImportFiles.size() == 1) {
@@ -287,6 +311,16 @@ public class BlocksSubCommand implements Runnable {
           .get()
           .importBlockchain(path, controller, skipPow, startBlock, endBlock);
     }
+
+    private void importArchiveBlocks(final BesuController controller, final Path path)
+        throws IOException {
+      final RlpBlockImporter importer = parentCommand.rlpBlockImporter.get();
+      if (trustedImport) {
+        importer.importArchiveTrusted(path, controller, skipPow, startBlock, endBlock);
+      } else {
+        importer.importArchive(path, controller, skipPow, importReceipts, startBlock, endBlock);
+      }
+    }
   }
 
   /**
@@ -350,6 +384,8 @@ public class BlocksSubCommand implements Runnable {
       try {
         if (format == BlockExportFormat.RLP) {
           exportRlpFormat(controller);
+        } else if (format == BlockExportFormat.ARCHIVE) {
+          exportArchiveFormat(controller);
         } else {
           throw new ParameterException(
               spec.commandLine(), "Unsupported format: " + format.toString());
@@ -373,6 +409,12 @@ public class BlocksSubCommand implements Runnable {
       exporter.exportBlocks(blocksExportFile, getStartBlock(), getEndBlock());
     }
 
+    private void exportArchiveFormat(final BesuController controller) throws IOException {
+      final ProtocolContext context = controller.getProtocolContext();
+      final BlockArchiveExporter exporter = new BlockArchiveExporter(context.getBlockchain());
+      exporter.exportBlocks(blocksExportFile.toPath(), getStartBlock(), getEndBlock());
+    }
+
     private void checkCommand(
         final ExportSubCommand exportSubCommand, final Long startBlock, final Long endBlock) {
       checkNotNull(exportSubCommand.parentCommand);
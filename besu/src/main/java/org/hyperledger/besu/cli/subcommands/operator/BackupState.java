@@ -89,7 +89,6 @@ public class BackupState implements Runnable {
               BesuInfo.version(), blockchain, backupDir.toPath(), scheduler, worldStateStorage);
       final BackupStatus status = backup.requestBackup(targetBlock, compress, Optional.empty());
 
-      final double refValue = Math.pow(2, 256) / 100.0d;
       while (status.isBackingUp()) {
         if (status.getTargetBlockNum() != status.getStoredBlockNum()) {
           System.out.printf(
@@ -100,7 +99,7 @@ public class BackupState implements Runnable {
         } else {
           System.out.printf(
               "State Progress - %6.3f%% / %,d Accounts / %,d Storage Nodes%n",
-              status.getCurrentAccountBytes().toUnsignedBigInteger().doubleValue() / refValue,
+              status.getStateProgress() * 100.0d,
               status.getAccountCount(),
               status.getStorageCount());
         }
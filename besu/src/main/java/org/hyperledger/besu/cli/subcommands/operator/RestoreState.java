@@ -16,6 +16,7 @@
 
 package org.hyperledger.besu.cli.subcommands.operator;
 
+import static com.google.common.base.Preconditions.checkState;
 import static org.hyperledger.besu.cli.DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP;
 import static org.hyperledger.besu.ethereum.trie.CompactEncoding.bytesToPath;
 
@@ -32,7 +33,9 @@ import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPInput;
 import org.hyperledger.besu.ethereum.rlp.RLPInput;
+import org.hyperledger.besu.ethereum.trie.DefaultNodeFactory;
 import org.hyperledger.besu.ethereum.trie.Node;
+import org.hyperledger.besu.ethereum.trie.NullNode;
 import org.hyperledger.besu.ethereum.trie.PersistVisitor;
 import org.hyperledger.besu.ethereum.trie.RestoreVisitor;
 import org.hyperledger.besu.ethereum.worldstate.DefaultWorldStateArchive;
@@ -45,8 +48,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -73,14 +86,21 @@ public class RestoreState implements Runnable {
 
   @ParentCommand private OperatorSubCommand parentCommand;
 
-  private static final int TRIE_NODE_COMMIT_BATCH_SIZE = 100;
+  private static final int TRIE_NODE_COMMIT_BATCH_SIZE = 10_000;
 
   private long targetBlock;
   private long accountCount;
-  private long trieNodeCount;
+  private List<Long> accountPartitionCounts;
   private boolean compressed;
   private BesuController besuController;
-  private WorldStateStorage.Updater updater;
+
+  private final AtomicLong restoredAccountCount = new AtomicLong();
+  private final AtomicLong accountBranchCount = new AtomicLong();
+  private final AtomicLong accountExtensionCount = new AtomicLong();
+  private final AtomicLong accountLeafCount = new AtomicLong();
+  private final AtomicLong storageBranchCount = new AtomicLong();
+  private final AtomicLong storageExtensionCount = new AtomicLong();
+  private final AtomicLong storageLeafCount = new AtomicLong();
 
   private Path accountFileName(final int fileNumber, final boolean compressed) {
     return StateBackupService.accountFileName(backupDir, targetBlock, fileNumber, compressed);
@@ -108,6 +128,12 @@ public class RestoreState implements Runnable {
       compressed = manifest.get("compressed").asBoolean(false);
       targetBlock = manifest.get("targetBlock").asLong();
       accountCount = manifest.get("accountCount").asLong();
+      accountPartitionCounts = new ArrayList<>();
+      if (manifest.has("accountPartitionCounts")) {
+        manifest
+            .get("accountPartitionCounts")
+            .forEach(count -> accountPartitionCounts.add(count.asLong()));
+      }
       besuController = createBesuController();
 
       restoreBlocks();
@@ -158,22 +184,130 @@ public class RestoreState implements Runnable {
     LOG.info("Chain data loaded");
   }
 
-  @SuppressWarnings("UnusedVariable")
   private void restoreAccounts() throws IOException {
-    newWorldStateUpdater();
-    int storageBranchCount = 0;
-    int storageExtensionCount = 0;
-    int storageLeafCount = 0;
+    final Node<Bytes> root;
+    if (accountPartitionCounts.isEmpty()) {
+      // backups taken before accounts were partitioned hold the whole trie in one set of files
+      root = restoreAccountRange(this::accountFileName, accountCount, 0);
+    } else {
+      root = stitchPartitionRoots(restoreAccountPartitions());
+      final TrieNodeBatch batch = new TrieNodeBatch();
+      batch.add(updater -> updater.putAccountStateTrieNode(null, root.getHash(), root.getRlp()));
+      batch.flush();
+    }
+
+    final Hash expectedStateRoot =
+        besuController
+            .getProtocolContext()
+            .getBlockchain()
+            .getBlockHeader(targetBlock)
+            .orElseThrow()
+            .getStateRoot();
+    if (!expectedStateRoot.equals(root.getHash())) {
+      throw new IllegalStateException(
+          String.format(
+              "Restored world state root %s does not match the state root %s of block %d",
+              root.getHash(), expectedStateRoot, targetBlock));
+    }
+
+    LOG.info("Account BranchNodes: {} ", accountBranchCount);
+    LOG.info("Account ExtensionNodes: {} ", accountExtensionCount);
+    LOG.info("Account LeafNodes: {} ", accountLeafCount);
+    LOG.info("Storage BranchNodes: {} ", storageBranchCount);
+    LOG.info("Storage ExtensionNodes: {} ", storageExtensionCount);
+    LOG.info("Storage LeafNodes: {} ", storageLeafCount);
+    LOG.info("Account data loaded");
+  }
+
+  private List<Node<Bytes>> restoreAccountPartitions() throws IOException {
+    checkState(
+        accountPartitionCounts.size() == StateBackupService.ACCOUNT_PARTITIONS,
+        "Backup has %s account partitions, expected %s",
+        accountPartitionCounts.size(),
+        StateBackupService.ACCOUNT_PARTITIONS);
+
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(accountPartitionCounts.size(), Runtime.getRuntime().availableProcessors()),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(this.getClass().getSimpleName() + "-%d")
+                .build());
+    try {
+      final List<Future<Node<Bytes>>> partitions = new ArrayList<>();
+      for (int partition = 0; partition < accountPartitionCounts.size(); partition++) {
+        final int partitionToRestore = partition;
+        // each partition is the subtree below the root branch, so the first nibble is dropped
+        partitions.add(
+            executor.submit(
+                () ->
+                    restoreAccountRange(
+                        (fileNumber, compressed) ->
+                            StateBackupService.accountFileName(
+                                backupDir, targetBlock, partitionToRestore, fileNumber, compressed),
+                        accountPartitionCounts.get(partitionToRestore),
+                        1)));
+      }
+      final List<Node<Bytes>> partitionRoots = new ArrayList<>();
+      for (final Future<Node<Bytes>> partition : partitions) {
+        partitionRoots.add(partition.get());
+      }
+      return partitionRoots;
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while restoring account data", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 
+  private Node<Bytes> stitchPartitionRoots(final List<Node<Bytes>> partitionRoots) {
+    final ArrayList<Node<Bytes>> children = new ArrayList<>(partitionRoots);
+    final List<Integer> populated = new ArrayList<>();
+    for (int i = 0; i < children.size(); i++) {
+      if (!(children.get(i) instanceof NullNode)) {
+        populated.add(i);
+      }
+    }
+
+    if (populated.isEmpty()) {
+      return NullNode.instance();
+    } else if (populated.size() == 1) {
+      // a branch with a single child is collapsed into that child, extended by the branch nibble
+      final int index = populated.get(0);
+      final Node<Bytes> onlyChild = children.get(index);
+      return onlyChild.replacePath(Bytes.concatenate(Bytes.of(index), onlyChild.getPath()));
+    } else {
+      return new DefaultNodeFactory<Bytes>(Function.identity())
+          .createBranch(children, Optional.empty());
+    }
+  }
+
+  private Node<Bytes> restoreAccountRange(
+      final BiFunction<Integer, Boolean, Path> accountFileNames,
+      final long rangeAccountCount,
+      final int pathOffset)
+      throws IOException {
+    final TrieNodeBatch batch = new TrieNodeBatch();
     final PersistVisitor<Bytes> accountPersistVisitor =
-        new PersistVisitor<>(this::updateAccountState);
+        new PersistVisitor<>(
+            (key, value) ->
+                batch.add(updater -> updater.putAccountStateTrieNode(null, key, value)));
     Node<Bytes> root = accountPersistVisitor.initialRoot();
 
-    try (final RollingFileReader reader =
-        new RollingFileReader(this::accountFileName, compressed)) {
-      for (int i = 0; i < accountCount; i++) {
-        if (i % 100000 == 0) {
-          LOG.info("Loading account data {} / {}", i, accountCount);
+    try (final RollingFileReader reader = new RollingFileReader(accountFileNames, compressed)) {
+      for (long i = 0; i < rangeAccountCount; i++) {
+        final long restored = restoredAccountCount.incrementAndGet();
+        if (restored % 100000 == 0) {
+          LOG.info("Loading account data {} / {}", restored, accountCount);
         }
         final byte[] accountEntry = reader.readBytes();
         final BytesValueRLPInput accountInput =
@@ -192,16 +326,19 @@ public class RestoreState implements Runnable {
           throw new RuntimeException("Code hash doesn't match");
         }
         if (code.size() > 0) {
-          updateCode(code);
+          batch.add(updater -> updater.putCode(null, code));
         }
 
         final RestoreVisitor<Bytes> accountTrieWriteVisitor =
             new RestoreVisitor<>(t -> t, accountRlp, accountPersistVisitor);
 
-        root = root.accept(accountTrieWriteVisitor, bytesToPath(trieKey));
+        root = root.accept(accountTrieWriteVisitor, bytesToPath(trieKey).slice(pathOffset));
 
         final PersistVisitor<Bytes> storagePersistVisitor =
-            new PersistVisitor<>(this::updateAccountStorage);
+            new PersistVisitor<>(
+                (key, value) ->
+                    batch.add(
+                        updater -> updater.putAccountStorageTrieNode(null, null, key, value)));
         Node<Bytes> storageRoot = storagePersistVisitor.initialRoot();
 
         while (true) {
@@ -224,57 +361,49 @@ public class RestoreState implements Runnable {
           trieInput.leaveList();
         }
         storagePersistVisitor.persist(storageRoot);
-        storageBranchCount += storagePersistVisitor.getBranchNodeCount();
-        storageExtensionCount += storagePersistVisitor.getExtensionNodeCount();
-        storageLeafCount += storagePersistVisitor.getLeafNodeCount();
+        storageBranchCount.addAndGet(storagePersistVisitor.getBranchNodeCount());
+        storageExtensionCount.addAndGet(storagePersistVisitor.getExtensionNodeCount());
+        storageLeafCount.addAndGet(storagePersistVisitor.getLeafNodeCount());
 
         accountInput.leaveList();
       }
     }
     accountPersistVisitor.persist(root);
-    updater.commit();
-    LOG.info("Account BranchNodes: {} ", accountPersistVisitor.getBranchNodeCount());
-    LOG.info("Account ExtensionNodes: {} ", accountPersistVisitor.getExtensionNodeCount());
-    LOG.info("Account LeafNodes: {} ", accountPersistVisitor.getLeafNodeCount());
-    LOG.info("Storage BranchNodes: {} ", storageBranchCount);
-    LOG.info("Storage LeafNodes: {} ", storageExtensionCount);
-    LOG.info("Storage ExtensionNodes: {} ", storageLeafCount);
-    LOG.info("Account data loaded");
+    batch.flush();
+    accountBranchCount.addAndGet(accountPersistVisitor.getBranchNodeCount());
+    accountExtensionCount.addAndGet(accountPersistVisitor.getExtensionNodeCount());
+    accountLeafCount.addAndGet(accountPersistVisitor.getLeafNodeCount());
+    return root;
   }
 
-  private void newWorldStateUpdater() {
-    if (updater != null) {
-      updater.commit();
+  /**
+   * Buffers the trie nodes and code restored by one account range, writing them out in large
+   * batches. Batches are committed one at a time so ranges restored in parallel never hold
+   * concurrent transactions over the same (content addressed) keys.
+   */
+  private class TrieNodeBatch {
+    private final List<Consumer<WorldStateStorage.Updater>> pending = new ArrayList<>();
+
+    void add(final Consumer<WorldStateStorage.Updater> write) {
+      pending.add(write);
+      if (pending.size() >= TRIE_NODE_COMMIT_BATCH_SIZE) {
+        flush();
+      }
     }
-    final WorldStateStorage worldStateStorage =
-        ((DefaultWorldStateArchive) besuController.getProtocolContext().getWorldStateArchive())
-            .getWorldStateStorage();
-    updater = worldStateStorage.updater();
-  }
 
-  private void maybeCommitUpdater() {
-    if (trieNodeCount % TRIE_NODE_COMMIT_BATCH_SIZE == 0) {
-      newWorldStateUpdater();
+    void flush() {
+      synchronized (RestoreState.this) {
+        final WorldStateStorage.Updater updater = getWorldStateStorage().updater();
+        pending.forEach(write -> write.accept(updater));
+        updater.commit();
+      }
+      pending.clear();
     }
   }
 
-  private void updateCode(final Bytes code) {
-    maybeCommitUpdater();
-    updater.putCode(null, code);
-  }
-
-  private void updateAccountState(final Bytes32 key, final Bytes value) {
-    maybeCommitUpdater();
-    // restore by path not supported
-    updater.putAccountStateTrieNode(null, key, value);
-    trieNodeCount++;
-  }
-
-  private void updateAccountStorage(final Bytes32 key, final Bytes value) {
-    maybeCommitUpdater();
-    // restore by path not supported
-    updater.putAccountStorageTrieNode(null, null, key, value);
-    trieNodeCount++;
+  private WorldStateStorage getWorldStateStorage() {
+    return ((DefaultWorldStateArchive) besuController.getProtocolContext().getWorldStateArchive())
+        .getWorldStateStorage();
   }
 
   private BesuController createBesuController() {
@@ -30,6 +30,7 @@ import org.hyperledger.besu.ethereum.chain.BlockchainStorage;
 import org.hyperledger.besu.ethereum.chain.DefaultBlockchain;
 import org.hyperledger.besu.ethereum.chain.GenesisState;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.core.PrivacyParameters;
@@ -49,18 +50,22 @@ import org.hyperledger.besu.ethereum.eth.peervalidation.RequiredBlocksPeerValida
 import org.hyperledger.besu.ethereum.eth.sync.DefaultSynchronizer;
 import org.hyperledger.besu.ethereum.eth.sync.SyncMode;
 import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
+import org.hyperledger.besu.ethereum.eth.sync.fastsync.FastDownloaderFactory;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolFactory;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.p2p.config.SubProtocolConfiguration;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
 import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration;
 import org.hyperledger.besu.ethereum.worldstate.DataStorageFormat;
 import org.hyperledger.besu.ethereum.worldstate.DefaultWorldStateArchive;
 import org.hyperledger.besu.ethereum.worldstate.MarkSweepPruner;
+import org.hyperledger.besu.ethereum.worldstate.PipelinedWorldStateStorage;
 import org.hyperledger.besu.ethereum.worldstate.Pruner;
 import org.hyperledger.besu.ethereum.worldstate.PrunerConfiguration;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
@@ -98,7 +103,7 @@ public abstract class BesuControllerBuilder {
   protected NodeKey nodeKey;
   protected boolean isRevertReasonEnabled;
   GasLimitCalculator gasLimitCalculator;
-  private StorageProvider storageProvider;
+  protected StorageProvider storageProvider;
   private boolean isPruningEnabled;
   private PrunerConfiguration prunerConfiguration;
   Map<String, String> genesisConfigOverrides;
@@ -106,6 +111,7 @@ public abstract class BesuControllerBuilder {
   private long reorgLoggingThreshold;
   private DataStorageConfiguration dataStorageConfiguration =
       DataStorageConfiguration.DEFAULT_CONFIG;
+  private boolean evmProfilingEnabled = false;
 
   public BesuControllerBuilder storageProvider(final StorageProvider storageProvider) {
     this.storageProvider = storageProvider;
@@ -212,6 +218,11 @@ public abstract class BesuControllerBuilder {
     return this;
   }
 
+  public BesuControllerBuilder evmProfilingEnabled(final boolean evmProfilingEnabled) {
+    this.evmProfilingEnabled = evmProfilingEnabled;
+    return this;
+  }
+
   public BesuController build() {
     checkNotNull(genesisConfig, "Missing genesis config");
     checkNotNull(syncConfig, "Missing sync config");
@@ -233,6 +244,8 @@ public abstract class BesuControllerBuilder {
     final GenesisState genesisState = GenesisState.fromConfig(genesisConfig, protocolSchedule);
     final WorldStateStorage worldStateStorage =
         storageProvider.createWorldStateStorage(dataStorageConfiguration.getDataStorageFormat());
+    final WorldStateStorage blockImportWorldStateStorage =
+        createBlockImportWorldStateStorage(worldStateStorage);
 
     final BlockchainStorage blockchainStorage =
         storageProvider.createBlockchainStorage(protocolSchedule);
@@ -242,11 +255,18 @@ public abstract class BesuControllerBuilder {
             genesisState.getBlock(), blockchainStorage, metricsSystem, reorgLoggingThreshold);
 
     final WorldStateArchive worldStateArchive =
-        createWorldStateArchive(worldStateStorage, blockchain);
+        createWorldStateArchive(blockImportWorldStateStorage, blockchain);
     final ProtocolContext protocolContext =
         ProtocolContext.init(
-            blockchain, worldStateArchive, genesisState, this::createConsensusContext);
+            blockchain,
+            worldStateArchive,
+            genesisState,
+            this::createConsensusContext,
+            createBlockProcessingMetrics());
     validateContext(protocolContext);
+    if (blockImportWorldStateStorage instanceof PipelinedWorldStateStorage) {
+      rewindToLatestAvailableWorldState(blockchain, worldStateArchive);
+    }
 
     protocolSchedule.setPublicWorldStateArchiveForPrivacyBlockProcessor(
         protocolContext.getWorldStateArchive());
@@ -264,7 +284,7 @@ public abstract class BesuControllerBuilder {
             Optional.of(
                 new Pruner(
                     new MarkSweepPruner(
-                        ((DefaultWorldStateArchive) worldStateArchive).getWorldStateStorage(),
+                        worldStateStorage,
                         blockchain,
                         storageProvider.getStorageBySegmentIdentifier(
                             KeyValueSegmentIdentifier.PRUNING_STATE),
@@ -352,6 +372,10 @@ public abstract class BesuControllerBuilder {
         createAdditionalJsonRpcMethodFactory(protocolContext);
 
     final List<Closeable> closeables = new ArrayList<>();
+    if (blockImportWorldStateStorage instanceof PipelinedWorldStateStorage) {
+      // pending world state commits must be written before the storage is closed
+      closeables.add((PipelinedWorldStateStorage) blockImportWorldStateStorage);
+    }
     closeables.add(storageProvider);
     if (privacyParameters.getPrivateStorageProvider() != null) {
       closeables.add(privacyParameters.getPrivateStorageProvider());
@@ -377,6 +401,14 @@ public abstract class BesuControllerBuilder {
 
   protected void prepForBuild() {}
 
+  private BlockProcessingMetrics createBlockProcessingMetrics() {
+    final Optional<ProfilingOperationTracer> evmProfiler =
+        evmProfilingEnabled ? Optional.of(new ProfilingOperationTracer()) : Optional.empty();
+    evmProfiler.ifPresent(profiler -> profiler.registerMetrics(metricsSystem));
+    return new BlockProcessingMetrics(
+        metricsSystem, BlockProcessingMetrics.DEFAULT_SLOW_BLOCK_THRESHOLD, evmProfiler);
+  }
+
   protected JsonRpcMethods createAdditionalJsonRpcMethodFactory(
       final ProtocolContext protocolContext) {
     return apis -> Collections.emptyMap();
@@ -431,6 +463,62 @@ public abstract class BesuControllerBuilder {
         genesisConfig.getForks());
   }
 
+  /**
+   * Pipelined commits only apply to the world state archive used to import blocks. The fast sync
+   * world state downloader and the pruner keep writing to the storage directly, as they rely on
+   * their writes being persisted once committed.
+   */
+  private WorldStateStorage createBlockImportWorldStateStorage(
+      final WorldStateStorage worldStateStorage) {
+    final DataStorageFormat dataStorageFormat = dataStorageConfiguration.getDataStorageFormat();
+    final int stateCommitPipelineDepth = syncConfig.getStateCommitPipelineDepth();
+    if (stateCommitPipelineDepth <= 0) {
+      return worldStateStorage;
+    }
+    if (!dataStorageFormat.equals(DataStorageFormat.FOREST)) {
+      LOG.warn(
+          "Pipelined world state commits are only supported with the {} data storage format. Disabling.",
+          DataStorageFormat.FOREST);
+      return worldStateStorage;
+    }
+    return new PipelinedWorldStateStorage(worldStateStorage, stateCommitPipelineDepth);
+  }
+
+  /**
+   * With pipelined world state commits the chain head may be persisted ahead of its world state. If
+   * the node stopped before the pending commits were written, move the chain head back to the most
+   * recent block whose world state is available.
+   */
+  private void rewindToLatestAvailableWorldState(
+      final MutableBlockchain blockchain, final WorldStateArchive worldStateArchive) {
+    if (FastDownloaderFactory.isFastSyncInProgress(dataDirectory)) {
+      // the chain head is ahead of any world state until fast sync completes
+      return;
+    }
+    final long chainHead = blockchain.getChainHeadBlockNumber();
+    final long oldestCandidate =
+        Math.max(0, chainHead - syncConfig.getStateCommitPipelineDepth() - 1);
+    for (long blockNumber = chainHead; blockNumber >= oldestCandidate; blockNumber--) {
+      final Optional<BlockHeader> header = blockchain.getBlockHeader(blockNumber);
+      if (header.isPresent()
+          && worldStateArchive.isWorldStateAvailable(
+              header.get().getStateRoot(), header.get().getHash())) {
+        if (blockNumber < chainHead) {
+          LOG.warn(
+              "World state of chain head {} is not available, rewinding to block {}",
+              chainHead,
+              blockNumber);
+          blockchain.rewindToBlock(blockNumber);
+        }
+        return;
+      }
+    }
+    throw new IllegalStateException(
+        String.format(
+            "World state is not available for any of blocks %d to %d, the database may be corrupt. Resync to recover.",
+            oldestCandidate, chainHead));
+  }
+
   private WorldStateArchive createWorldStateArchive(
       final WorldStateStorage worldStateStorage, final Blockchain blockchain) {
     switch (dataStorageConfiguration.getDataStorageFormat()) {
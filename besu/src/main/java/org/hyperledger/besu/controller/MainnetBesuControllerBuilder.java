@@ -32,6 +32,8 @@ import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 public class MainnetBesuControllerBuilder extends BesuControllerBuilder {
 
+  private static final String ETHASH_DATASET_DIRECTORY = "ethash";
+
   private EpochCalculator epochCalculator = new EpochCalculator.DefaultEpochCalculator();
 
   @Override
@@ -55,6 +57,9 @@ public class MainnetBesuControllerBuilder extends BesuControllerBuilder {
                 clock),
             gasLimitCalculator,
             epochCalculator);
+    if (miningParameters.isEthHashFullDatasetEnabled()) {
+      executor.enableEthHashFullDataset(dataDirectory.resolve(ETHASH_DATASET_DIRECTORY));
+    }
 
     final PoWMiningCoordinator miningCoordinator =
         new PoWMiningCoordinator(
@@ -0,0 +1,176 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.chainexport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.chainimport.BlockArchiveIterator;
+import org.hyperledger.besu.chainimport.RlpBlockImporter;
+import org.hyperledger.besu.config.GenesisConfigFile;
+import org.hyperledger.besu.controller.BesuController;
+import org.hyperledger.besu.crypto.NodeKeyUtils;
+import org.hyperledger.besu.ethereum.blockcreation.GasLimitCalculator;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockWithReceipts;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider;
+import org.hyperledger.besu.ethereum.core.MiningParametersTestBuilder;
+import org.hyperledger.besu.ethereum.core.PrivacyParameters;
+import org.hyperledger.besu.ethereum.eth.EthProtocolConfiguration;
+import org.hyperledger.besu.ethereum.eth.sync.SynchronizerConfiguration;
+import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.testutil.BlockTestUtil;
+import org.hyperledger.besu.testutil.TestClock;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Tests for {@link BlockArchiveExporter}. */
+public final class BlockArchiveExporterTest {
+
+  @ClassRule public static final TemporaryFolder folder = new TemporaryFolder();
+  private static Blockchain blockchain;
+  private static long chainHead;
+  private static ProtocolSchedule protocolSchedule;
+
+  @BeforeClass
+  public static void setupBlockchain() throws IOException {
+    final BesuController controller = createController();
+    final Path blocks = folder.newFile("1000.blocks").toPath();
+    BlockTestUtil.write1000Blocks(blocks);
+    new RlpBlockImporter().importBlockchain(blocks, controller, false);
+    blockchain = controller.getProtocolContext().getBlockchain();
+    chainHead = blockchain.getChainHeadBlockNumber();
+    protocolSchedule = controller.getProtocolSchedule();
+  }
+
+  private static BesuController createController() throws IOException {
+    final Path dataDir = folder.newFolder().toPath();
+    return new BesuController.Builder()
+        .fromGenesisConfig(GenesisConfigFile.mainnet())
+        .synchronizerConfiguration(SynchronizerConfiguration.builder().build())
+        .ethProtocolConfiguration(EthProtocolConfiguration.defaultConfig())
+        .storageProvider(new InMemoryKeyValueStorageProvider())
+        .networkId(BigInteger.ONE)
+        .miningParameters(new MiningParametersTestBuilder().enabled(false).build())
+        .nodeKey(NodeKeyUtils.generate())
+        .metricsSystem(new NoOpMetricsSystem())
+        .privacyParameters(PrivacyParameters.DEFAULT)
+        .dataDirectory(dataDir)
+        .clock(TestClock.fixed())
+        .transactionPoolConfiguration(TransactionPoolConfiguration.DEFAULT)
+        .gasLimitCalculator(GasLimitCalculator.constant())
+        .build();
+  }
+
+  @Test
+  public void exportBlocks_noBounds() throws IOException {
+    final Path archiveDir = folder.newFolder().toPath();
+    new BlockArchiveExporter(blockchain, 4)
+        .exportBlocks(archiveDir, Optional.empty(), Optional.empty());
+
+    long currentBlockNumber = 0;
+    try (final BlockArchiveIterator iterator = getArchiveIterator(archiveDir, 0)) {
+      while (iterator.hasNext()) {
+        final BlockWithReceipts actual = iterator.next();
+        final Block expected = blockchain.getBlockByNumber(currentBlockNumber).orElseThrow();
+        assertThat(actual.getBlock()).isEqualTo(expected);
+        assertThat(actual.getReceipts())
+            .isEqualTo(blockchain.getTxReceipts(expected.getHash()).orElseThrow());
+        currentBlockNumber++;
+      }
+    }
+
+    // Check that we iterated to the end of the chain
+    assertThat(currentBlockNumber).isEqualTo(chainHead + 1L);
+  }
+
+  @Test
+  public void archiveIterator_seeksToStartBlock() throws IOException {
+    final Path archiveDir = folder.newFolder().toPath();
+    new BlockArchiveExporter(blockchain, 4)
+        .exportBlocks(archiveDir, Optional.of(100L), Optional.empty());
+
+    long currentBlockNumber = 750;
+    try (final BlockArchiveIterator iterator = getArchiveIterator(archiveDir, 750)) {
+      while (iterator.hasNext()) {
+        assertThat(iterator.next().getBlock())
+            .isEqualTo(blockchain.getBlockByNumber(currentBlockNumber).orElseThrow());
+        currentBlockNumber++;
+      }
+    }
+
+    assertThat(currentBlockNumber).isEqualTo(chainHead + 1L);
+  }
+
+  @Test
+  public void importArchive_withReceipts() throws IOException {
+    final Path archiveDir = folder.newFolder().toPath();
+    new BlockArchiveExporter(blockchain, 4)
+        .exportBlocks(archiveDir, Optional.empty(), Optional.empty());
+
+    final BesuController targetController = createController();
+    final RlpBlockImporter.ImportResult result =
+        new RlpBlockImporter()
+            .importArchive(archiveDir, targetController, false, true, 0L, Long.MAX_VALUE);
+
+    final Blockchain targetBlockchain = targetController.getProtocolContext().getBlockchain();
+    assertThat(result.td).isEqualTo(blockchain.getChainHead().getTotalDifficulty());
+    assertThat(targetBlockchain.getChainHeadHash()).isEqualTo(blockchain.getChainHeadHash());
+    assertThat(targetBlockchain.getTxReceipts(blockchain.getChainHeadHash()))
+        .isEqualTo(blockchain.getTxReceipts(blockchain.getChainHeadHash()));
+  }
+
+  @Test
+  public void importArchiveTrusted_inRanges() throws IOException {
+    final Path archiveDir = folder.newFolder().toPath();
+    new BlockArchiveExporter(blockchain, 4)
+        .exportBlocks(archiveDir, Optional.empty(), Optional.empty());
+
+    final BesuController targetController = createController();
+    final RlpBlockImporter importer = new RlpBlockImporter();
+    final Blockchain targetBlockchain = targetController.getProtocolContext().getBlockchain();
+    importer.importArchiveTrusted(archiveDir, targetController, false, 0L, 600L);
+    assertThat(targetBlockchain.getChainHeadBlockNumber()).isEqualTo(599L);
+
+    final RlpBlockImporter.ImportResult result =
+        importer.importArchiveTrusted(archiveDir, targetController, false, 0L, Long.MAX_VALUE);
+    assertThat(targetBlockchain.getChainHeadHash()).isEqualTo(blockchain.getChainHeadHash());
+    assertThat(result.td).isEqualTo(blockchain.getChainHead().getTotalDifficulty());
+    final Hash blockHash = blockchain.getBlockHashByNumber(750).orElseThrow();
+    assertThat(targetBlockchain.getTxReceipts(blockHash))
+        .isEqualTo(blockchain.getTxReceipts(blockHash));
+  }
+
+  private BlockArchiveIterator getArchiveIterator(final Path archiveDir, final long startBlock)
+      throws IOException {
+    return new BlockArchiveIterator(
+        archiveDir,
+        ScheduleBasedBlockHeaderFunctions.create(protocolSchedule),
+        startBlock,
+        Long.MAX_VALUE);
+  }
+}
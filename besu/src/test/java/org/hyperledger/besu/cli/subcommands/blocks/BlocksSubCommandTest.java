@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -58,19 +59,25 @@ public class BlocksSubCommandTest extends CommandTestAbstract {
           + System.lineSeparator();
 
   private static final String EXPECTED_BLOCK_IMPORT_USAGE =
-      "Usage: besu blocks import [-hV] [--run] [--skip-pow-validation-enabled]\n"
-          + "                          [--end-block=<LONG>] [--format=<format>]\n"
-          + "                          [--start-block=<LONG>] [--start-time=<startTime>]\n"
-          + "                          [--from[=<FILE>...]]... [<FILE>...]\n"
+      "Usage: besu blocks import [-hV] [--import-receipts-enabled] [--run]\n"
+          + "                          [--skip-pow-validation-enabled]\n"
+          + "                          [--trusted-import-enabled] [--end-block=<LONG>]\n"
+          + "                          [--format=<format>] [--start-block=<LONG>]\n"
+          + "                          [--start-time=<startTime>] [--from[=<FILE>...]]...\n"
+          + "                          [<FILE>...]\n"
           + "This command imports blocks from a file into the database.\n"
           + "      [<FILE>...]            Files containing blocks to import.\n"
           + "      --end-block=<LONG>     The ending index of the block list to import\n"
           + "                               (exclusive).  If not specified all blocks after\n"
           + "                               the start block will be imported.\n"
           + "      --format=<format>      The type of data to be imported, possible values\n"
-          + "                               are: RLP, JSON (default: RLP).\n"
+          + "                               are: RLP, JSON, ARCHIVE (default: RLP).\n"
           + "      --from[=<FILE>...]     File containing blocks to import.\n"
           + "  -h, --help                 Show this help message and exit.\n"
+          + "      --import-receipts-enabled\n"
+          + "                             Append blocks from an ARCHIVE together with their\n"
+          + "                               stored receipts instead of executing them. No\n"
+          + "                               world state is built for the imported blocks.\n"
           + "      --run                  Start besu after importing.\n"
           + "      --skip-pow-validation-enabled\n"
           + "                             Skip proof of work validation when importing.\n"
@@ -81,6 +88,12 @@ public class BlocksSubCommandTest extends CommandTestAbstract {
           + "                             The timestamp in seconds of the first block for\n"
           + "                               JSON imports. Subsequent blocks will be 1 second\n"
           + "                               later. (default: current time)\n"
+          + "      --trusted-import-enabled\n"
+          + "                             Import ARCHIVE blocks and receipts without\n"
+          + "                               executing them, checking only header seals and\n"
+          + "                               the transactions, ommers and receipts roots.\n"
+          + "                               Blocks are written in large batches and no world\n"
+          + "                               state is built, restore it from a state backup.\n"
           + "  -V, --version              Print version information and exit.\n";
 
   private static final String EXPECTED_BLOCK_EXPORT_USAGE =
@@ -249,6 +262,68 @@ public class BlocksSubCommandTest extends CommandTestAbstract {
     assertThat(stringArgumentCaptor.getValue()).isEqualTo(fileContent);
   }
 
+  @Test
+  public void blocksImport_archiveFormatWithReceipts() throws Exception {
+    final File archiveToImport = temp.newFolder("archive");
+    parseCommand(
+        BLOCK_SUBCOMMAND_NAME,
+        BLOCK_IMPORT_SUBCOMMAND_NAME,
+        "--format",
+        "ARCHIVE",
+        "--import-receipts-enabled",
+        "--start-block",
+        "500",
+        "--from",
+        archiveToImport.getPath());
+
+    verify(rlpBlockImporter)
+        .importArchive(
+            pathArgumentCaptor.capture(), any(), eq(false), eq(true), eq(500L), anyLong());
+
+    assertThat(pathArgumentCaptor.getValue()).isEqualByComparingTo(archiveToImport.toPath());
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void blocksImport_archiveFormatTrusted() throws Exception {
+    final File archiveToImport = temp.newFolder("archive");
+    parseCommand(
+        BLOCK_SUBCOMMAND_NAME,
+        BLOCK_IMPORT_SUBCOMMAND_NAME,
+        "--format",
+        "ARCHIVE",
+        "--trusted-import-enabled",
+        "--from",
+        archiveToImport.getPath());
+
+    verify(rlpBlockImporter)
+        .importArchiveTrusted(
+            pathArgumentCaptor.capture(), any(), eq(false), eq(0L), eq(Long.MAX_VALUE));
+    verify(rlpBlockImporter, never())
+        .importArchive(any(), any(), anyBoolean(), anyBoolean(), anyLong(), anyLong());
+
+    assertThat(pathArgumentCaptor.getValue()).isEqualByComparingTo(archiveToImport.toPath());
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+  }
+
+  @Test
+  public void callingBlockImportSubCommandWithRLPAndImportReceiptsFails() {
+    parseCommand(
+        BLOCK_SUBCOMMAND_NAME,
+        BLOCK_IMPORT_SUBCOMMAND_NAME,
+        "--format",
+        "RLP",
+        "--import-receipts-enabled",
+        "blocks.file");
+    final String expectedErrorOutputStart = "Receipts can only be imported";
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).startsWith(expectedErrorOutputStart);
+  }
+
   // Export sub-sub-command
   @Test
   public void blocksExport_missingFileParam() throws IOException {
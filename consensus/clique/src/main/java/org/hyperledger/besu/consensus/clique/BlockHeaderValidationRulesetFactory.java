@@ -17,6 +17,7 @@ package org.hyperledger.besu.consensus.clique;
 import org.hyperledger.besu.config.experimental.ExperimentalEIPs;
 import org.hyperledger.besu.consensus.clique.headervalidationrules.CliqueDifficultyValidationRule;
 import org.hyperledger.besu.consensus.clique.headervalidationrules.CliqueExtraDataValidationRule;
+import org.hyperledger.besu.consensus.clique.headervalidationrules.CliqueProposerSealValidationRule;
 import org.hyperledger.besu.consensus.clique.headervalidationrules.CoinbaseHeaderValidationRule;
 import org.hyperledger.besu.consensus.clique.headervalidationrules.SignerRateLimitValidationRule;
 import org.hyperledger.besu.consensus.clique.headervalidationrules.VoteValidationRule;
@@ -64,6 +65,7 @@ public class BlockHeaderValidationRulesetFactory {
             .addRule(
                 new ConstantFieldValidationRule<>(
                     "OmmersHash", BlockHeader::getOmmersHash, Hash.EMPTY_LIST_HASH))
+            .addRule(new CliqueProposerSealValidationRule())
             .addRule(new CliqueExtraDataValidationRule(epochManager))
             .addRule(new VoteValidationRule())
             .addRule(new CliqueDifficultyValidationRule())
@@ -23,9 +23,19 @@ import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 
 import java.util.function.Supplier;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.tuweni.bytes.Bytes;
 
 public class CliqueBlockHashing {
+
+  private static final int PROPOSER_CACHE_SIZE = 10_000;
+
+  // Headers are decoded afresh from storage and the network, so the proposer is cached by header
+  // hash to share it between header validation, vote counting and queries.
+  private static final Cache<Hash, Address> PROPOSER_CACHE =
+      CacheBuilder.newBuilder().maximumSize(PROPOSER_CACHE_SIZE).build();
+
   /**
    * Constructs a hash of the block header, suitable for use when creating the proposer seal. The
    * extra data is modified to have a null proposer seal and empty list of committed seals.
@@ -57,8 +67,17 @@ public class CliqueBlockHashing {
       throw new IllegalArgumentException(
           "Supplied cliqueExtraData does not include a proposer " + "seal");
     }
+    final Address cachedProposer = PROPOSER_CACHE.getIfPresent(header.getHash());
+    if (cachedProposer != null) {
+      return cachedProposer;
+    }
     final Hash proposerHash = calculateDataHashForProposerSeal(header, cliqueExtraData);
-    return Util.signatureToAddress(cliqueExtraData.getProposerSeal().get(), proposerHash);
+    final Address proposer =
+        Util.signatureToAddress(cliqueExtraData.getProposerSeal().get(), proposerHash);
+    if (proposer != null) {
+      PROPOSER_CACHE.put(header.getHash(), proposer);
+    }
+    return proposer;
   }
 
   private static Bytes serializeHeaderWithoutProposerSeal(
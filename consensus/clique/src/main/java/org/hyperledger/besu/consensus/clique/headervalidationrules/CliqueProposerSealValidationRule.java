@@ -0,0 +1,59 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.clique.headervalidationrules;
+
+import org.hyperledger.besu.consensus.clique.CliqueExtraData;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.mainnet.DetachedBlockHeaderValidationRule;
+import org.hyperledger.besu.ethereum.rlp.RLPException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Ensures a proposer can be recovered from the proposer seal in the header's extra data.
+ *
+ * <p>This rule does not need the parent's validator set, so it is applied while downloaded header
+ * ranges are validated in parallel; the recovered proposer is cached for the attached rules which
+ * check it against the signers once the header is imported.
+ */
+public class CliqueProposerSealValidationRule implements DetachedBlockHeaderValidationRule {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  @Override
+  public boolean validate(final BlockHeader header, final BlockHeader parent) {
+    try {
+      if (CliqueExtraData.decode(header).getProposerAddress() == null) {
+        LOG.info("Invalid block header: Unable to recover proposer from the proposer seal.");
+        return false;
+      }
+      return true;
+    } catch (final RLPException ex) {
+      LOG.info(
+          "Invalid block header: ExtraData field was unable to be deserialised into an Clique Struct.",
+          ex);
+      return false;
+    } catch (final IllegalArgumentException ex) {
+      LOG.info("Invalid block header: Failed to recover proposer from extra data", ex);
+      return false;
+    }
+  }
+
+  @Override
+  public boolean includeInLightValidation() {
+    return false;
+  }
+}
@@ -71,11 +71,17 @@ public class CliqueJsonRpcMethods extends ApiGroupJsonRpcMethods {
 
   private VoteTallyCache createVoteTallyCache(
       final ProtocolContext context, final MutableBlockchain blockchain) {
-    final EpochManager epochManager =
-        context.getConsensusState(CliqueContext.class).getEpochManager();
+    final CliqueContext cliqueContext = context.getConsensusState(CliqueContext.class);
+    final EpochManager epochManager = cliqueContext.getEpochManager();
     final CliqueBlockInterface cliqueBlockInterface = new CliqueBlockInterface();
     final VoteTallyUpdater voteTallyUpdater =
         new VoteTallyUpdater(epochManager, cliqueBlockInterface);
-    return new VoteTallyCache(blockchain, voteTallyUpdater, epochManager, cliqueBlockInterface);
+    // Snapshots are keyed by block hash so are safe to share with the main voteTallyCache
+    return new VoteTallyCache(
+        blockchain,
+        voteTallyUpdater,
+        epochManager,
+        cliqueBlockInterface,
+        cliqueContext.getVoteTallyCache().getSnapshotStorage());
   }
 }
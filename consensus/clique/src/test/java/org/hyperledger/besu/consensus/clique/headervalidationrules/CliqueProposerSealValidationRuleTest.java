@@ -0,0 +1,75 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.clique.headervalidationrules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.consensus.clique.CliqueExtraData;
+import org.hyperledger.besu.consensus.clique.TestHelpers;
+import org.hyperledger.besu.crypto.KeyPair;
+import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+
+import java.util.Collections;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class CliqueProposerSealValidationRuleTest {
+
+  private final CliqueProposerSealValidationRule rule = new CliqueProposerSealValidationRule();
+
+  @Test
+  public void signedHeaderPassesValidation() {
+    final KeyPair proposerKeyPair = SignatureAlgorithmFactory.getInstance().generateKeyPair();
+    final BlockHeaderTestFixture headerBuilder = new BlockHeaderTestFixture();
+    final BlockHeader parent = headerBuilder.number(1).buildHeader();
+    headerBuilder.number(2);
+    final BlockHeader child =
+        TestHelpers.createCliqueSignedBlockHeader(
+            headerBuilder, proposerKeyPair, Collections.emptyList());
+
+    assertThat(rule.validate(child, parent)).isTrue();
+  }
+
+  @Test
+  public void missingProposerSealFailsValidation() {
+    final Bytes extraData =
+        CliqueExtraData.createWithoutProposerSeal(
+            Bytes.wrap(new byte[32]), Collections.emptyList());
+
+    final BlockHeaderTestFixture headerBuilder = new BlockHeaderTestFixture();
+    final BlockHeader parent = headerBuilder.number(1).buildHeader();
+    final BlockHeader child = headerBuilder.number(2).extraData(extraData).buildHeader();
+
+    assertThat(rule.validate(child, parent)).isFalse();
+  }
+
+  @Test
+  public void undecodableExtraDataFailsValidation() {
+    final BlockHeaderTestFixture headerBuilder = new BlockHeaderTestFixture();
+    final BlockHeader parent = headerBuilder.number(1).buildHeader();
+    final BlockHeader child =
+        headerBuilder.number(2).extraData(Bytes.wrap(new byte[10])).buildHeader();
+
+    assertThat(rule.validate(child, parent)).isFalse();
+  }
+
+  @Test
+  public void isNotAppliedDuringLightValidation() {
+    assertThat(rule.includeInLightValidation()).isFalse();
+  }
+}
@@ -15,11 +15,14 @@
 package org.hyperledger.besu.consensus.common;
 
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 public class BftValidatorOverrides {
 
@@ -32,4 +35,23 @@ public class BftValidatorOverrides {
   public Optional<Collection<Address>> getForBlock(final long blockNumber) {
     return Optional.ofNullable(overriddenValidators.get(blockNumber));
   }
+
+  /**
+   * Identifies the overrides, so that state derived from them can be discarded when they change.
+   *
+   * @return a hash of the overridden validators, ordered by block number
+   */
+  public Hash fingerprint() {
+    return Hash.hash(
+        RLP.encode(
+            out ->
+                out.writeList(
+                    new TreeMap<>(overriddenValidators).entrySet(),
+                    (override, rlp) -> {
+                      rlp.startList();
+                      rlp.writeLongScalar(override.getKey());
+                      rlp.writeList(override.getValue(), (validator, v) -> v.writeBytes(validator));
+                      rlp.endList();
+                    })));
+  }
 }
@@ -19,6 +19,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 
+import java.util.Optional;
+
 public class ForkingVoteTallyCache extends VoteTallyCache {
 
   private final BftValidatorOverrides validatorOverrides;
@@ -29,9 +31,28 @@ public class ForkingVoteTallyCache extends VoteTallyCache {
       final EpochManager epochManager,
       final BlockInterface blockInterface,
       final BftValidatorOverrides validatorOverrides) {
-    super(blockchain, voteTallyUpdater, epochManager, blockInterface);
+    this(
+        blockchain,
+        voteTallyUpdater,
+        epochManager,
+        blockInterface,
+        validatorOverrides,
+        Optional.empty());
+  }
+
+  public ForkingVoteTallyCache(
+      final Blockchain blockchain,
+      final VoteTallyUpdater voteTallyUpdater,
+      final EpochManager epochManager,
+      final BlockInterface blockInterface,
+      final BftValidatorOverrides validatorOverrides,
+      final Optional<VoteTallySnapshotStorage> snapshotStorage) {
+    super(blockchain, voteTallyUpdater, epochManager, blockInterface, snapshotStorage);
     checkNotNull(validatorOverrides);
     this.validatorOverrides = validatorOverrides;
+    // Persisted snapshots include the overrides in force when they were taken.
+    snapshotStorage.ifPresent(
+        storage -> storage.clearIfFingerprintChanged(validatorOverrides.fingerprint()));
   }
 
   @Override
@@ -15,11 +15,14 @@
 package org.hyperledger.besu.consensus.common;
 
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+import org.hyperledger.besu.ethereum.rlp.RLPOutput;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Optional;
@@ -129,4 +132,46 @@ public class VoteTally implements ValidatorProvider {
     return new VoteTally(
         new TreeSet<>(this.currentValidators), addVotesBySubject, removeVotesBySubject);
   }
+
+  public void writeTo(final RLPOutput out) {
+    out.startList();
+    out.writeList(currentValidators, (validator, rlp) -> rlp.writeBytes(validator));
+    writeVotes(out, addVotesBySubject);
+    writeVotes(out, removeVotesBySubject);
+    out.endList();
+  }
+
+  public static VoteTally readFrom(final RLPInput in) {
+    in.enterList();
+    final List<Address> validators = in.readList(Address::readFrom);
+    final Map<Address, Set<Address>> addVotesBySubject = readVotes(in);
+    final Map<Address, Set<Address>> removeVotesBySubject = readVotes(in);
+    in.leaveList();
+    return new VoteTally(validators, addVotesBySubject, removeVotesBySubject);
+  }
+
+  private static void writeVotes(
+      final RLPOutput out, final Map<Address, Set<Address>> votesBySubject) {
+    out.writeList(
+        votesBySubject.entrySet(),
+        (entry, rlp) -> {
+          rlp.startList();
+          rlp.writeBytes(entry.getKey());
+          rlp.writeList(entry.getValue(), (voter, voterRlp) -> voterRlp.writeBytes(voter));
+          rlp.endList();
+        });
+  }
+
+  private static Map<Address, Set<Address>> readVotes(final RLPInput in) {
+    final Map<Address, Set<Address>> votesBySubject = new HashMap<>();
+    in.enterList();
+    while (!in.isEndOfCurrentList()) {
+      in.enterList();
+      final Address subject = Address.readFrom(in);
+      votesBySubject.put(subject, new HashSet<>(in.readList(Address::readFrom)));
+      in.leaveList();
+    }
+    in.leaveList();
+    return votesBySubject;
+  }
 }
@@ -23,6 +23,7 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 
 import com.google.common.cache.Cache;
@@ -30,28 +31,46 @@ import com.google.common.cache.CacheBuilder;
 
 public class VoteTallyCache {
 
+  private static final int CACHE_SIZE = 1_000;
+
   private final Blockchain blockchain;
   private final EpochManager epochManager;
   private final VoteTallyUpdater voteTallyUpdater;
 
   private final Cache<Hash, VoteTally> voteTallyCache =
-      CacheBuilder.newBuilder().maximumSize(100).build();
+      CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
   private final BlockInterface blockInterface;
+  private final Optional<VoteTallySnapshotStorage> snapshotStorage;
 
   public VoteTallyCache(
       final Blockchain blockchain,
       final VoteTallyUpdater voteTallyUpdater,
       final EpochManager epochManager,
       final BlockInterface blockInterface) {
+    this(blockchain, voteTallyUpdater, epochManager, blockInterface, Optional.empty());
+  }
+
+  public VoteTallyCache(
+      final Blockchain blockchain,
+      final VoteTallyUpdater voteTallyUpdater,
+      final EpochManager epochManager,
+      final BlockInterface blockInterface,
+      final Optional<VoteTallySnapshotStorage> snapshotStorage) {
 
     checkNotNull(blockchain);
     checkNotNull(voteTallyUpdater);
     checkNotNull(epochManager);
     checkNotNull(blockInterface);
+    checkNotNull(snapshotStorage);
     this.blockchain = blockchain;
     this.voteTallyUpdater = voteTallyUpdater;
     this.epochManager = epochManager;
     this.blockInterface = blockInterface;
+    this.snapshotStorage = snapshotStorage;
+  }
+
+  public Optional<VoteTallySnapshotStorage> getSnapshotStorage() {
+    return snapshotStorage;
   }
 
   public VoteTally getVoteTallyAtHead() {
@@ -60,10 +79,10 @@ public class VoteTallyCache {
 
   /**
    * Determines the VoteTally for a given block header, by back-tracing the blockchain to a
-   * previously cached value or epoch block. Then appyling votes in each intermediate header such
-   * that representative state can be provided. This function assumes the vote cast in {@code
-   * header} is applied, thus the voteTally returned contains the group of validators who are
-   * permitted to partake in the next block's creation.
+   * previously cached value, persisted snapshot or epoch block. Then appyling votes in each
+   * intermediate header such that representative state can be provided. This function assumes the
+   * vote cast in {@code header} is applied, thus the voteTally returned contains the group of
+   * validators who are permitted to partake in the next block's creation.
    *
    * @param header the header of the block after which the VoteTally is to be returned
    * @return The Vote Tally (and therefore validators) following the application of all votes upto
@@ -78,6 +97,11 @@ public class VoteTallyCache {
   }
 
   private VoteTally populateCacheUptoAndIncluding(final BlockHeader start) {
+    final Optional<VoteTally> snapshot = getSnapshot(start.getNumber(), start.getHash());
+    if (snapshot.isPresent()) {
+      return snapshot.get();
+    }
+
     BlockHeader header = start;
     final Deque<BlockHeader> intermediateBlocks = new ArrayDeque<>();
     VoteTally voteTally = null;
@@ -105,7 +129,17 @@ public class VoteTallyCache {
       return new VoteTally(blockInterface.validatorsInBlock(header));
     }
 
-    return voteTallyCache.getIfPresent(header.getParentHash());
+    final VoteTally parentVoteTally = voteTallyCache.getIfPresent(header.getParentHash());
+    if (parentVoteTally != null) {
+      return parentVoteTally;
+    }
+    return getSnapshot(header.getNumber() - 1, header.getParentHash()).orElse(null);
+  }
+
+  private Optional<VoteTally> getSnapshot(final long blockNumber, final Hash blockHash) {
+    return snapshotStorage
+        .filter(storage -> storage.isSnapshotBlock(blockNumber))
+        .flatMap(storage -> storage.get(blockHash));
   }
 
   private VoteTally constructMissingCacheEntries(
@@ -115,6 +149,11 @@ public class VoteTallyCache {
       final BlockHeader h = headers.pop();
       voteTallyUpdater.updateForBlock(h, mutableVoteTally);
       voteTallyCache.put(h.getHash(), mutableVoteTally.copy());
+      if (!epochManager.isEpochBlock(h.getNumber())) {
+        snapshotStorage
+            .filter(storage -> storage.isSnapshotBlock(h.getNumber()))
+            .ifPresent(storage -> storage.put(h.getHash(), mutableVoteTally));
+      }
     }
     return mutableVoteTally;
   }
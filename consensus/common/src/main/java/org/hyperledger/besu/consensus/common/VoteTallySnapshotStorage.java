@@ -0,0 +1,86 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Persists the VoteTally following every {@code snapshotInterval}th block, keyed by block hash, so
+ * a VoteTally can be rebuilt from the nearest snapshot rather than the last epoch block.
+ */
+public class VoteTallySnapshotStorage {
+
+  public static final long DEFAULT_SNAPSHOT_INTERVAL = 1_024;
+
+  // Not 32 bytes long, so it cannot clash with the block hash of a snapshot.
+  private static final byte[] FINGERPRINT_KEY = "fingerprint".getBytes(StandardCharsets.UTF_8);
+
+  private final KeyValueStorage storage;
+  private final long snapshotInterval;
+
+  public VoteTallySnapshotStorage(final KeyValueStorage storage) {
+    this(storage, DEFAULT_SNAPSHOT_INTERVAL);
+  }
+
+  public VoteTallySnapshotStorage(final KeyValueStorage storage, final long snapshotInterval) {
+    checkArgument(snapshotInterval > 0, "Snapshot interval must be positive");
+    this.storage = storage;
+    this.snapshotInterval = snapshotInterval;
+  }
+
+  public boolean isSnapshotBlock(final long blockNumber) {
+    return blockNumber > 0 && blockNumber % snapshotInterval == 0;
+  }
+
+  public Optional<VoteTally> get(final Hash blockHash) {
+    return storage
+        .get(blockHash.toArrayUnsafe())
+        .map(value -> VoteTally.readFrom(RLP.input(Bytes.wrap(value))));
+  }
+
+  public void put(final Hash blockHash, final VoteTally voteTally) {
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    transaction.put(blockHash.toArrayUnsafe(), RLP.encode(voteTally::writeTo).toArrayUnsafe());
+    transaction.commit();
+  }
+
+  /**
+   * Discards every snapshot unless they were taken with the configuration identified by {@code
+   * fingerprint}, then records that fingerprint for the snapshots taken from now on.
+   *
+   * @param fingerprint identifies the configuration the snapshots are derived from
+   */
+  public void clearIfFingerprintChanged(final Bytes fingerprint) {
+    final boolean unchanged =
+        storage.get(FINGERPRINT_KEY).map(Bytes::wrap).filter(fingerprint::equals).isPresent();
+    if (unchanged) {
+      return;
+    }
+    storage.clear();
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    transaction.put(FINGERPRINT_KEY, fingerprint.toArrayUnsafe());
+    transaction.commit();
+  }
+}
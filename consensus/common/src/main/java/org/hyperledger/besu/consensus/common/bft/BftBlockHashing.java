@@ -21,14 +21,25 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Util;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.tuweni.bytes.Bytes;
 
 public class BftBlockHashing {
 
+  private static final int COMMITTERS_CACHE_SIZE = 10_000;
+
+  // Headers are decoded afresh from storage and the network, so committers are cached to share
+  // them between header validation and queries. The header hash excludes the committed seals and
+  // round number, so the hash of the extra data is part of the key.
+  private static final Cache<Bytes, List<Address>> COMMITTERS_CACHE =
+      CacheBuilder.newBuilder().maximumSize(COMMITTERS_CACHE_SIZE).build();
+
   /**
    * Constructs a hash of the block header suitable for signing as a committed seal. The extra data
    * in the hash uses an empty list for the committed seals.
@@ -70,12 +81,24 @@ public class BftBlockHashing {
    */
   public static List<Address> recoverCommitterAddresses(
       final BlockHeader header, final BftExtraData bftExtraData) {
+    final Bytes cacheKey = Bytes.concatenate(header.getHash(), Hash.hash(header.getExtraData()));
+    final List<Address> cachedCommitters = COMMITTERS_CACHE.getIfPresent(cacheKey);
+    if (cachedCommitters != null) {
+      return cachedCommitters;
+    }
+
     final Hash committerHash =
         BftBlockHashing.calculateDataHashForCommittedSeal(header, bftExtraData);
 
-    return bftExtraData.getSeals().stream()
-        .map(p -> Util.signatureToAddress(p, committerHash))
-        .collect(Collectors.toList());
+    final List<Address> committers =
+        Collections.unmodifiableList(
+            bftExtraData.getSeals().stream()
+                .map(p -> Util.signatureToAddress(p, committerHash))
+                .collect(Collectors.toList()));
+    if (!committers.contains(null)) {
+      COMMITTERS_CACHE.put(cacheKey, committers);
+    }
+    return committers;
   }
 
   private static Bytes serializeHeader(
@@ -0,0 +1,56 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common.bft.headervalidationrules;
+
+import org.hyperledger.besu.consensus.common.bft.BftBlockHashing;
+import org.hyperledger.besu.consensus.common.bft.BftExtraData;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.mainnet.DetachedBlockHeaderValidationRule;
+import org.hyperledger.besu.ethereum.rlp.RLPException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Ensures a committer can be recovered from every commit seal in the block header.
+ *
+ * <p>This rule does not need the parent's validator set, so it is applied while downloaded header
+ * ranges are validated in parallel; the recovered committers are cached for {@link
+ * BftCommitSealsValidationRule} which checks them against the validators on import.
+ */
+public class BftCommitSealSignaturesValidationRule implements DetachedBlockHeaderValidationRule {
+
+  private static final Logger LOGGER = LogManager.getLogger();
+
+  @Override
+  public boolean validate(final BlockHeader header, final BlockHeader parent) {
+    try {
+      final BftExtraData bftExtraData = BftExtraData.decode(header);
+      if (BftBlockHashing.recoverCommitterAddresses(header, bftExtraData).contains(null)) {
+        LOGGER.info("Invalid block header: Unable to recover committer from commit seal.");
+        return false;
+      }
+      return true;
+    } catch (final RLPException | IllegalArgumentException ex) {
+      LOGGER.info("Invalid block header: Failed to recover committers from extra data", ex);
+      return false;
+    }
+  }
+
+  @Override
+  public boolean includeInLightValidation() {
+    return false;
+  }
+}
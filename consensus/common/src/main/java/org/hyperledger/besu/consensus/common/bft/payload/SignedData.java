@@ -24,10 +24,20 @@ import org.hyperledger.besu.ethereum.rlp.RLPOutput;
 import java.util.Objects;
 import java.util.StringJoiner;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.tuweni.bytes.Bytes;
 
 public class SignedData<M extends Payload> implements Authored {
 
+  private static final int AUTHOR_CACHE_SIZE = 10_000;
+
+  // The same signed payload is decoded several times, e.g. when buffered for a future height or
+  // when embedded in round change and prepared certificates, so authors are cached by message hash
+  // and signature.
+  private static final Cache<Bytes, Address> AUTHOR_CACHE =
+      CacheBuilder.newBuilder().maximumSize(AUTHOR_CACHE_SIZE).build();
+
   private final Address sender;
   private final SECPSignature signature;
   private final M unsignedPayload;
@@ -35,7 +45,20 @@ public class SignedData<M extends Payload> implements Authored {
   public static <T extends Payload> SignedData<T> create(
       final T payload, final SECPSignature signature) {
     final Hash msgHash = payload.hashForSignature();
-    return new SignedData<>(payload, Util.signatureToAddress(signature, msgHash), signature);
+    return new SignedData<>(payload, recoverAuthor(msgHash, signature), signature);
+  }
+
+  private static Address recoverAuthor(final Hash msgHash, final SECPSignature signature) {
+    final Bytes key = Bytes.concatenate(msgHash, signature.encodedBytes());
+    final Address cachedAuthor = AUTHOR_CACHE.getIfPresent(key);
+    if (cachedAuthor != null) {
+      return cachedAuthor;
+    }
+    final Address author = Util.signatureToAddress(signature, msgHash);
+    if (author != null) {
+      AUTHOR_CACHE.put(key, author);
+    }
+    return author;
   }
 
   private SignedData(final M unsignedPayload, final Address sender, final SECPSignature signature) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common.bft.protocol;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Decodes received BFT messages on a pool of threads before they are handed to the BftProcessor, so
+ * the signatures they carry are recovered in parallel and the processor finds their authors already
+ * cached. Messages are still handed on in the order they were received.
+ */
+public class BftMessagePreVerifier {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Duration shutdownTimeout = Duration.ofSeconds(30);
+  private final Consumer<MessageData> messageDecoder;
+  private final ExecutorService executor;
+
+  private CompletableFuture<Void> previousMessageHandled = CompletableFuture.completedFuture(null);
+
+  /**
+   * Constructor for the pre-verifier
+   *
+   * @param messageDecoder Decodes a message of the supported protocol, recovering the authors of
+   *     its signed payloads
+   * @param executor The threads on which messages are decoded
+   */
+  public BftMessagePreVerifier(
+      final Consumer<MessageData> messageDecoder, final ExecutorService executor) {
+    this.messageDecoder = messageDecoder;
+    this.executor = executor;
+  }
+
+  /**
+   * Decodes the message in the background, then passes it on once it and every previously
+   * submitted message have been decoded. Messages which fail to decode are passed on regardless so
+   * that the failure is handled where it would have been without pre-verification.
+   *
+   * @param message The received message
+   * @param handler Invoked with the message once it has been pre-verified
+   */
+  public synchronized void submit(final Message message, final Consumer<Message> handler) {
+    final CompletableFuture<Void> decoded;
+    try {
+      decoded = CompletableFuture.runAsync(() -> decode(message.getData()), executor);
+    } catch (final RejectedExecutionException e) {
+      if (executor.isShutdown()) {
+        LOG.debug("Pre-verifier stopped, discarding BFT message {}", message.getData());
+      } else {
+        LOG.warn("Pre-verification queue full, discarding BFT message {}", message.getData());
+      }
+      return;
+    }
+    previousMessageHandled =
+        CompletableFuture.allOf(previousMessageHandled, decoded)
+            .handle(
+                (result, error) -> {
+                  handler.accept(message);
+                  return null;
+                });
+  }
+
+  private void decode(final MessageData messageData) {
+    try {
+      messageDecoder.accept(messageData);
+    } catch (final RuntimeException e) {
+      LOG.trace("Unable to pre-verify BFT message with code {}", messageData.getCode(), e);
+    }
+  }
+
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  public void awaitStop() throws InterruptedException {
+    if (!executor.awaitTermination(shutdownTimeout.getSeconds(), TimeUnit.SECONDS)) {
+      LOG.error("{} executor did not shutdown cleanly.", getClass().getSimpleName());
+    }
+  }
+}
@@ -26,12 +26,14 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.Di
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 public class BftProtocolManager implements ProtocolManager {
   private final BftEventQueue bftEventQueue;
   private final PeerConnectionTracker peers;
   private final Capability supportedCapability;
   private final String subProtocolName;
+  private final Optional<BftMessagePreVerifier> preVerifier;
 
   /**
    * Constructor for the ibft protocol manager
@@ -46,10 +48,30 @@ public class BftProtocolManager implements ProtocolManager {
       final PeerConnectionTracker peers,
       final Capability supportedCapability,
       final String subProtocolName) {
+    this(bftEventQueue, peers, supportedCapability, subProtocolName, Optional.empty());
+  }
+
+  /**
+   * Constructor for the ibft protocol manager
+   *
+   * @param bftEventQueue Entry point into the ibft event processor
+   * @param peers Used to track all connected IBFT peers.
+   * @param supportedCapability The capability offered by this protocol manager
+   * @param subProtocolName The name of the protocol being supported
+   * @param preVerifier If present, recovers the signatures of received messages before they are
+   *     added to the event queue
+   */
+  public BftProtocolManager(
+      final BftEventQueue bftEventQueue,
+      final PeerConnectionTracker peers,
+      final Capability supportedCapability,
+      final String subProtocolName,
+      final Optional<BftMessagePreVerifier> preVerifier) {
     this.bftEventQueue = bftEventQueue;
     this.peers = peers;
     this.supportedCapability = supportedCapability;
     this.subProtocolName = subProtocolName;
+    this.preVerifier = preVerifier;
   }
 
   @Override
@@ -63,10 +85,16 @@ public class BftProtocolManager implements ProtocolManager {
   }
 
   @Override
-  public void stop() {}
+  public void stop() {
+    preVerifier.ifPresent(BftMessagePreVerifier::stop);
+  }
 
   @Override
-  public void awaitStop() throws InterruptedException {}
+  public void awaitStop() throws InterruptedException {
+    if (preVerifier.isPresent()) {
+      preVerifier.get().awaitStop();
+    }
+  }
 
   /**
    * This function is called by the P2P framework when an "IBF" message has been received. This
@@ -85,6 +113,14 @@ public class BftProtocolManager implements ProtocolManager {
    */
   @Override
   public void processMessage(final Capability cap, final Message message) {
+    if (preVerifier.isPresent()) {
+      preVerifier.get().submit(message, this::addToEventQueue);
+    } else {
+      addToEventQueue(message);
+    }
+  }
+
+  private void addToEventQueue(final Message message) {
     final BftEvent messageEvent = BftEvents.fromMessage(message);
     bftEventQueue.add(messageEvent);
   }
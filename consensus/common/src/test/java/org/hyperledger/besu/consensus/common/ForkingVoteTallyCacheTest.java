@@ -18,10 +18,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import com.google.common.collect.Lists;
 import org.junit.Test;
@@ -49,6 +51,25 @@ public class ForkingVoteTallyCacheTest extends VoteTallyCacheTestBase {
     assertThat(result.getValidators()).containsExactlyElementsOf(forkedValidators);
   }
 
+  @Test
+  public void persistedSnapshotsAreDiscardedWhenValidatorOverridesChange() {
+    final Map<Long, List<Address>> forkingValidatorMap = new HashMap<>();
+    forkingValidatorMap.put(
+        3L, Lists.newArrayList(Address.fromHexString("5"), Address.fromHexString("6")));
+    final VoteTallySnapshotStorage snapshotStorage =
+        new VoteTallySnapshotStorage(new InMemoryKeyValueStorage(), 2);
+
+    createCache(new BftValidatorOverrides(forkingValidatorMap), snapshotStorage)
+        .getVoteTallyAfterBlock(block_2.getHeader());
+    assertThat(snapshotStorage.get(block_2.getHash())).isPresent();
+
+    createCache(new BftValidatorOverrides(new HashMap<>(forkingValidatorMap)), snapshotStorage);
+    assertThat(snapshotStorage.get(block_2.getHash())).isPresent();
+
+    createCache(new BftValidatorOverrides(new HashMap<>()), snapshotStorage);
+    assertThat(snapshotStorage.get(block_2.getHash())).isEmpty();
+  }
+
   @Test
   public void emptyForkingValidatorMapResultsInValidatorsBeingReadFromPreviousHeader() {
     final VoteTallyUpdater tallyUpdater = mock(VoteTallyUpdater.class);
@@ -106,4 +127,16 @@ public class ForkingVoteTallyCacheTest extends VoteTallyCacheTestBase {
 
     assertThat(result.getValidators()).containsExactlyElementsOf(forkedValidators);
   }
+
+  private ForkingVoteTallyCache createCache(
+      final BftValidatorOverrides validatorOverrides,
+      final VoteTallySnapshotStorage snapshotStorage) {
+    return new ForkingVoteTallyCache(
+        blockChain,
+        mock(VoteTallyUpdater.class),
+        new EpochManager(30_000),
+        blockInterface,
+        validatorOverrides,
+        Optional.of(snapshotStorage));
+  }
 }
@@ -17,16 +17,19 @@ package org.hyperledger.besu.consensus.common;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -100,6 +103,36 @@ public class VoteTallyCacheTest extends VoteTallyCacheTestBase {
     assertThat(varArgs.getAllValues()).isEqualTo(Arrays.asList(block_3.getHeader()));
   }
 
+  @Test
+  public void voteTallyIsRestoredFromPersistedSnapshot() {
+    final VoteTallySnapshotStorage snapshotStorage =
+        new VoteTallySnapshotStorage(new InMemoryKeyValueStorage(), 2);
+    final VoteTallyUpdater tallyUpdater = mock(VoteTallyUpdater.class);
+    final EpochManager epochManager = new EpochManager(30_000);
+
+    new VoteTallyCache(
+            blockChain, tallyUpdater, epochManager, blockInterface, Optional.of(snapshotStorage))
+        .getVoteTallyAfterBlock(block_2.getHeader());
+    assertThat(snapshotStorage.get(block_1.getHash())).isEmpty();
+    assertThat(snapshotStorage.get(block_2.getHash())).isPresent();
+
+    reset(tallyUpdater);
+
+    // A new cache, as after a restart, should start from the snapshot rather than genesis.
+    final VoteTallyCache cache =
+        new VoteTallyCache(
+            blockChain, tallyUpdater, epochManager, blockInterface, Optional.of(snapshotStorage));
+    final Block block_3 = createEmptyBlock(3, block_2.getHeader().getHash());
+    final VoteTally voteTally = cache.getVoteTallyAfterBlock(block_3.getHeader());
+
+    verify(tallyUpdater).updateForBlock(eq(block_3.getHeader()), any());
+    verifyNoMoreInteractions(tallyUpdater);
+    assertThat(voteTally.getValidators()).containsExactlyElementsOf(validators);
+
+    cache.getVoteTallyAfterBlock(block_2.getHeader());
+    verifyNoMoreInteractions(tallyUpdater);
+  }
+
   // A bug was identified in VoteTallyCache whereby a vote cast in the next block *could* be applied
   // to the parent block (depending on cache creation ordering). This test ensure the problem is
   // resolved.
@@ -19,6 +19,7 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import org.junit.Test;
 
@@ -296,6 +297,20 @@ public class VoteTallyTest {
         .containsExactly(validator2, validator3, validator4, validator5);
   }
 
+  @Test
+  public void roundTripsThroughRlp() {
+    final VoteTally voteTally = fourValidators();
+    voteTally.addVote(new ValidatorVote(VoteType.ADD, validator1, validator5));
+    voteTally.addVote(new ValidatorVote(VoteType.DROP, validator2, validator4));
+
+    final VoteTally decoded = VoteTally.readFrom(RLP.input(RLP.encode(voteTally::writeTo)));
+
+    assertThat(decoded.getValidators())
+        .containsExactly(validator1, validator2, validator3, validator4);
+    assertThat(decoded.getOutstandingAddVotesFor(validator5)).containsExactly(validator1);
+    assertThat(decoded.getOutstandingRemoveVotesFor(validator4)).containsExactly(validator2);
+  }
+
   private VoteTally fourValidators() {
     return new VoteTally(asList(validator1, validator2, validator3, validator4));
   }
@@ -0,0 +1,104 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common.bft.headervalidationrules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.consensus.common.bft.headervalidationrules.HeaderValidationTestHelpers.createProposedBlockHeader;
+
+import org.hyperledger.besu.consensus.common.bft.BftBlockHeaderFunctions;
+import org.hyperledger.besu.consensus.common.bft.BftExtraData;
+import org.hyperledger.besu.crypto.NodeKey;
+import org.hyperledger.besu.crypto.NodeKeyUtils;
+import org.hyperledger.besu.crypto.SECPSignature;
+import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderBuilder;
+import org.hyperledger.besu.ethereum.core.Util;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class BftCommitSealSignaturesValidationRuleTest {
+
+  private final BftCommitSealSignaturesValidationRule rule =
+      new BftCommitSealSignaturesValidationRule();
+
+  private final List<NodeKey> committerNodeKeys =
+      IntStream.range(0, 2).mapToObj(i -> NodeKeyUtils.generate()).collect(Collectors.toList());
+  private final List<Address> committerAddresses =
+      committerNodeKeys.stream()
+          .map(nodeKey -> Util.publicKeyToAddress(nodeKey.getPublicKey()))
+          .sorted()
+          .collect(Collectors.toList());
+
+  @Test
+  public void headerWithRecoverableCommitSealsPassesValidation() {
+    final BlockHeader header =
+        createProposedBlockHeader(committerAddresses, committerNodeKeys, false);
+
+    assertThat(rule.validate(header, null)).isTrue();
+  }
+
+  @Test
+  public void unrecoverableCommitSealFailsValidation() {
+    final BlockHeader header =
+        createProposedBlockHeader(committerAddresses, committerNodeKeys, false);
+    final BftExtraData extraData = BftExtraData.decode(header);
+
+    // There is no curve point with an x coordinate of 5, so no key can be recovered from this seal.
+    final List<SECPSignature> seals = new ArrayList<>(extraData.getSeals());
+    seals.add(
+        SignatureAlgorithmFactory.getInstance()
+            .createSignature(BigInteger.valueOf(5), BigInteger.ONE, (byte) 0));
+    final BlockHeader headerWithBadSeal =
+        BlockHeaderBuilder.fromHeader(header)
+            .extraData(
+                new BftExtraData(
+                        extraData.getVanityData(),
+                        seals,
+                        extraData.getVote(),
+                        extraData.getRound(),
+                        extraData.getValidators())
+                    .encode())
+            .blockHeaderFunctions(BftBlockHeaderFunctions.forOnChainBlock())
+            .buildBlockHeader();
+
+    assertThat(rule.validate(headerWithBadSeal, null)).isFalse();
+  }
+
+  @Test
+  public void undecodableExtraDataFailsValidation() {
+    final BlockHeader header =
+        BlockHeaderBuilder.fromHeader(
+                createProposedBlockHeader(committerAddresses, committerNodeKeys, false))
+            .extraData(Bytes.wrap(new byte[10]))
+            .blockHeaderFunctions(BftBlockHeaderFunctions.forOnChainBlock())
+            .buildBlockHeader();
+
+    assertThat(rule.validate(header, null)).isFalse();
+  }
+
+  @Test
+  public void isNotAppliedDuringLightValidation() {
+    assertThat(rule.includeInLightValidation()).isFalse();
+  }
+}
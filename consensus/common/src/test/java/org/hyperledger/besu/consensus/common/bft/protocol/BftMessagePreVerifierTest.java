@@ -0,0 +1,102 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common.bft.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Test;
+
+public class BftMessagePreVerifierTest {
+
+  private final List<Message> handledMessages = new CopyOnWriteArrayList<>();
+  private final CountDownLatch firstMessageDecodable = new CountDownLatch(1);
+  private final Message firstMessage = message(1);
+  private final Message secondMessage = message(2);
+
+  private final BftMessagePreVerifier preVerifier =
+      new BftMessagePreVerifier(this::decode, Executors.newFixedThreadPool(2));
+
+  @After
+  public void tearDown() {
+    preVerifier.stop();
+  }
+
+  @Test
+  public void messagesAreHandledInTheOrderTheyWereReceived() {
+    preVerifier.submit(firstMessage, handledMessages::add);
+    preVerifier.submit(secondMessage, handledMessages::add);
+
+    assertThat(handledMessages).isEmpty();
+
+    firstMessageDecodable.countDown();
+
+    Awaitility.await().atMost(3000, TimeUnit.MILLISECONDS).until(() -> handledMessages.size() == 2);
+    assertThat(handledMessages).containsExactly(firstMessage, secondMessage);
+  }
+
+  @Test
+  public void messagesWhichFailToDecodeAreStillHandled() {
+    final Message invalidMessage = message(99);
+    firstMessageDecodable.countDown();
+
+    preVerifier.submit(invalidMessage, handledMessages::add);
+    preVerifier.submit(secondMessage, handledMessages::add);
+
+    Awaitility.await().atMost(3000, TimeUnit.MILLISECONDS).until(() -> handledMessages.size() == 2);
+    assertThat(handledMessages).containsExactly(invalidMessage, secondMessage);
+  }
+
+  @Test
+  public void messagesSubmittedAfterStoppingAreDiscarded() {
+    preVerifier.stop();
+
+    preVerifier.submit(secondMessage, handledMessages::add);
+
+    assertThat(handledMessages).isEmpty();
+  }
+
+  private void decode(final MessageData messageData) {
+    if (messageData.getCode() == 1) {
+      try {
+        firstMessageDecodable.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    } else if (messageData.getCode() == 99) {
+      throw new IllegalArgumentException("Unrecognised message");
+    }
+  }
+
+  private static Message message(final int code) {
+    final MessageData messageData = mock(MessageData.class);
+    when(messageData.getCode()).thenReturn(code);
+    final Message message = mock(Message.class);
+    when(message.getData()).thenReturn(messageData);
+    return message;
+  }
+}
@@ -16,6 +16,7 @@ package org.hyperledger.besu.consensus.ibft;
 
 import org.hyperledger.besu.consensus.common.bft.BftHelpers;
 import org.hyperledger.besu.consensus.common.bft.headervalidationrules.BftCoinbaseValidationRule;
+import org.hyperledger.besu.consensus.common.bft.headervalidationrules.BftCommitSealSignaturesValidationRule;
 import org.hyperledger.besu.consensus.common.bft.headervalidationrules.BftCommitSealsValidationRule;
 import org.hyperledger.besu.consensus.common.bft.headervalidationrules.BftValidatorsValidationRule;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
@@ -58,6 +59,7 @@ public class IbftBlockHeaderValidationRulesetFactory {
         .addRule(new ConstantFieldValidationRule<>("Nonce", BlockHeader::getNonce, 0L))
         .addRule(new BftValidatorsValidationRule())
         .addRule(new BftCoinbaseValidationRule())
+        .addRule(new BftCommitSealSignaturesValidationRule())
         .addRule(new BftCommitSealsValidationRule());
   }
 }
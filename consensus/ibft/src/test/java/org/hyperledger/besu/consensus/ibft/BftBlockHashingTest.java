@@ -98,6 +98,47 @@ public class BftBlockHashingTest {
     assertThat(actualHeader).isEqualTo(HEADER_TO_BE_HASHED);
   }
 
+  @Test
+  public void committersAreNotSharedBetweenHeadersWithTheSameHashButDifferentSeals() {
+    final BlockHeader allSeals = headerSealedBy(COMMITTERS_NODE_KEYS, ROUND);
+    final BlockHeader fewerSeals = headerSealedBy(COMMITTERS_NODE_KEYS.subList(0, 2), ROUND);
+    final BlockHeader otherRound = headerSealedBy(COMMITTERS_NODE_KEYS.subList(2, 4), ROUND + 1);
+
+    // The on-chain hash excludes both the commit seals and the round number.
+    assertThat(fewerSeals.getHash()).isEqualTo(allSeals.getHash());
+    assertThat(otherRound.getHash()).isEqualTo(allSeals.getHash());
+
+    assertThat(BftBlockHashing.recoverCommitterAddresses(allSeals, BftExtraData.decode(allSeals)))
+        .isEqualTo(addressesOf(COMMITTERS_NODE_KEYS));
+    assertThat(
+            BftBlockHashing.recoverCommitterAddresses(fewerSeals, BftExtraData.decode(fewerSeals)))
+        .isEqualTo(addressesOf(COMMITTERS_NODE_KEYS.subList(0, 2)));
+    assertThat(
+            BftBlockHashing.recoverCommitterAddresses(otherRound, BftExtraData.decode(otherRound)))
+        .isEqualTo(addressesOf(COMMITTERS_NODE_KEYS.subList(2, 4)));
+  }
+
+  private static BlockHeader headerSealedBy(final List<NodeKey> committers, final int round) {
+    final BlockHeaderBuilder builder = setHeaderFieldsExceptForExtraData();
+    final BftExtraData unsealedExtraData =
+        new BftExtraData(VANITY_DATA, emptyList(), VOTE, round, VALIDATORS);
+    builder.extraData(unsealedExtraData.encode());
+    final Hash dataHash =
+        BftBlockHashing.calculateDataHashForCommittedSeal(
+            builder.buildBlockHeader(), unsealedExtraData);
+
+    final List<SECPSignature> commitSeals =
+        committers.stream().map(nodeKey -> nodeKey.sign(dataHash)).collect(Collectors.toList());
+    builder.extraData(new BftExtraData(VANITY_DATA, commitSeals, VOTE, round, VALIDATORS).encode());
+    return builder.buildBlockHeader();
+  }
+
+  private static List<Address> addressesOf(final List<NodeKey> nodeKeys) {
+    return nodeKeys.stream()
+        .map(nodeKey -> Util.publicKeyToAddress(nodeKey.getPublicKey()))
+        .collect(Collectors.toList());
+  }
+
   private static List<NodeKey> committersNodeKeys() {
     final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithmFactory.getInstance();
 
@@ -15,6 +15,7 @@
 package org.hyperledger.besu.consensus.qbft;
 
 import org.hyperledger.besu.consensus.common.bft.headervalidationrules.BftCoinbaseValidationRule;
+import org.hyperledger.besu.consensus.common.bft.headervalidationrules.BftCommitSealSignaturesValidationRule;
 import org.hyperledger.besu.consensus.common.bft.headervalidationrules.BftCommitSealsValidationRule;
 import org.hyperledger.besu.consensus.common.bft.headervalidationrules.BftValidatorsValidationRule;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
@@ -49,6 +50,7 @@ public class QbftBlockHeaderValidationRulesetFactory {
                 "Difficulty", BlockHeader::getDifficulty, UInt256.ONE))
         .addRule(new BftValidatorsValidationRule())
         .addRule(new BftCoinbaseValidationRule())
+        .addRule(new BftCommitSealSignaturesValidationRule())
         .addRule(new BftCommitSealsValidationRule());
   }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.qbft.messagedata;
+
+import org.hyperledger.besu.consensus.common.bft.messagewrappers.BftMessage;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+
+/** Decodes QBFT messages, recovering the author of every signed payload they contain. */
+public class QbftMessageDecoder {
+
+  public static BftMessage<?> decode(final MessageData messageData) {
+    switch (messageData.getCode()) {
+      case QbftV1.PROPOSAL:
+        return ProposalMessageData.fromMessageData(messageData).decode();
+      case QbftV1.PREPARE:
+        return PrepareMessageData.fromMessageData(messageData).decode();
+      case QbftV1.COMMIT:
+        return CommitMessageData.fromMessageData(messageData).decode();
+      case QbftV1.ROUND_CHANGE:
+        return RoundChangeMessageData.fromMessageData(messageData).decode();
+      default:
+        throw new IllegalArgumentException(
+            String.format(
+                "Received message with messageCode=%d does not conform to any recognised QBFT message structure",
+                messageData.getCode()));
+    }
+  }
+}
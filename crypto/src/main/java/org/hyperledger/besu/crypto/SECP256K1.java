@@ -28,7 +28,9 @@ import java.security.InvalidAlgorithmParameterException;
 import java.security.KeyPairGenerator;
 import java.security.Security;
 import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
 
@@ -367,7 +369,7 @@ public class SECP256K1 implements SignatureAlgorithm {
   public Optional<SECPPublicKey> recoverPublicKeyFromSignature(
       final Bytes32 dataHash, final SECPSignature signature) {
     if (useNative) {
-      return recoverFromSignatureNative(dataHash, signature);
+      return recoverFromSignatureNative(dataHash, signature, new NativeRecoveryBuffers());
     } else {
       final BigInteger publicKeyBI =
           recoverFromSignature(signature.getRecId(), signature.getR(), signature.getS(), dataHash);
@@ -375,6 +377,35 @@ public class SECP256K1 implements SignatureAlgorithm {
     }
   }
 
+  @Override
+  public List<Optional<SECPPublicKey>> recoverPublicKeysFromSignatures(
+      final List<Bytes32> dataHashes, final List<SECPSignature> signatures) {
+    checkArgument(
+        dataHashes.size() == signatures.size(),
+        "Expected as many data hashes as signatures but got %s and %s",
+        dataHashes.size(),
+        signatures.size());
+    final List<Optional<SECPPublicKey>> publicKeys = new ArrayList<>(signatures.size());
+    if (useNative) {
+      final NativeRecoveryBuffers buffers = new NativeRecoveryBuffers();
+      for (int i = 0; i < signatures.size(); i++) {
+        publicKeys.add(recoverFromSignatureNative(dataHashes.get(i), signatures.get(i), buffers));
+      }
+    } else {
+      for (int i = 0; i < signatures.size(); i++) {
+        final BigInteger publicKeyBI =
+            recoverFromSignature(
+                signatures.get(i).getRecId(),
+                signatures.get(i).getR(),
+                signatures.get(i).getS(),
+                dataHashes.get(i));
+        publicKeys.add(
+            Optional.ofNullable(publicKeyBI).map(key -> SECPPublicKey.create(key, ALGORITHM)));
+      }
+    }
+    return publicKeys;
+  }
+
   @Override
   public ECPoint publicKeyAsEcPoint(final SECPPublicKey publicKey) {
     return publicKey.asEcPoint(curve);
@@ -471,37 +502,48 @@ public class SECP256K1 implements SignatureAlgorithm {
         != 0;
   }
 
-  private Optional<SECPPublicKey> recoverFromSignatureNative(
-      final Bytes32 dataHash, final SECPSignature signature) {
-
-    // parse the sig
-    final LibSecp256k1.secp256k1_ecdsa_recoverable_signature parsedSignature =
+  /**
+   * The native structures and output buffer used to recover a public key, so that recovering a
+   * batch of signatures marshals into the same native memory instead of allocating it per call.
+   */
+  private static class NativeRecoveryBuffers {
+    private final LibSecp256k1.secp256k1_ecdsa_recoverable_signature parsedSignature =
         new LibSecp256k1.secp256k1_ecdsa_recoverable_signature();
+    private final LibSecp256k1.secp256k1_pubkey newPubKey = new LibSecp256k1.secp256k1_pubkey();
+    private final ByteBuffer recoveredKey = ByteBuffer.allocateDirect(65);
+    private final LongByReference keySize = new LongByReference();
+  }
+
+  private Optional<SECPPublicKey> recoverFromSignatureNative(
+      final Bytes32 dataHash, final SECPSignature signature, final NativeRecoveryBuffers buffers) {
     final Bytes encodedSig = signature.encodedBytes();
     if (LibSecp256k1.secp256k1_ecdsa_recoverable_signature_parse_compact(
-            LibSecp256k1.CONTEXT,
-            parsedSignature,
-            encodedSig.slice(0, 64).toArrayUnsafe(),
-            encodedSig.get(64))
-        == 0) {
-      throw new IllegalArgumentException("Could not parse signature");
+                LibSecp256k1.CONTEXT,
+                buffers.parsedSignature,
+                encodedSig.slice(0, 64).toArrayUnsafe(),
+                encodedSig.get(64))
+            == 0
+        || LibSecp256k1.secp256k1_ecdsa_recover(
+                LibSecp256k1.CONTEXT,
+                buffers.newPubKey,
+                buffers.parsedSignature,
+                dataHash.toArrayUnsafe())
+            == 0) {
+      return Optional.empty();
     }
 
-    // recover the key
-    final LibSecp256k1.secp256k1_pubkey newPubKey = new LibSecp256k1.secp256k1_pubkey();
-    if (LibSecp256k1.secp256k1_ecdsa_recover(
-            LibSecp256k1.CONTEXT, newPubKey, parsedSignature, dataHash.toArrayUnsafe())
-        == 0) {
-      throw new IllegalArgumentException("Could not recover public key");
-    }
-
-    // parse the key
-    final ByteBuffer recoveredKey = ByteBuffer.allocate(65);
-    final LongByReference keySize = new LongByReference(recoveredKey.limit());
+    buffers.recoveredKey.clear();
+    buffers.keySize.setValue(buffers.recoveredKey.capacity());
     LibSecp256k1.secp256k1_ec_pubkey_serialize(
-        LibSecp256k1.CONTEXT, recoveredKey, keySize, newPubKey, SECP256K1_EC_UNCOMPRESSED);
-
-    return Optional.of(
-        SECPPublicKey.create(Bytes.wrapByteBuffer(recoveredKey).slice(1), ALGORITHM));
+        LibSecp256k1.CONTEXT,
+        buffers.recoveredKey,
+        buffers.keySize,
+        buffers.newPubKey,
+        SECP256K1_EC_UNCOMPRESSED);
+
+    final byte[] recoveredKey = new byte[64];
+    buffers.recoveredKey.position(1);
+    buffers.recoveredKey.get(recoveredKey);
+    return Optional.of(SECPPublicKey.create(Bytes.wrap(recoveredKey), ALGORITHM));
   }
 }
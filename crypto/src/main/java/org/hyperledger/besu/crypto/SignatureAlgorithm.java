@@ -15,6 +15,7 @@
 package org.hyperledger.besu.crypto;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
 
@@ -65,6 +66,18 @@ public interface SignatureAlgorithm {
   Optional<SECPPublicKey> recoverPublicKeyFromSignature(
       final Bytes32 dataHash, final SECPSignature signature);
 
+  /**
+   * Recovers the public keys of a batch of signatures, reusing the same native structures and
+   * buffers for the whole batch.
+   *
+   * @param dataHashes the hashes that were signed
+   * @param signatures the signatures, in the same order as {@code dataHashes}
+   * @return the recovered public keys in the same order, empty for any signature from which no
+   *     public key can be recovered
+   */
+  List<Optional<SECPPublicKey>> recoverPublicKeysFromSignatures(
+      final List<Bytes32> dataHashes, final List<SECPSignature> signatures);
+
   ECPoint publicKeyAsEcPoint(final SECPPublicKey publicKey);
 
   KeyPair createKeyPair(final SECPPrivateKey privateKey);
@@ -15,7 +15,9 @@
 package org.hyperledger.besu.crypto;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hyperledger.besu.crypto.Hash.keccak256;
 
 import java.io.File;
@@ -24,6 +26,9 @@ import java.nio.file.Files;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -83,6 +88,39 @@ public class SECP256K1Test {
     assertThat(recoveredPublicKey.toString()).isEqualTo(keyPair.getPublicKey().toString());
   }
 
+  @Test
+  public void recoverPublicKeysFromSignatures() {
+    final List<KeyPair> keyPairs = new ArrayList<>();
+    final List<Bytes32> dataHashes = new ArrayList<>();
+    final List<SECPSignature> signatures = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      final KeyPair keyPair = secp256K1.generateKeyPair();
+      final Bytes32 dataHash = keccak256(Bytes.of(i));
+      keyPairs.add(keyPair);
+      dataHashes.add(dataHash);
+      signatures.add(secp256K1.sign(dataHash, keyPair));
+    }
+
+    final List<Optional<SECPPublicKey>> recoveredPublicKeys =
+        secp256K1.recoverPublicKeysFromSignatures(dataHashes, signatures);
+
+    assertThat(recoveredPublicKeys)
+        .containsExactlyElementsOf(
+            keyPairs.stream().map(k -> Optional.of(k.getPublicKey())).collect(toList()));
+  }
+
+  @Test
+  public void recoverPublicKeysFromSignaturesRequiresAHashPerSignature() {
+    final KeyPair keyPair = secp256K1.generateKeyPair();
+    final Bytes32 dataHash = keccak256(Bytes.of(1));
+
+    assertThatThrownBy(
+            () ->
+                secp256K1.recoverPublicKeysFromSignatures(
+                    List.of(dataHash, dataHash), List.of(secp256K1.sign(dataHash, keyPair))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void signatureGeneration() {
     final SECPPrivateKey privateKey =
@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql;
 
+import org.hyperledger.besu.ethereum.api.graphql.internal.BlockchainDataLoader;
 import org.hyperledger.besu.ethereum.api.handlers.IsAliveHandler;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
@@ -33,6 +34,8 @@ public interface GraphQLDataFetcherContext {
 
   ProtocolSchedule getProtocolSchedule();
 
+  BlockchainDataLoader getDataLoader();
+
   default IsAliveHandler getIsAliveHandler() {
     return new IsAliveHandler(true);
   }
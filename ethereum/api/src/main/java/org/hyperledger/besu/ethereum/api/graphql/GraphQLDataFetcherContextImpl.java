@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql;
 
+import org.hyperledger.besu.ethereum.api.graphql.internal.BlockchainDataLoader;
 import org.hyperledger.besu.ethereum.api.handlers.IsAliveHandler;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.blockcreation.MiningCoordinator;
@@ -29,6 +30,7 @@ public class GraphQLDataFetcherContextImpl implements GraphQLDataFetcherContext
   private final ProtocolSchedule protocolSchedule;
   private final TransactionPool transactionPool;
   private final IsAliveHandler isAliveHandler;
+  private final BlockchainDataLoader dataLoader;
 
   public GraphQLDataFetcherContextImpl(
       final GraphQLDataFetcherContext context, final IsAliveHandler isAliveHandler) {
@@ -69,6 +71,8 @@ public class GraphQLDataFetcherContextImpl implements GraphQLDataFetcherContext
     this.synchronizer = synchronizer;
     this.transactionPool = transactionPool;
     this.isAliveHandler = isAliveHandler;
+    // A context is created for each request, so reads are only memoized for that request
+    this.dataLoader = new BlockchainDataLoader(blockchainQueries);
   }
 
   @Override
@@ -96,6 +100,11 @@ public class GraphQLDataFetcherContextImpl implements GraphQLDataFetcherContext
     return protocolSchedule;
   }
 
+  @Override
+  public BlockchainDataLoader getDataLoader() {
+    return dataLoader;
+  }
+
   @Override
   public IsAliveHandler getIsAliveHandler() {
     return isAliveHandler;
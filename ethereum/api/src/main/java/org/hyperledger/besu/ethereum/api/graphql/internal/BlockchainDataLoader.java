@@ -0,0 +1,114 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql.internal;
+
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.WorldState;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes the blockchain and world state reads made while resolving a single GraphQL request.
+ *
+ * <p>Fields of the same block, transaction or account are resolved independently, so without this
+ * a query for many blocks and their transactions reads the same headers, bodies, receipts and
+ * world states from storage once per field rather than once per object. Receipts are loaded a
+ * whole block at a time, since the transactions of a block are usually queried together.
+ *
+ * <p>A loader must not outlive the request it was created for, as it never sees new blocks.
+ */
+public class BlockchainDataLoader {
+
+  private final BlockchainQueries blockchainQueries;
+
+  private final Map<Hash, Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>>
+      blocksByHash = new ConcurrentHashMap<>();
+  private final Map<Long, Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>>
+      blocksByNumber = new ConcurrentHashMap<>();
+  private final Map<Hash, Optional<TransactionWithMetadata>> transactions =
+      new ConcurrentHashMap<>();
+  private final Map<Hash, Optional<List<TransactionReceiptWithMetadata>>> blockReceipts =
+      new ConcurrentHashMap<>();
+  private final Map<Hash, Optional<TransactionReceiptWithMetadata>> receipts =
+      new ConcurrentHashMap<>();
+  private final Map<Long, Optional<WorldState>> worldStates = new ConcurrentHashMap<>();
+
+  public BlockchainDataLoader(final BlockchainQueries blockchainQueries) {
+    this.blockchainQueries = blockchainQueries;
+  }
+
+  public BlockchainQueries getBlockchainQueries() {
+    return blockchainQueries;
+  }
+
+  public Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> blockByHash(
+      final Hash blockHash) {
+    return blocksByHash.computeIfAbsent(blockHash, blockchainQueries::blockByHash);
+  }
+
+  public Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> blockByNumber(
+      final long blockNumber) {
+    final Optional<BlockWithMetadata<TransactionWithMetadata, Hash>> block =
+        blocksByNumber.computeIfAbsent(blockNumber, blockchainQueries::blockByNumber);
+    block.ifPresent(b -> blocksByHash.putIfAbsent(b.getHeader().getHash(), block));
+    return block;
+  }
+
+  public Optional<TransactionWithMetadata> transactionByHash(final Hash transactionHash) {
+    return transactions.computeIfAbsent(transactionHash, blockchainQueries::transactionByHash);
+  }
+
+  /**
+   * Returns the receipt of a transaction, loading the receipts of its whole block if the
+   * transaction has been included in one.
+   *
+   * @param transaction the transaction whose receipt should be retrieved
+   * @return the receipt of the transaction, if it has one
+   */
+  public Optional<TransactionReceiptWithMetadata> transactionReceipt(
+      final TransactionWithMetadata transaction) {
+    final Hash transactionHash = transaction.getTransaction().getHash();
+    final Optional<TransactionReceiptWithMetadata> fromBlock =
+        transaction
+            .getBlockHash()
+            .flatMap(
+                blockHash ->
+                    blockReceipts.computeIfAbsent(
+                        blockHash, blockchainQueries::transactionReceiptsByBlockHash))
+            .flatMap(
+                receiptsOfBlock ->
+                    transaction
+                        .getTransactionIndex()
+                        .filter(index -> index < receiptsOfBlock.size())
+                        .map(receiptsOfBlock::get))
+            .filter(receipt -> receipt.getTransactionHash().equals(transactionHash));
+    if (fromBlock.isPresent()) {
+      return fromBlock;
+    }
+    return receipts.computeIfAbsent(
+        transactionHash, blockchainQueries::transactionReceiptByTransactionHash);
+  }
+
+  public Optional<WorldState> getWorldState(final long blockNumber) {
+    return worldStates.computeIfAbsent(blockNumber, blockchainQueries::getWorldState);
+  }
+}
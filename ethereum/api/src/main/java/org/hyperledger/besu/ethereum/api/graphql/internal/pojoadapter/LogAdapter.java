@@ -14,7 +14,6 @@
  */
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
-import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogTopic;
@@ -49,21 +48,20 @@ public class LogAdapter extends AdapterBase {
   }
 
   public Optional<TransactionAdapter> getTransaction(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     final Hash hash = logWithMetadata.getTransactionHash();
-    final Optional<TransactionWithMetadata> tran = query.transactionByHash(hash);
+    final Optional<TransactionWithMetadata> tran =
+        getDataLoader(environment).transactionByHash(hash);
     return tran.map(TransactionAdapter::new);
   }
 
   public Optional<AccountAdapter> getAccount(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
     long blockNumber = logWithMetadata.getBlockNumber();
     final Long bn = environment.getArgument("block");
     if (bn != null) {
       blockNumber = bn;
     }
 
-    return query
+    return getDataLoader(environment)
         .getWorldState(blockNumber)
         .map(ws -> new AccountAdapter(ws.get(logWithMetadata.getLogger())));
   }
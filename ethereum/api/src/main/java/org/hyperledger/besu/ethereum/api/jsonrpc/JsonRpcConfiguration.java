@@ -32,6 +32,7 @@ public class JsonRpcConfiguration {
   private static final String DEFAULT_JSON_RPC_HOST = "127.0.0.1";
   public static final int DEFAULT_JSON_RPC_PORT = 8545;
   public static final int DEFAULT_MAX_ACTIVE_CONNECTIONS = 80;
+  public static final long DEFAULT_RESULT_CACHE_SIZE_BYTES = 0;
 
   private boolean enabled;
   private int port;
@@ -45,6 +46,7 @@ public class JsonRpcConfiguration {
   private Optional<TlsConfiguration> tlsConfiguration = Optional.empty();
   private long httpTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
   private int maxActiveConnections;
+  private long resultCacheSizeBytes = DEFAULT_RESULT_CACHE_SIZE_BYTES;
 
   public static JsonRpcConfiguration createDefault() {
     final JsonRpcConfiguration config = new JsonRpcConfiguration();
@@ -169,6 +171,7 @@ public class JsonRpcConfiguration {
         .add("tlsConfiguration", tlsConfiguration)
         .add("httpTimeoutSec", httpTimeoutSec)
         .add("maxActiveConnections", maxActiveConnections)
+        .add("resultCacheSizeBytes", resultCacheSizeBytes)
         .toString();
   }
 
@@ -213,4 +216,18 @@ public class JsonRpcConfiguration {
   public void setMaxActiveConnections(final int maxActiveConnections) {
     this.maxActiveConnections = maxActiveConnections;
   }
+
+  /**
+   * The maximum size of the shared cache of serialized results for read only methods, zero
+   * disables the cache.
+   *
+   * @return the maximum size in bytes
+   */
+  public long getResultCacheSizeBytes() {
+    return resultCacheSizeBytes;
+  }
+
+  public void setResultCacheSizeBytes(final long resultCacheSizeBytes) {
+    this.resultCacheSizeBytes = resultCacheSizeBytes;
+  }
 }
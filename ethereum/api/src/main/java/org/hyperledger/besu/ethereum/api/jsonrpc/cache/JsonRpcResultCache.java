@@ -0,0 +1,223 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.cache;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponseType;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.RawJsonResult;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.vertx.core.json.Json;
+
+/**
+ * Caches the serialized results of read only JSON-RPC methods whose result can only change when the
+ * chain head changes, so identical requests made by many clients after each new block are only
+ * computed and serialized once.
+ *
+ * <p>Results are keyed by method name, parameters and chain head hash, and the whole cache is
+ * cleared whenever a block is added, including on reorgs.
+ */
+public class JsonRpcResultCache {
+
+  static final Set<String> CACHEABLE_METHODS =
+      Set.of(
+          RpcMethod.ETH_GET_BLOCK_BY_HASH.getMethodName(),
+          RpcMethod.ETH_GET_BLOCK_BY_NUMBER.getMethodName(),
+          RpcMethod.ETH_GET_TRANSACTION_RECEIPT.getMethodName(),
+          RpcMethod.ETH_GAS_PRICE.getMethodName());
+
+  private final Blockchain blockchain;
+  private final Cache<CacheKey, RawJsonResult> cache;
+  private final LabelledMetric<Counter> hitCounter;
+  private final LabelledMetric<Counter> missCounter;
+
+  public JsonRpcResultCache(
+      final Blockchain blockchain, final MetricsSystem metricsSystem, final long maxSizeBytes) {
+    this.blockchain = blockchain;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maxSizeBytes)
+            .<CacheKey, RawJsonResult>weigher(
+                (key, result) -> key.params.length() + result.getJson().length())
+            .build();
+    this.hitCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.RPC,
+            "result_cache_hits",
+            "Number of JSON-RPC requests answered from the result cache",
+            "methodName");
+    this.missCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.RPC,
+            "result_cache_misses",
+            "Number of cacheable JSON-RPC requests that had to be computed",
+            "methodName");
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.RPC,
+        "result_cache_entries",
+        "Number of results currently held in the JSON-RPC result cache",
+        cache::size);
+    blockchain.observeBlockAdded(event -> cache.invalidateAll());
+  }
+
+  /**
+   * Wrap the cacheable methods in the given map so their results are served from this cache.
+   *
+   * @param methods the methods to wrap, keyed by name
+   * @return a new map with the cacheable methods wrapped
+   */
+  public Map<String, JsonRpcMethod> wrap(final Map<String, JsonRpcMethod> methods) {
+    final Map<String, JsonRpcMethod> wrapped = new HashMap<>(methods);
+    methods.forEach(
+        (name, method) -> {
+          if (CACHEABLE_METHODS.contains(name)) {
+            wrapped.put(name, new CachingJsonRpcMethod(method));
+          }
+        });
+    return wrapped;
+  }
+
+  long size() {
+    return cache.size();
+  }
+
+  private JsonRpcResponse response(
+      final JsonRpcMethod method, final JsonRpcRequestContext requestContext) {
+    final Hash chainHead = blockchain.getChainHeadHash();
+    final CacheKey key =
+        new CacheKey(
+            method.getName(), Json.encode(requestContext.getRequest().getParams()), chainHead);
+    final Object id = requestContext.getRequest().getId();
+
+    final RawJsonResult cached = cache.getIfPresent(key);
+    if (cached != null) {
+      hitCounter.labels(method.getName()).inc();
+      return new JsonRpcSuccessResponse(id, cached);
+    }
+
+    missCounter.labels(method.getName()).inc();
+    try {
+      // Concurrent requests for the same key wait for a single computation of the result
+      return new JsonRpcSuccessResponse(
+          id, cache.get(key, () -> computeResult(method, requestContext, chainHead)));
+    } catch (final UncheckedExecutionException | ExecutionException e) {
+      if (e.getCause() instanceof UncacheableResponse) {
+        final UncacheableResponse uncacheable = (UncacheableResponse) e.getCause();
+        // A request waiting on another one's computation still needs a response of its own
+        return uncacheable.requestContext == requestContext
+            ? uncacheable.response
+            : method.response(requestContext);
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private RawJsonResult computeResult(
+      final JsonRpcMethod method,
+      final JsonRpcRequestContext requestContext,
+      final Hash chainHead) {
+    final JsonRpcResponse response = method.response(requestContext);
+    // Errors are not cached, nor are results that may have been computed against a new head
+    if (response.getType() != JsonRpcResponseType.SUCCESS
+        || !chainHead.equals(blockchain.getChainHeadHash())) {
+      throw new UncacheableResponse(requestContext, response);
+    }
+    return new RawJsonResult(Json.encode(((JsonRpcSuccessResponse) response).getResult()));
+  }
+
+  private class CachingJsonRpcMethod implements JsonRpcMethod {
+    private final JsonRpcMethod delegate;
+
+    private CachingJsonRpcMethod(final JsonRpcMethod delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+      return delegate.getName();
+    }
+
+    @Override
+    public JsonRpcResponse response(final JsonRpcRequestContext request) {
+      return JsonRpcResultCache.this.response(delegate, request);
+    }
+
+    @Override
+    public List<String> getPermissions() {
+      return delegate.getPermissions();
+    }
+  }
+
+  private static class CacheKey {
+    private final String method;
+    private final String params;
+    private final Hash chainHead;
+
+    private CacheKey(final String method, final String params, final Hash chainHead) {
+      this.method = method;
+      this.params = params;
+      this.chainHead = chainHead;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      final CacheKey that = (CacheKey) o;
+      return method.equals(that.method)
+          && params.equals(that.params)
+          && chainHead.equals(that.chainHead);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(method, params, chainHead);
+    }
+  }
+
+  private static class UncacheableResponse extends RuntimeException {
+    private final transient JsonRpcRequestContext requestContext;
+    private final transient JsonRpcResponse response;
+
+    private UncacheableResponse(
+        final JsonRpcRequestContext requestContext, final JsonRpcResponse response) {
+      super(null, null, false, false);
+      this.requestContext = requestContext;
+      this.response = response;
+    }
+  }
+}
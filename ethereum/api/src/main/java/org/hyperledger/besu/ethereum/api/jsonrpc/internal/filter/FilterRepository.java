@@ -14,6 +14,9 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
+import org.hyperledger.besu.ethereum.api.query.LogsQueryIndex;
+import org.hyperledger.besu.ethereum.core.Log;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
@@ -25,6 +28,8 @@ import java.util.stream.Stream;
 public class FilterRepository {
 
   private final Map<String, Filter> filters = new ConcurrentHashMap<>();
+  // Private log filters are matched using privacy queries so are not indexed
+  private final LogsQueryIndex<LogFilter> logFilterIndex = new LogsQueryIndex<>();
 
   public FilterRepository() {}
 
@@ -57,6 +62,17 @@ public class FilterRepository {
     return Optional.of((T) filter);
   }
 
+  /**
+   * Find the public log filters whose query matches the addresses and topics of a log. Block range
+   * restrictions of the filters are not checked.
+   *
+   * @param log the log to match
+   * @return the matching log filters
+   */
+  Stream<LogFilter> getLogFiltersMatching(final Log log) {
+    return logFilterIndex.matching(log);
+  }
+
   boolean exists(final String id) {
     return filters.containsKey(id);
   }
@@ -72,13 +88,24 @@ public class FilterRepository {
     }
 
     filters.put(filter.getId(), filter);
+    if (isIndexedLogFilter(filter)) {
+      logFilterIndex.add((LogFilter) filter, ((LogFilter) filter).getLogsQuery());
+    }
   }
 
   void delete(final String id) {
-    filters.remove(id);
+    final Filter removed = filters.remove(id);
+    if (isIndexedLogFilter(removed)) {
+      logFilterIndex.remove((LogFilter) removed);
+    }
   }
 
   void deleteAll() {
     filters.clear();
+    logFilterIndex.clear();
+  }
+
+  private static boolean isIndexedLogFilter(final Filter filter) {
+    return filter instanceof LogFilter && !(filter instanceof PrivateLogFilter);
   }
 }
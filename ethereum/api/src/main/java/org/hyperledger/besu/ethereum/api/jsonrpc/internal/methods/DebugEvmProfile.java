@@ -0,0 +1,84 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.Stats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reports the opcode profile gathered while importing blocks. Takes the maximum number of contracts
+ * to report (default 100) and whether to reset the profile once it has been read.
+ */
+public class DebugEvmProfile implements JsonRpcMethod {
+
+  private static final int DEFAULT_CONTRACT_LIMIT = 100;
+
+  private final Optional<ProfilingOperationTracer> evmProfiler;
+
+  public DebugEvmProfile(final Optional<ProfilingOperationTracer> evmProfiler) {
+    this.evmProfiler = evmProfiler;
+  }
+
+  @Override
+  public String getName() {
+    return RpcMethod.DEBUG_EVM_PROFILE.getMethodName();
+  }
+
+  @Override
+  public JsonRpcResponse response(final JsonRpcRequestContext requestContext) {
+    if (evmProfiler.isEmpty()) {
+      return new JsonRpcErrorResponse(
+          requestContext.getRequest().getId(), JsonRpcError.EVM_PROFILING_NOT_ENABLED);
+    }
+    final ProfilingOperationTracer profiler = evmProfiler.get();
+    final int contractLimit =
+        requestContext.getOptionalParameter(0, Integer.class).orElse(DEFAULT_CONTRACT_LIMIT);
+    final boolean reset = requestContext.getOptionalParameter(1, Boolean.class).orElse(false);
+
+    final Map<String, Object> operations = new LinkedHashMap<>();
+    profiler.getOperationStats().forEach((name, stats) -> operations.put(name, toMap(stats)));
+    final Map<String, Object> contracts = new LinkedHashMap<>();
+    profiler
+        .getContractStats(contractLimit)
+        .forEach((address, stats) -> contracts.put(address.toHexString(), toMap(stats)));
+
+    final Map<String, Object> profile = new LinkedHashMap<>();
+    profile.put("operations", operations);
+    profile.put("contracts", contracts);
+    profile.put("untrackedContracts", toMap(profiler.getUntrackedContractStats()));
+    if (reset) {
+      profiler.reset();
+    }
+    return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), profile);
+  }
+
+  private static Map<String, Object> toMap(final Stats stats) {
+    final Map<String, Object> values = new LinkedHashMap<>();
+    values.put("count", stats.getCount());
+    values.put("gas", stats.getGas());
+    values.put("nanos", stats.getNanos());
+    return values;
+  }
+}
@@ -83,6 +83,7 @@ public enum JsonRpcError {
   // Debug failures
   BLOCK_NOT_FOUND(-32000, "Block not found"),
   PARENT_BLOCK_NOT_FOUND(-32000, "Parent block not found"),
+  EVM_PROFILING_NOT_ENABLED(-32000, "EVM profiling has not been enabled"),
 
   // Permissioning/Account allowlist errors
   ACCOUNT_ALLOWLIST_NOT_ENABLED(-32000, "Account allowlist has not been enabled"),
@@ -0,0 +1,53 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.results;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * A result that has already been serialized to JSON, so it can be written into any number of
+ * responses without serializing it again.
+ */
+public class RawJsonResult implements JsonRpcResult, JsonSerializable {
+  private final String json;
+
+  public RawJsonResult(final String json) {
+    this.json = json;
+  }
+
+  public String getJson() {
+    return json;
+  }
+
+  @Override
+  public void serialize(final JsonGenerator gen, final SerializerProvider serializers)
+      throws IOException {
+    gen.writeRawValue(json);
+  }
+
+  @Override
+  public void serializeWithType(
+      final JsonGenerator gen,
+      final SerializerProvider serializers,
+      final TypeSerializer typeSerializer)
+      throws IOException {
+    serialize(gen, serializers);
+  }
+}
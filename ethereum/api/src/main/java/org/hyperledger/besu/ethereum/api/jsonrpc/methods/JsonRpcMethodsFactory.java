@@ -32,6 +32,7 @@ import org.hyperledger.besu.ethereum.p2p.network.P2PNetwork;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
 import org.hyperledger.besu.ethereum.permissioning.AccountLocalConfigPermissioningController;
 import org.hyperledger.besu.ethereum.permissioning.NodeLocalConfigPermissioningController;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 import org.hyperledger.besu.metrics.prometheus.MetricsConfiguration;
 import org.hyperledger.besu.nat.NatService;
@@ -72,6 +73,58 @@ public class JsonRpcMethodsFactory {
       final Map<String, BesuPlugin> namedPlugins,
       final Path dataDir,
       final EthPeers ethPeers) {
+    return methods(
+        clientVersion,
+        networkId,
+        genesisConfigOptions,
+        p2pNetwork,
+        blockchainQueries,
+        synchronizer,
+        protocolSchedule,
+        filterManager,
+        transactionPool,
+        miningCoordinator,
+        metricsSystem,
+        supportedCapabilities,
+        accountsWhitelistController,
+        nodeWhitelistController,
+        rpcApis,
+        privacyParameters,
+        jsonRpcConfiguration,
+        webSocketConfiguration,
+        metricsConfiguration,
+        natService,
+        namedPlugins,
+        dataDir,
+        ethPeers,
+        Optional.empty());
+  }
+
+  public Map<String, JsonRpcMethod> methods(
+      final String clientVersion,
+      final BigInteger networkId,
+      final GenesisConfigOptions genesisConfigOptions,
+      final P2PNetwork p2pNetwork,
+      final BlockchainQueries blockchainQueries,
+      final Synchronizer synchronizer,
+      final ProtocolSchedule protocolSchedule,
+      final FilterManager filterManager,
+      final TransactionPool transactionPool,
+      final MiningCoordinator miningCoordinator,
+      final ObservableMetricsSystem metricsSystem,
+      final Set<Capability> supportedCapabilities,
+      final Optional<AccountLocalConfigPermissioningController> accountsWhitelistController,
+      final Optional<NodeLocalConfigPermissioningController> nodeWhitelistController,
+      final Collection<RpcApi> rpcApis,
+      final PrivacyParameters privacyParameters,
+      final JsonRpcConfiguration jsonRpcConfiguration,
+      final WebSocketConfiguration webSocketConfiguration,
+      final MetricsConfiguration metricsConfiguration,
+      final NatService natService,
+      final Map<String, BesuPlugin> namedPlugins,
+      final Path dataDir,
+      final EthPeers ethPeers,
+      final Optional<ProfilingOperationTracer> evmProfiler) {
     final Map<String, JsonRpcMethod> enabled = new HashMap<>();
 
     if (!rpcApis.isEmpty()) {
@@ -90,7 +143,12 @@ public class JsonRpcMethodsFactory {
                   natService,
                   ethPeers),
               new DebugJsonRpcMethods(
-                  blockchainQueries, protocolSchedule, metricsSystem, transactionPool, dataDir),
+                  blockchainQueries,
+                  protocolSchedule,
+                  metricsSystem,
+                  transactionPool,
+                  dataDir,
+                  evmProfiler),
               new EeaJsonRpcMethods(
                   blockchainQueries, protocolSchedule, transactionPool, privacyParameters),
               new GoQuorumJsonRpcPrivacyMethods(
@@ -15,12 +15,16 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.JsonRpcResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.RawJsonResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs.LogsSubscription;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs.PrivateLogsSubscription;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscriptionType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.UnsubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.response.SubscriptionResponse;
+import org.hyperledger.besu.ethereum.api.query.LogsQueryIndex;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Log;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionEvent;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionObserver;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
@@ -29,12 +33,14 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.eventbus.Message;
@@ -55,6 +61,7 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
 
   private final AtomicLong subscriptionCounter = new AtomicLong(0);
   private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+  private final LogsQueryIndex<Long> logsSubscriptionIndex = new LogsQueryIndex<>();
   private final SubscriptionBuilder subscriptionBuilder = new SubscriptionBuilder();
   private final LabelledMetric<Counter> subscribeCounter;
   private final LabelledMetric<Counter> unsubscribeCounter;
@@ -94,6 +101,11 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
     final Subscription subscription =
         subscriptionBuilder.build(subscriptionId, request.getConnectionId(), request);
     subscriptions.put(subscription.getSubscriptionId(), subscription);
+    if (subscription instanceof LogsSubscription) {
+      logsSubscriptionIndex.add(
+          subscription.getSubscriptionId(),
+          ((LogsSubscription) subscription).getFilterParameter().getLogsQuery());
+    }
 
     return subscription.getSubscriptionId();
   }
@@ -116,6 +128,7 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
 
   private void destroySubscription(final long subscriptionId) {
     final Subscription removed = subscriptions.remove(subscriptionId);
+    logsSubscriptionIndex.remove(subscriptionId);
     if (removed != null) {
       unsubscribeCounter.labels(removed.getSubscriptionType().getCode()).inc();
     }
@@ -145,6 +158,35 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
         .collect(Collectors.toList());
   }
 
+  /**
+   * Find the logs subscriptions whose filter matches the addresses and topics of a log. Block range
+   * restrictions of the subscriptions are not checked.
+   *
+   * @param log the log to match
+   * @return the matching subscriptions
+   */
+  public Stream<LogsSubscription> logsSubscriptionsMatching(final Log log) {
+    return logsSubscriptionIndex
+        .matching(log)
+        .map(subscriptions::get)
+        .filter(LogsSubscription.class::isInstance)
+        .map(LogsSubscription.class::cast);
+  }
+
+  /**
+   * Send the same message to several subscriptions. The message is only serialized once.
+   *
+   * @param subscriptionIds the subscriptions to send the message to
+   * @param msg the message to send
+   */
+  public void sendMessage(final Collection<Long> subscriptionIds, final JsonRpcResult msg) {
+    if (subscriptionIds.isEmpty()) {
+      return;
+    }
+    final JsonRpcResult encodedResult = new RawJsonResult(Json.encode(msg));
+    subscriptionIds.forEach(subscriptionId -> sendMessage(subscriptionId, encodedResult));
+  }
+
   public void sendMessage(final Long subscriptionId, final JsonRpcResult msg) {
     final Subscription subscription = subscriptions.get(subscriptionId);
 
@@ -606,6 +606,44 @@ public class BlockchainQueries {
             header.getNumber()));
   }
 
+  /**
+   * Returns the receipts of all the transactions in a block, reading the block's header, body and
+   * receipts only once.
+   *
+   * @param blockHash The hash of the block whose transaction receipts should be retrieved.
+   * @return The transaction receipts of the block, in transaction order.
+   */
+  public Optional<List<TransactionReceiptWithMetadata>> transactionReceiptsByBlockHash(
+      final Hash blockHash) {
+    final Optional<BlockHeader> maybeHeader = blockchain.getBlockHeader(blockHash);
+    final Optional<BlockBody> maybeBody = blockchain.getBlockBody(blockHash);
+    final Optional<List<TransactionReceipt>> maybeReceipts = blockchain.getTxReceipts(blockHash);
+    if (maybeHeader.isEmpty() || maybeBody.isEmpty() || maybeReceipts.isEmpty()) {
+      return Optional.empty();
+    }
+    final long blockNumber = maybeHeader.get().getNumber();
+    final List<Transaction> transactions = maybeBody.get().getTransactions();
+    final List<TransactionReceipt> receipts = maybeReceipts.get();
+
+    final List<TransactionReceiptWithMetadata> result = new ArrayList<>(receipts.size());
+    long previousCumulativeGasUsed = 0;
+    for (int i = 0; i < receipts.size(); i++) {
+      final TransactionReceipt receipt = receipts.get(i);
+      final Transaction transaction = transactions.get(i);
+      result.add(
+          TransactionReceiptWithMetadata.create(
+              receipt,
+              transaction,
+              transaction.getHash(),
+              i,
+              receipt.getCumulativeGasUsed() - previousCumulativeGasUsed,
+              blockHash,
+              blockNumber));
+      previousCumulativeGasUsed = receipt.getCumulativeGasUsed();
+    }
+    return Optional.of(result);
+  }
+
   /**
    * Retrieve logs from the range of blocks with optional filtering based on logger address and log
    * topics.
@@ -89,6 +89,14 @@ public class LogsQuery {
     return matchesAddresses(log.getLogger()) && matchesTopics(log.getTopics());
   }
 
+  List<Address> getAddresses() {
+    return addresses;
+  }
+
+  List<List<LogTopic>> getTopics() {
+    return topics;
+  }
+
   private boolean matchesAddresses(final Address address) {
     return addresses.isEmpty() || addresses.contains(address);
   }
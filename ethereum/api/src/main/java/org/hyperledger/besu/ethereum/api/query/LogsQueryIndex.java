@@ -0,0 +1,177 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Log;
+import org.hyperledger.besu.ethereum.core.LogTopic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * An inverted index from log addresses and topics to the entries whose {@link LogsQuery} could
+ * match them, so each log only has to be checked against a few candidate queries rather than all
+ * of them.
+ *
+ * <p>Entries are indexed by the addresses in their query if it has any, otherwise by the topics of
+ * the first topic position that is not a wildcard. Queries with neither are checked against every
+ * log.
+ *
+ * @param <T> the type of entry stored in the index.
+ */
+public class LogsQueryIndex<T> {
+
+  private final Map<T, LogsQuery> queries = new ConcurrentHashMap<>();
+  private final Map<Address, Set<T>> byAddress = new ConcurrentHashMap<>();
+  private final Map<TopicPosition, Set<T>> byTopic = new ConcurrentHashMap<>();
+  private final Set<T> unindexed = ConcurrentHashMap.newKeySet();
+
+  public void add(final T entry, final LogsQuery query) {
+    queries.put(entry, query);
+    if (!query.getAddresses().isEmpty()) {
+      query.getAddresses().forEach(address -> addToBucket(byAddress, address, entry));
+      return;
+    }
+    final Optional<Integer> topicIndex = firstIndexedTopicPosition(query);
+    if (topicIndex.isPresent()) {
+      final int position = topicIndex.get();
+      query
+          .getTopics()
+          .get(position)
+          .forEach(topic -> addToBucket(byTopic, new TopicPosition(position, topic), entry));
+    } else {
+      unindexed.add(entry);
+    }
+  }
+
+  public void remove(final T entry) {
+    final LogsQuery query = queries.remove(entry);
+    if (query == null) {
+      return;
+    }
+    if (!query.getAddresses().isEmpty()) {
+      query.getAddresses().forEach(address -> removeFromBucket(byAddress, address, entry));
+      return;
+    }
+    final Optional<Integer> topicIndex = firstIndexedTopicPosition(query);
+    if (topicIndex.isPresent()) {
+      final int position = topicIndex.get();
+      query
+          .getTopics()
+          .get(position)
+          .forEach(topic -> removeFromBucket(byTopic, new TopicPosition(position, topic), entry));
+    } else {
+      unindexed.remove(entry);
+    }
+  }
+
+  public void clear() {
+    queries.clear();
+    byAddress.clear();
+    byTopic.clear();
+    unindexed.clear();
+  }
+
+  public boolean isEmpty() {
+    return queries.isEmpty();
+  }
+
+  /**
+   * Find the entries whose query matches the given log.
+   *
+   * @param log the log to match
+   * @return the matching entries
+   */
+  public Stream<T> matching(final Log log) {
+    final List<Collection<T>> candidates = new ArrayList<>();
+    candidates.add(unindexed);
+    Optional.ofNullable(byAddress.get(log.getLogger())).ifPresent(candidates::add);
+    final List<LogTopic> topics = log.getTopics();
+    for (int i = 0; i < topics.size(); i++) {
+      Optional.ofNullable(byTopic.get(new TopicPosition(i, topics.get(i))))
+          .ifPresent(candidates::add);
+    }
+    // An entry is only ever in one of the candidate buckets for a given log so there are no
+    // duplicates to remove.
+    return candidates.stream()
+        .flatMap(Collection::stream)
+        .filter(
+            entry -> {
+              final LogsQuery query = queries.get(entry);
+              return query != null && query.matches(log);
+            });
+  }
+
+  private static Optional<Integer> firstIndexedTopicPosition(final LogsQuery query) {
+    final List<List<LogTopic>> topics = query.getTopics();
+    for (int i = 0; i < topics.size(); i++) {
+      final List<LogTopic> criteria = topics.get(i);
+      if (!criteria.isEmpty() && !criteria.contains(null)) {
+        return Optional.of(i);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static <K, T> void addToBucket(final Map<K, Set<T>> index, final K key, final T entry) {
+    index.compute(
+        key,
+        (k, entries) -> {
+          final Set<T> bucket = entries != null ? entries : ConcurrentHashMap.newKeySet();
+          bucket.add(entry);
+          return bucket;
+        });
+  }
+
+  private static <K, T> void removeFromBucket(
+      final Map<K, Set<T>> index, final K key, final T entry) {
+    index.computeIfPresent(
+        key,
+        (k, entries) -> {
+          entries.remove(entry);
+          return entries.isEmpty() ? null : entries;
+        });
+  }
+
+  private static class TopicPosition {
+    private final int position;
+    private final LogTopic topic;
+
+    private TopicPosition(final int position, final LogTopic topic) {
+      this.position = position;
+      this.topic = topic;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      final TopicPosition that = (TopicPosition) o;
+      return position == that.position && topic.equals(that.topic);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * position + topic.hashCode();
+    }
+  }
+}
@@ -27,6 +27,7 @@ import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPInput;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.trie.CompactEncoding;
 import org.hyperledger.besu.ethereum.trie.Node;
 import org.hyperledger.besu.ethereum.trie.StoredMerklePatriciaTrie;
 import org.hyperledger.besu.ethereum.trie.TrieIterator;
@@ -37,28 +38,44 @@ import org.hyperledger.besu.plugin.data.Hash;
 import org.hyperledger.besu.util.io.RollingFileWriter;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes32;
 
 public class StateBackupService {
 
+  /**
+   * Accounts are backed up in one partition per value of the first nibble of their trie key, so
+   * each partition is the subtree below one child of the root branch node of the account trie.
+   */
+  public static final int ACCOUNT_PARTITIONS = 16;
+
   private static final Logger LOG = LogManager.getLogger();
   private static final Bytes ACCOUNT_END_MARKER;
 
@@ -77,7 +94,6 @@ public class StateBackupService {
   private final BackupStatus backupStatus = new BackupStatus();
 
   private Path backupDir;
-  private RollingFileWriter accountFileWriter;
 
   public StateBackupService(
       final String besuVersion,
@@ -145,6 +161,18 @@ public class StateBackupService {
             targetBlock, fileNumber, compressed ? "c" : "r"));
   }
 
+  public static Path accountFileName(
+      final Path backupDir,
+      final long targetBlock,
+      final int partition,
+      final int fileNumber,
+      final boolean compressed) {
+    return backupDir.resolve(
+        String.format(
+            "besu-account-backup-%08d-%02d-%04d.%sdat",
+            targetBlock, partition, fileNumber, compressed ? "c" : "r"));
+  }
+
   public static Path headerFileName(
       final Path backupDir, final int fileNumber, final boolean compressed) {
     return backupDir.resolve(
@@ -163,8 +191,9 @@ public class StateBackupService {
         String.format("besu-receipt-backup-%04d.%sdat", fileNumber, compressed ? "c" : "r"));
   }
 
-  private Path accountFileName(final int fileNumber, final boolean compressed) {
-    return accountFileName(backupDir, backupStatus.targetBlock, fileNumber, compressed);
+  private Path accountFileName(
+      final int partition, final int fileNumber, final boolean compressed) {
+    return accountFileName(backupDir, backupStatus.targetBlock, partition, fileNumber, compressed);
   }
 
   private Path headerFileName(final int fileNumber, final boolean compressed) {
@@ -187,6 +216,8 @@ public class StateBackupService {
       backupStatus.targetBlock = block;
       backupStatus.compressed = compress;
       backupStatus.currentAccount = Bytes32.ZERO;
+      backupStatus.partitionAccounts = new AtomicReferenceArray<>(ACCOUNT_PARTITIONS);
+      backupStatus.partitionAccountCounts = new AtomicLongArray(ACCOUNT_PARTITIONS);
 
       backupChainData();
       backupLeaves();
@@ -206,6 +237,11 @@ public class StateBackupService {
     manifest.put("compressed", backupStatus.compressed);
     manifest.put("targetBlock", backupStatus.targetBlock);
     manifest.put("accountCount", backupStatus.accountCount);
+    final List<Long> partitionAccountCounts = new ArrayList<>();
+    for (int partition = 0; partition < ACCOUNT_PARTITIONS; partition++) {
+      partitionAccountCounts.add(backupStatus.partitionAccountCounts.get(partition));
+    }
+    manifest.put("accountPartitionCounts", partitionAccountCounts);
 
     Files.write(
         backupDir.resolve("besu-backup-manifest.json"),
@@ -225,28 +261,98 @@ public class StateBackupService {
       return;
     }
 
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(ACCOUNT_PARTITIONS, Runtime.getRuntime().availableProcessors()),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat(this.getClass().getSimpleName() + "-%d")
+                .build());
+    try {
+      final List<Future<Void>> partitions = new ArrayList<>();
+      for (int partition = 0; partition < ACCOUNT_PARTITIONS; partition++) {
+        final int partitionToBackup = partition;
+        partitions.add(
+            executor.submit(
+                () -> {
+                  backupPartition(header.get().getStateRoot(), partitionToBackup);
+                  return null;
+                }));
+      }
+      for (final Future<Void> partition : partitions) {
+        partition.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while backing up account data", e);
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+      backupStatus.currentAccount = null;
+    }
+  }
+
+  private void backupPartition(final Bytes32 stateRoot, final int partition) throws IOException {
     try (final RollingFileWriter accountFileWriter =
-        new RollingFileWriter(this::accountFileName, backupStatus.compressed)) {
-      this.accountFileWriter = accountFileWriter;
+        new RollingFileWriter(
+            (fileNumber, compressed) -> accountFileName(partition, fileNumber, compressed),
+            backupStatus.compressed)) {
 
+      // each partition walks its own trie, as the iterator unloads the nodes it has visited
       final StoredMerklePatriciaTrie<Bytes32, Bytes> accountTrie =
           new StoredMerklePatriciaTrie<>(
               worldStateStorage::getAccountStateTrieNode,
-              header.get().getStateRoot(),
+              stateRoot,
               Function.identity(),
               Function.identity());
 
-      accountTrie.visitLeafs(this::visitAccount);
-      backupStatus.currentAccount = null;
+      accountTrie.acceptAtRoot(
+          new TrieIterator<>(
+              (nodeKey, node) ->
+                  accountPartition(nodeKey) == partition
+                      ? visitAccount(nodeKey, node, partition, accountFileWriter)
+                      : State.STOP,
+              true),
+          CompactEncoding.bytesToPath(partitionStart(partition)));
+      backupStatus.partitionAccounts.set(partition, partitionEnd(partition));
     }
   }
 
-  private TrieIterator.State visitAccount(final Bytes32 nodeKey, final Node<Bytes> node) {
+  private static int accountPartition(final Bytes32 accountKey) {
+    return (accountKey.get(0) & 0xff) >>> 4;
+  }
+
+  private static Bytes32 partitionStart(final int partition) {
+    final MutableBytes32 start = MutableBytes32.create();
+    start.set(0, (byte) (partition << 4));
+    return start;
+  }
+
+  private static Bytes32 partitionEnd(final int partition) {
+    final MutableBytes32 end = MutableBytes32.create();
+    end.fill((byte) 0xff);
+    end.set(0, (byte) ((partition << 4) | 0x0f));
+    return end;
+  }
+
+  private TrieIterator.State visitAccount(
+      final Bytes32 nodeKey,
+      final Node<Bytes> node,
+      final int partition,
+      final RollingFileWriter accountFileWriter) {
     if (node.getValue().isEmpty()) {
       return State.CONTINUE;
     }
 
     backupStatus.currentAccount = nodeKey;
+    backupStatus.partitionAccounts.set(partition, nodeKey);
     final Bytes nodeValue = node.getValue().orElse(Hash.EMPTY);
     final StateTrieAccountValue account =
         StateTrieAccountValue.readFrom(new BytesValueRLPInput(nodeValue, false));
@@ -287,6 +393,7 @@ public class StateBackupService {
     }
 
     backupStatus.accountCount.incrementAndGet();
+    backupStatus.partitionAccountCounts.incrementAndGet(partition);
     return State.CONTINUE;
   }
 
@@ -354,6 +461,9 @@ public class StateBackupService {
     AtomicLong accountCount = new AtomicLong(0);
     AtomicLong codeSize = new AtomicLong(0);
     AtomicLong storageCount = new AtomicLong(0);
+    AtomicReferenceArray<Bytes32> partitionAccounts =
+        new AtomicReferenceArray<>(ACCOUNT_PARTITIONS);
+    AtomicLongArray partitionAccountCounts = new AtomicLongArray(ACCOUNT_PARTITIONS);
     boolean requestAccepted;
 
     @JsonGetter
@@ -401,6 +511,27 @@ public class StateBackupService {
       return currentAccount;
     }
 
+    /**
+     * The fraction of the account key space backed up so far. Partitions are backed up in parallel,
+     * so this sums the progress made in each of them.
+     *
+     * @return the backed up fraction of the key space, between 0 and 1
+     */
+    @JsonIgnore
+    public double getStateProgress() {
+      BigInteger covered = BigInteger.ZERO;
+      for (int partition = 0; partition < partitionAccounts.length(); partition++) {
+        final Bytes32 account = partitionAccounts.get(partition);
+        if (account != null) {
+          covered =
+              covered
+                  .add(account.toUnsignedBigInteger())
+                  .subtract(partitionStart(partition).toUnsignedBigInteger());
+        }
+      }
+      return covered.doubleValue() / Math.pow(2, 256);
+    }
+
     @JsonIgnore
     public long getStoredBlockNum() {
       return storedBlock;
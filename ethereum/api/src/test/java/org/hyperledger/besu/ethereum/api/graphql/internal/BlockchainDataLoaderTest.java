@@ -0,0 +1,121 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.WorldState;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BlockchainDataLoaderTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final Hash blockHash = gen.hash();
+  private final Transaction firstTransaction = gen.transaction();
+  private final Transaction secondTransaction = gen.transaction();
+
+  @Mock private BlockchainQueries blockchainQueries;
+  @Mock private WorldState worldState;
+  private BlockchainDataLoader dataLoader;
+
+  @Before
+  public void setUp() {
+    dataLoader = new BlockchainDataLoader(blockchainQueries);
+  }
+
+  @Test
+  public void shouldLoadReceiptsForWholeBlockOnce() {
+    final List<TransactionReceiptWithMetadata> receipts =
+        List.of(receipt(firstTransaction, 0), receipt(secondTransaction, 1));
+    when(blockchainQueries.transactionReceiptsByBlockHash(blockHash))
+        .thenReturn(Optional.of(receipts));
+
+    assertThat(dataLoader.transactionReceipt(minedTransaction(firstTransaction, 0)))
+        .contains(receipts.get(0));
+    assertThat(dataLoader.transactionReceipt(minedTransaction(secondTransaction, 1)))
+        .contains(receipts.get(1));
+    assertThat(dataLoader.transactionReceipt(minedTransaction(secondTransaction, 1)))
+        .contains(receipts.get(1));
+
+    verify(blockchainQueries, times(1)).transactionReceiptsByBlockHash(blockHash);
+    verify(blockchainQueries, never()).transactionReceiptByTransactionHash(any());
+  }
+
+  @Test
+  public void shouldFallBackToReceiptByTransactionHashWhenBlockReceiptsAreMissing() {
+    final TransactionReceiptWithMetadata receipt = receipt(firstTransaction, 0);
+    when(blockchainQueries.transactionReceiptsByBlockHash(blockHash)).thenReturn(Optional.empty());
+    when(blockchainQueries.transactionReceiptByTransactionHash(firstTransaction.getHash()))
+        .thenReturn(Optional.of(receipt));
+
+    assertThat(dataLoader.transactionReceipt(minedTransaction(firstTransaction, 0)))
+        .contains(receipt);
+    assertThat(dataLoader.transactionReceipt(minedTransaction(firstTransaction, 0)))
+        .contains(receipt);
+
+    verify(blockchainQueries, times(1))
+        .transactionReceiptByTransactionHash(firstTransaction.getHash());
+  }
+
+  @Test
+  public void shouldMemoizeWorldStates() {
+    when(blockchainQueries.getWorldState(5L)).thenReturn(Optional.of(worldState));
+
+    assertThat(dataLoader.getWorldState(5L)).contains(worldState);
+    assertThat(dataLoader.getWorldState(5L)).contains(worldState);
+
+    verify(blockchainQueries, times(1)).getWorldState(5L);
+  }
+
+  @Test
+  public void shouldMemoizeMissingTransactions() {
+    final Hash transactionHash = gen.hash();
+    when(blockchainQueries.transactionByHash(transactionHash)).thenReturn(Optional.empty());
+
+    assertThat(dataLoader.transactionByHash(transactionHash)).isEmpty();
+    assertThat(dataLoader.transactionByHash(transactionHash)).isEmpty();
+
+    verify(blockchainQueries, times(1)).transactionByHash(transactionHash);
+  }
+
+  private TransactionWithMetadata minedTransaction(final Transaction transaction, final int index) {
+    return new TransactionWithMetadata(transaction, 1L, blockHash, index);
+  }
+
+  private TransactionReceiptWithMetadata receipt(final Transaction transaction, final int index) {
+    return TransactionReceiptWithMetadata.create(
+        gen.receipt(), transaction, transaction.getHash(), index, 21_000L, blockHash, 1L);
+  }
+}
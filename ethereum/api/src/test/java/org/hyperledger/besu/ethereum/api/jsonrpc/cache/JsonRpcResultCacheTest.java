@@ -0,0 +1,149 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.Map;
+
+import io.vertx.core.json.Json;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class JsonRpcResultCacheTest {
+
+  private static final String BLOCK_BY_NUMBER = RpcMethod.ETH_GET_BLOCK_BY_NUMBER.getMethodName();
+
+  private final Blockchain blockchain = mock(Blockchain.class);
+  private final JsonRpcMethod method = mock(JsonRpcMethod.class);
+  private JsonRpcResultCache resultCache;
+  private BlockAddedObserver blockAddedObserver;
+
+  @Before
+  public void setUp() {
+    when(blockchain.getChainHeadHash()).thenReturn(Hash.ZERO);
+    when(method.getName()).thenReturn(BLOCK_BY_NUMBER);
+    when(method.response(any()))
+        .thenAnswer(
+            invocation ->
+                new JsonRpcSuccessResponse(
+                    null, Map.of("number", "0x1", "hash", Hash.ZERO.toHexString())));
+    resultCache = new JsonRpcResultCache(blockchain, new NoOpMetricsSystem(), 1024 * 1024);
+
+    final ArgumentCaptor<BlockAddedObserver> observerCaptor =
+        ArgumentCaptor.forClass(BlockAddedObserver.class);
+    verify(blockchain).observeBlockAdded(observerCaptor.capture());
+    blockAddedObserver = observerCaptor.getValue();
+  }
+
+  @Test
+  public void shouldOnlyComputeIdenticalRequestsOnce() {
+    final JsonRpcMethod cachingMethod = wrap(method);
+
+    final JsonRpcResponse first = cachingMethod.response(request("latest", true));
+    final JsonRpcResponse second = cachingMethod.response(request("latest", true));
+
+    verify(method, times(1)).response(any());
+    assertThat(Json.encode(second)).isEqualTo(Json.encode(first));
+    assertThat(Json.encode(first))
+        .isEqualTo(
+            Json.encode(
+                new JsonRpcSuccessResponse(
+                    null, Map.of("number", "0x1", "hash", Hash.ZERO.toHexString()))));
+  }
+
+  @Test
+  public void shouldComputeRequestsWithDifferentParamsSeparately() {
+    final JsonRpcMethod cachingMethod = wrap(method);
+
+    cachingMethod.response(request("latest", true));
+    cachingMethod.response(request("latest", false));
+
+    verify(method, times(2)).response(any());
+    assertThat(resultCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRecomputeResultsWhenChainHeadChanges() {
+    final JsonRpcMethod cachingMethod = wrap(method);
+
+    cachingMethod.response(request("latest", true));
+    when(blockchain.getChainHeadHash()).thenReturn(Hash.EMPTY);
+    cachingMethod.response(request("latest", true));
+
+    verify(method, times(2)).response(any());
+  }
+
+  @Test
+  public void shouldClearCacheWhenBlockIsAdded() {
+    wrap(method).response(request("latest", true));
+    assertThat(resultCache.size()).isEqualTo(1);
+
+    blockAddedObserver.onBlockAdded(null);
+
+    assertThat(resultCache.size()).isZero();
+  }
+
+  @Test
+  public void shouldNotCacheErrors() {
+    final JsonRpcErrorResponse error = new JsonRpcErrorResponse(null, JsonRpcError.INTERNAL_ERROR);
+    when(method.response(any())).thenReturn(error);
+    final JsonRpcMethod cachingMethod = wrap(method);
+
+    assertThat(cachingMethod.response(request("latest", true))).isEqualTo(error);
+    assertThat(cachingMethod.response(request("latest", true))).isEqualTo(error);
+
+    verify(method, times(2)).response(any());
+    assertThat(resultCache.size()).isZero();
+  }
+
+  @Test
+  public void shouldOnlyWrapCacheableMethods() {
+    final JsonRpcMethod other = mock(JsonRpcMethod.class);
+
+    final Map<String, JsonRpcMethod> wrapped =
+        resultCache.wrap(Map.of(BLOCK_BY_NUMBER, method, "eth_getBalance", other));
+
+    assertThat(wrapped.get(BLOCK_BY_NUMBER)).isNotSameAs(method);
+    assertThat(wrapped.get("eth_getBalance")).isSameAs(other);
+  }
+
+  private JsonRpcMethod wrap(final JsonRpcMethod method) {
+    return resultCache.wrap(Map.of(method.getName(), method)).get(method.getName());
+  }
+
+  private JsonRpcRequestContext request(final Object... params) {
+    return new JsonRpcRequestContext(new JsonRpcRequest("2.0", BLOCK_BY_NUMBER, params));
+  }
+}
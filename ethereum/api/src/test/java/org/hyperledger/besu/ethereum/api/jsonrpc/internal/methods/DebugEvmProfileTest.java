@@ -0,0 +1,90 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcError;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.Stats;
+
+import java.util.Optional;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+public class DebugEvmProfileTest {
+
+  private final ProfilingOperationTracer profiler = mock(ProfilingOperationTracer.class);
+  private final DebugEvmProfile method = new DebugEvmProfile(Optional.of(profiler));
+
+  @Test
+  public void shouldHaveCorrectName() {
+    assertThat(method.getName()).isEqualTo("debug_evmProfile");
+  }
+
+  @Test
+  public void shouldReturnErrorWhenProfilingIsNotEnabled() {
+    final DebugEvmProfile disabledMethod = new DebugEvmProfile(Optional.empty());
+
+    final JsonRpcErrorResponse response =
+        (JsonRpcErrorResponse) disabledMethod.response(request());
+
+    assertThat(response.getError()).isEqualTo(JsonRpcError.EVM_PROFILING_NOT_ENABLED);
+  }
+
+  @Test
+  public void shouldReportOperationsAndContracts() {
+    final Address contract = Address.fromHexString("0x01");
+    when(profiler.getOperationStats()).thenReturn(ImmutableMap.of("ADD", new Stats(2, 6, 100)));
+    when(profiler.getContractStats(10)).thenReturn(ImmutableMap.of(contract, new Stats(2, 6, 100)));
+    when(profiler.getUntrackedContractStats()).thenReturn(new Stats(0, 0, 0));
+
+    final JsonRpcSuccessResponse response = (JsonRpcSuccessResponse) method.response(request(10));
+
+    assertThat(response.getResult())
+        .isEqualTo(
+            ImmutableMap.of(
+                "operations",
+                ImmutableMap.of("ADD", ImmutableMap.of("count", 2L, "gas", 6L, "nanos", 100L)),
+                "contracts",
+                ImmutableMap.of(
+                    contract.toHexString(),
+                    ImmutableMap.of("count", 2L, "gas", 6L, "nanos", 100L)),
+                "untrackedContracts",
+                ImmutableMap.of("count", 0L, "gas", 0L, "nanos", 0L)));
+  }
+
+  @Test
+  public void shouldResetProfileWhenRequested() {
+    when(profiler.getUntrackedContractStats()).thenReturn(new Stats(0, 0, 0));
+
+    method.response(request(10, true));
+
+    verify(profiler).reset();
+  }
+
+  private JsonRpcRequestContext request(final Object... params) {
+    return new JsonRpcRequestContext(new JsonRpcRequest("2.0", "debug_evmProfile", params));
+  }
+}
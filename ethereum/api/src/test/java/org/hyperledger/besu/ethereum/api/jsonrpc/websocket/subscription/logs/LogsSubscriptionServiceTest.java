@@ -16,7 +16,9 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,6 +46,7 @@ import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -98,7 +101,8 @@ public class LogsSubscriptionServiceTest {
     blockchain.appendBlock(blockWithReceipts.getBlock(), blockWithReceipts.getReceipts());
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
-    verify(subscriptionManager).sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+    verify(subscriptionManager)
+        .sendMessage(containsSubscription(subscription.getSubscriptionId()), captor.capture());
 
     final List<LogResult> logResults = captor.getAllValues();
 
@@ -132,7 +136,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(2))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(containsSubscription(subscription.getSubscriptionId()), captor.capture());
 
     final List<LogResult> logResults = captor.getAllValues();
 
@@ -175,7 +179,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(3))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(containsSubscription(subscription.getSubscriptionId()), captor.capture());
 
     final List<LogResult> logResults = captor.getAllValues();
 
@@ -213,7 +217,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(targetBlocks.size() * txCount))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(containsSubscription(subscription.getSubscriptionId()), captor.capture());
     final List<LogResult> logResults = captor.getAllValues();
 
     // Verify all logs are emitted
@@ -253,7 +257,7 @@ public class LogsSubscriptionServiceTest {
     for (LogsSubscription subscription : subscriptions) {
       final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
       verify(subscriptionManager)
-          .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+          .sendMessage(containsSubscription(subscription.getSubscriptionId()), captor.capture());
 
       final List<LogResult> logResults = captor.getAllValues();
 
@@ -274,7 +278,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(0))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(containsSubscription(subscription.getSubscriptionId()), captor.capture());
   }
 
   @Test
@@ -288,7 +292,7 @@ public class LogsSubscriptionServiceTest {
 
     final ArgumentCaptor<LogResult> captor = ArgumentCaptor.forClass(LogResult.class);
     verify(subscriptionManager, times(0))
-        .sendMessage(eq(subscription.getSubscriptionId()), captor.capture());
+        .sendMessage(containsSubscription(subscription.getSubscriptionId()), captor.capture());
   }
 
   @Test
@@ -427,6 +431,20 @@ public class LogsSubscriptionServiceTest {
   private void registerSubscriptions(final List<LogsSubscription> subscriptions) {
     when(subscriptionManager.subscriptionsOfType(any(), any()))
         .thenReturn(Lists.newArrayList(subscriptions));
+    lenient()
+        .when(subscriptionManager.logsSubscriptionsMatching(any()))
+        .thenAnswer(
+            invocation -> {
+              final Log log = invocation.getArgument(0);
+              return subscriptions.stream()
+                  .filter(
+                      subscription ->
+                          subscription.getFilterParameter().getLogsQuery().matches(log));
+            });
+  }
+
+  private static Collection<Long> containsSubscription(final Long subscriptionId) {
+    return argThat(subscriptionIds -> subscriptionIds.contains(subscriptionId));
   }
 
   private LogWithMetadata logWithMetadata() {
@@ -71,6 +71,38 @@ public class BlockchainQueriesTest {
     assertBlockMatchesResult(targetBlock, result);
   }
 
+  @Test
+  public void transactionReceiptsByBlockHashShouldMatchReceiptsByTransactionHash() {
+    final BlockchainWithData data = setupBlockchain(3);
+    final BlockchainQueries queries = data.blockchainQueries;
+
+    final Block targetBlock = data.blockData.get(2).block;
+    final List<TransactionReceiptWithMetadata> result =
+        queries.transactionReceiptsByBlockHash(targetBlock.getHash()).get();
+
+    final List<Transaction> transactions = targetBlock.getBody().getTransactions();
+    assertThat(result).hasSize(transactions.size());
+    for (int i = 0; i < transactions.size(); i++) {
+      final TransactionReceiptWithMetadata expected =
+          queries.transactionReceiptByTransactionHash(transactions.get(i).getHash()).get();
+      final TransactionReceiptWithMetadata actual = result.get(i);
+      assertThat(actual.getTransactionHash()).isEqualTo(expected.getTransactionHash());
+      assertThat(actual.getTransactionIndex()).isEqualTo(expected.getTransactionIndex());
+      assertThat(actual.getReceipt()).isEqualTo(expected.getReceipt());
+      assertThat(actual.getGasUsed()).isEqualTo(expected.getGasUsed());
+      assertThat(actual.getBlockHash()).isEqualTo(expected.getBlockHash());
+      assertThat(actual.getBlockNumber()).isEqualTo(expected.getBlockNumber());
+    }
+  }
+
+  @Test
+  public void transactionReceiptsByBlockHashForInvalidHash() {
+    final BlockchainWithData data = setupBlockchain(2);
+    final BlockchainQueries queries = data.blockchainQueries;
+
+    assertThat(queries.transactionReceiptsByBlockHash(gen.hash())).isEmpty();
+  }
+
   @Test
   public void transactionByBlockHashAndIndexForInvalidHash() {
     final BlockchainWithData data = setupBlockchain(2);
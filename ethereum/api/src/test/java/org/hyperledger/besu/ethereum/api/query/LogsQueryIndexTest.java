@@ -0,0 +1,103 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Log;
+import org.hyperledger.besu.ethereum.core.LogTopic;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class LogsQueryIndexTest {
+
+  private static final Address FIRST_ADDRESS = Address.fromHexString("0x01");
+  private static final Address SECOND_ADDRESS = Address.fromHexString("0x02");
+  private static final LogTopic FIRST_TOPIC =
+      LogTopic.fromHexString("ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef");
+  private static final LogTopic SECOND_TOPIC =
+      LogTopic.fromHexString("0000000000000000000000008320fe7702b96808f7bbc0d4a888ed1468216cfd");
+
+  private final LogsQueryIndex<String> index = new LogsQueryIndex<>();
+
+  @Test
+  public void shouldMatchQueriesByAddress() {
+    index.add("first", new LogsQuery(singletonList(FIRST_ADDRESS), emptyList()));
+    index.add("second", new LogsQuery(singletonList(SECOND_ADDRESS), emptyList()));
+
+    assertThat(matching(new Log(FIRST_ADDRESS, Bytes.EMPTY, emptyList())))
+        .containsExactly("first");
+  }
+
+  @Test
+  public void shouldMatchQueriesByTopicPosition() {
+    index.add("first", new LogsQuery(emptyList(), List.of(singletonList(FIRST_TOPIC))));
+    index.add(
+        "second",
+        new LogsQuery(
+            emptyList(), List.of(Arrays.asList((LogTopic) null), singletonList(FIRST_TOPIC))));
+
+    assertThat(matching(new Log(SECOND_ADDRESS, Bytes.EMPTY, List.of(FIRST_TOPIC))))
+        .containsExactly("first");
+    assertThat(matching(new Log(SECOND_ADDRESS, Bytes.EMPTY, List.of(SECOND_TOPIC, FIRST_TOPIC))))
+        .containsExactly("second");
+  }
+
+  @Test
+  public void shouldMatchUnrestrictedQueriesAgainstEveryLog() {
+    index.add("all", new LogsQuery(emptyList(), emptyList()));
+
+    assertThat(matching(new Log(FIRST_ADDRESS, Bytes.EMPTY, emptyList()))).containsExactly("all");
+    assertThat(matching(new Log(SECOND_ADDRESS, Bytes.EMPTY, List.of(FIRST_TOPIC))))
+        .containsExactly("all");
+  }
+
+  @Test
+  public void shouldStillCheckTheFullQueryForCandidates() {
+    index.add(
+        "filtered",
+        new LogsQuery(singletonList(FIRST_ADDRESS), List.of(singletonList(FIRST_TOPIC))));
+
+    assertThat(matching(new Log(FIRST_ADDRESS, Bytes.EMPTY, List.of(SECOND_TOPIC)))).isEmpty();
+    assertThat(matching(new Log(FIRST_ADDRESS, Bytes.EMPTY, List.of(FIRST_TOPIC))))
+        .containsExactly("filtered");
+  }
+
+  @Test
+  public void shouldNotMatchRemovedEntries() {
+    index.add("first", new LogsQuery(singletonList(FIRST_ADDRESS), emptyList()));
+    index.add("topic", new LogsQuery(emptyList(), List.of(singletonList(FIRST_TOPIC))));
+    index.add("all", new LogsQuery(emptyList(), emptyList()));
+
+    index.remove("first");
+    index.remove("topic");
+    index.remove("all");
+
+    assertThat(matching(new Log(FIRST_ADDRESS, Bytes.EMPTY, List.of(FIRST_TOPIC)))).isEmpty();
+    assertThat(index.isEmpty()).isTrue();
+  }
+
+  private List<String> matching(final Log log) {
+    return index.matching(log).collect(toList());
+  }
+}
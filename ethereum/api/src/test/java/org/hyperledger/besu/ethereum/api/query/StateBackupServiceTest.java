@@ -42,6 +42,19 @@ public class StateBackupServiceTest {
         .isEqualTo("/tmp/backup/besu-account-backup-06000000-0046.cdat");
   }
 
+  @Test
+  public void partitionedLeafFileName() {
+    assertThat(StateBackupService.accountFileName(backupDir, 4_000_000, 3, 42, false).toString())
+        .isEqualTo("/tmp/backup/besu-account-backup-04000000-03-0042.rdat");
+    assertThat(StateBackupService.accountFileName(backupDir, 6_000_000, 15, 46, true).toString())
+        .isEqualTo("/tmp/backup/besu-account-backup-06000000-15-0046.cdat");
+    assertThat(
+            StateBackupService.dataFileToIndex(
+                    StateBackupService.accountFileName(backupDir, 6_000_000, 15, 0, true))
+                .toString())
+        .isEqualTo("/tmp/backup/besu-account-backup-06000000-15.cidx");
+  }
+
   @Test
   public void headerFileName() {
     assertThat(StateBackupService.headerFileName(backupDir, 42, false).toString())
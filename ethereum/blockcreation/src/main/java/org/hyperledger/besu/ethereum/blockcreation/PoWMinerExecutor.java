@@ -22,10 +22,12 @@ import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.EpochCalculator;
+import org.hyperledger.besu.ethereum.mainnet.PoWHasher;
 import org.hyperledger.besu.ethereum.mainnet.PoWSolver;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.util.Subscribers;
 
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -35,6 +37,8 @@ public class PoWMinerExecutor extends AbstractMinerExecutor<PoWBlockMiner> {
   protected boolean stratumMiningEnabled;
   protected final Iterable<Long> nonceGenerator;
   protected final EpochCalculator epochCalculator;
+  protected final int minerThreads;
+  protected Optional<PoWHasher> ethHashFullHasher = Optional.empty();
 
   public PoWMinerExecutor(
       final ProtocolContext protocolContext,
@@ -54,6 +58,7 @@ public class PoWMinerExecutor extends AbstractMinerExecutor<PoWBlockMiner> {
     this.coinbase = miningParams.getCoinbase();
     this.nonceGenerator = miningParams.getNonceGenerator().orElse(new RandomNonceGenerator());
     this.epochCalculator = epochCalculator;
+    this.minerThreads = miningParams.getMinerThreads();
   }
 
   @Override
@@ -72,13 +77,18 @@ public class PoWMinerExecutor extends AbstractMinerExecutor<PoWBlockMiner> {
       final Subscribers<MinedBlockObserver> observers,
       final Subscribers<PoWObserver> ethHashObservers,
       final BlockHeader parentHeader) {
+    final PoWHasher specHasher =
+        protocolSchedule.getByBlockNumber(parentHeader.getNumber() + 1).getPoWHasher().get();
+    final PoWHasher poWHasher =
+        specHasher == PoWHasher.ETHASH_LIGHT ? ethHashFullHasher.orElse(specHasher) : specHasher;
     final PoWSolver solver =
         new PoWSolver(
             nonceGenerator,
-            protocolSchedule.getByBlockNumber(parentHeader.getNumber() + 1).getPoWHasher().get(),
+            poWHasher,
             stratumMiningEnabled,
             ethHashObservers,
-            epochCalculator);
+            epochCalculator,
+            minerThreads);
     final Function<BlockHeader, PoWBlockCreator> blockCreator =
         (header) ->
             new PoWBlockCreator(
@@ -109,6 +119,16 @@ public class PoWMinerExecutor extends AbstractMinerExecutor<PoWBlockMiner> {
     this.stratumMiningEnabled = stratumMiningEnabled;
   }
 
+  /**
+   * Mines EthHash blocks using the full dataset, kept in the given directory, rather than the
+   * light cache.
+   *
+   * @param datasetDirectory the directory holding the EthHash datasets
+   */
+  public void enableEthHashFullDataset(final Path datasetDirectory) {
+    this.ethHashFullHasher = Optional.of(new PoWHasher.EthashFull(datasetDirectory));
+  }
+
   @Override
   public Optional<Address> getCoinbase() {
     return coinbase;
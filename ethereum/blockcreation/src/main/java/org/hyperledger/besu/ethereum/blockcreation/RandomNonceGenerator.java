@@ -19,7 +19,11 @@ import org.hyperledger.besu.crypto.SecureRandomProvider;
 import java.util.Iterator;
 import java.util.Random;
 
-/** Creates an everlasting random long value (for use in nonces). */
+/**
+ * Creates an everlasting sequence of long values (for use in nonces). Each iterator starts at its
+ * own random value and counts up from there, so iterators used by different mining threads do not
+ * contend on the secure random.
+ */
 public class RandomNonceGenerator implements Iterable<Long> {
 
   private final Random longGenerator;
@@ -31,6 +35,8 @@ public class RandomNonceGenerator implements Iterable<Long> {
   @Override
   public Iterator<Long> iterator() {
     return new Iterator<Long>() {
+      private long nextNonce = longGenerator.nextLong();
+
       @Override
       public boolean hasNext() {
         return true;
@@ -38,7 +44,7 @@ public class RandomNonceGenerator implements Iterable<Long> {
 
       @Override
       public Long next() {
-        return longGenerator.nextLong();
+        return nextNonce++;
       }
     };
   }
@@ -0,0 +1,65 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.vm;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+public class MemoryBenchmark {
+
+  private static final Bytes32 WORD =
+      Bytes32.fromHexString("0x0102030405060708091011121314151617181920212223242526272829303132");
+
+  @Param({"1024", "32768", "1048576"})
+  public int memorySize;
+
+  private UInt256[] offsets;
+  private Memory expandedMemory;
+
+  @Setup
+  public void prepare() {
+    offsets = new UInt256[memorySize / Bytes32.SIZE];
+    for (int i = 0; i < offsets.length; i++) {
+      offsets[i] = UInt256.valueOf((long) i * Bytes32.SIZE);
+    }
+    expandedMemory = new Memory();
+    expandedMemory.ensureCapacityForBytes(0, memorySize);
+  }
+
+  /** Grows memory one word at a time, as an abi-encoding loop would. */
+  @Benchmark
+  public Memory expandByWord() {
+    final Memory memory = new Memory();
+    for (final UInt256 offset : offsets) {
+      memory.setWord(offset, WORD);
+    }
+    return memory;
+  }
+
+  @Benchmark
+  public void storeAndLoadWords(final Blackhole blackhole) {
+    for (final UInt256 offset : offsets) {
+      expandedMemory.setWord(offset, WORD);
+      blackhole.consume(expandedMemory.getWord(offset));
+    }
+  }
+}
@@ -25,6 +25,9 @@ import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.mainnet.BlockBodyValidator;
 import org.hyperledger.besu.ethereum.mainnet.BlockHeaderValidator;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.Phase;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.PhaseTimer;
 import org.hyperledger.besu.ethereum.mainnet.BlockProcessor;
 import org.hyperledger.besu.ethereum.mainnet.BlockProcessor.Result;
 import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
@@ -88,7 +91,12 @@ public class MainnetBlockValidator implements BlockValidator {
     }
     final BlockHeader parentHeader = maybeParentHeader.get();
 
-    if (!blockHeaderValidator.validateHeader(header, parentHeader, context, headerValidationMode)) {
+    final PhaseTimer headerValidationTimer =
+        BlockProcessingMetrics.startPhase(Phase.HEADER_VALIDATION);
+    final boolean validHeader =
+        blockHeaderValidator.validateHeader(header, parentHeader, context, headerValidationMode);
+    headerValidationTimer.stop();
+    if (!validHeader) {
       badBlockManager.addBadBlock(block);
       return Optional.empty();
     }
@@ -114,8 +122,12 @@ public class MainnetBlockValidator implements BlockValidator {
     }
 
     List<TransactionReceipt> receipts = result.getReceipts();
-    if (!blockBodyValidator.validateBody(
-        context, block, receipts, worldState.rootHash(), ommerValidationMode)) {
+    final PhaseTimer bodyValidationTimer = BlockProcessingMetrics.startPhase(Phase.BODY_VALIDATION);
+    final boolean validBody =
+        blockBodyValidator.validateBody(
+            context, block, receipts, worldState.rootHash(), ommerValidationMode);
+    bodyValidationTimer.stop();
+    if (!validBody) {
       badBlockManager.addBadBlock(block);
       return Optional.empty();
     }
@@ -17,7 +17,9 @@ package org.hyperledger.besu.ethereum;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.chain.GenesisState;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
 import java.util.function.BiFunction;
 
@@ -30,21 +32,36 @@ public class ProtocolContext {
   private final MutableBlockchain blockchain;
   private final WorldStateArchive worldStateArchive;
   private final Object consensusState;
+  private final BlockProcessingMetrics blockProcessingMetrics;
 
   public ProtocolContext(
       final MutableBlockchain blockchain,
       final WorldStateArchive worldStateArchive,
       final Object consensusState) {
+    this(
+        blockchain,
+        worldStateArchive,
+        consensusState,
+        new BlockProcessingMetrics(new NoOpMetricsSystem()));
+  }
+
+  public ProtocolContext(
+      final MutableBlockchain blockchain,
+      final WorldStateArchive worldStateArchive,
+      final Object consensusState,
+      final BlockProcessingMetrics blockProcessingMetrics) {
     this.blockchain = blockchain;
     this.worldStateArchive = worldStateArchive;
     this.consensusState = consensusState;
+    this.blockProcessingMetrics = blockProcessingMetrics;
   }
 
   public static ProtocolContext init(
       final MutableBlockchain blockchain,
       final WorldStateArchive worldStateArchive,
       final GenesisState genesisState,
-      final BiFunction<Blockchain, WorldStateArchive, Object> consensusContextFactory) {
+      final BiFunction<Blockchain, WorldStateArchive, Object> consensusContextFactory,
+      final BlockProcessingMetrics blockProcessingMetrics) {
     if (blockchain.getChainHeadBlockNumber() < 1) {
       genesisState.writeStateTo(worldStateArchive.getMutable());
     }
@@ -52,7 +69,8 @@ public class ProtocolContext {
     return new ProtocolContext(
         blockchain,
         worldStateArchive,
-        consensusContextFactory.apply(blockchain, worldStateArchive));
+        consensusContextFactory.apply(blockchain, worldStateArchive),
+        blockProcessingMetrics);
   }
 
   public MutableBlockchain getBlockchain() {
@@ -63,6 +81,10 @@ public class ProtocolContext {
     return worldStateArchive;
   }
 
+  public BlockProcessingMetrics getBlockProcessingMetrics() {
+    return blockProcessingMetrics;
+  }
+
   public <C> C getConsensusState(final Class<C> klass) {
     return klass.cast(consensusState);
   }
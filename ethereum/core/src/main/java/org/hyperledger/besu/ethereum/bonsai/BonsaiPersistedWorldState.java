@@ -26,6 +26,9 @@ import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.Phase;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.PhaseTimer;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.trie.StoredMerklePatriciaTrie;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateStorage;
@@ -236,7 +239,9 @@ public class BonsaiPersistedWorldState implements MutableWorldState, BonsaiWorld
     final BonsaiWorldStateKeyValueStorage.Updater stateUpdater = worldStateStorage.updater();
 
     try {
+      final PhaseTimer stateRootTimer = BlockProcessingMetrics.startPhase(Phase.STATE_ROOT);
       worldStateRootHash = calculateRootHash(stateUpdater);
+      stateRootTimer.stop();
       stateUpdater
           .getTrieBranchStorageTransaction()
           .put(WORLD_ROOT_HASH_KEY, worldStateRootHash.toArrayUnsafe());
@@ -279,7 +284,9 @@ public class BonsaiPersistedWorldState implements MutableWorldState, BonsaiWorld
       success = true;
     } finally {
       if (success) {
+        final PhaseTimer commitTimer = BlockProcessingMetrics.startPhase(Phase.DATABASE_COMMIT);
         stateUpdater.commit();
+        commitTimer.stop();
         updater.reset();
       } else {
         stateUpdater.rollback();
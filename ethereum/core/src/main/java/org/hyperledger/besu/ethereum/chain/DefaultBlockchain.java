@@ -242,6 +242,52 @@ public class DefaultBlockchain implements MutableBlockchain {
     blockAddedObservers.forEach(observer -> observer.onBlockAdded(blockAddedEvent));
   }
 
+  @Override
+  public synchronized void appendBlocks(final List<BlockWithReceipts> blocks) {
+    if (blocks.isEmpty()) {
+      return;
+    }
+    Hash parentHash = chainHeader.getHash();
+    for (final BlockWithReceipts blockWithReceipts : blocks) {
+      final Block block = blockWithReceipts.getBlock();
+      checkArgument(
+          block.getBody().getTransactions().size() == blockWithReceipts.getReceipts().size(),
+          "Supplied receipts do not match block transactions.");
+      checkArgument(
+          block.getHeader().getParentHash().equals(parentHash),
+          "Attempt to append blocks that do not extend the chain head.");
+      parentHash = block.getHash();
+    }
+
+    final BlockchainStorage.Updater updater = blockchainStorage.updater();
+    final List<BlockAddedEvent> blockAddedEvents = new ArrayList<>(blocks.size());
+    Difficulty td = totalDifficulty;
+    for (final BlockWithReceipts blockWithReceipts : blocks) {
+      final Block block = blockWithReceipts.getBlock();
+      final List<TransactionReceipt> receipts = blockWithReceipts.getReceipts();
+      final Hash hash = block.getHash();
+      td = td.add(block.getHeader().getDifficulty());
+
+      updater.putBlockHeader(hash, block.getHeader());
+      updater.putBlockBody(hash, block.getBody());
+      updater.putTransactionReceipts(hash, receipts);
+      updater.putTotalDifficulty(hash, td);
+      updater.putBlockHash(block.getHeader().getNumber(), hash);
+      indexTransactionForBlock(updater, hash, block.getBody().getTransactions());
+      blockAddedEvents.add(
+          BlockAddedEvent.createForHeadAdvancement(
+              block, LogWithMetadata.generate(block, receipts, false), receipts));
+    }
+    final Block lastBlock = blocks.get(blocks.size() - 1).getBlock();
+    updater.setChainHead(lastBlock.getHash());
+    updater.commit();
+    updateCacheForNewCanonicalHead(lastBlock, td);
+
+    blockAddedEvents.forEach(
+        blockAddedEvent ->
+            blockAddedObservers.forEach(observer -> observer.onBlockAdded(blockAddedEvent)));
+  }
+
   private BlockAddedEvent appendBlockHelper(final BlockWithReceipts blockWithReceipts) {
     final Block block = blockWithReceipts.getBlock();
     final List<TransactionReceipt> receipts = blockWithReceipts.getReceipts();
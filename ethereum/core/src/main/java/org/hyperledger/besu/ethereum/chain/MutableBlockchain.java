@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.chain;
 
 import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockWithReceipts;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 
 import java.util.List;
@@ -33,6 +34,18 @@ public interface MutableBlockchain extends Blockchain {
    */
   void appendBlock(Block block, List<TransactionReceipt> receipts);
 
+  /**
+   * Adds a contiguous run of blocks on top of the canonical chain head in a single storage
+   * transaction.
+   *
+   * <p>The first block must be a child of the current chain head and every following block a child
+   * of the block before it, otherwise an {@link IllegalArgumentException} is thrown and nothing is
+   * stored. The blocks are not validated; callers must only supply trusted data.
+   *
+   * @param blocks The blocks to append, with the receipts of their transactions.
+   */
+  void appendBlocks(List<BlockWithReceipts> blocks);
+
   /**
    * Rolls back the canonical chainhead to the specified block number.
    *
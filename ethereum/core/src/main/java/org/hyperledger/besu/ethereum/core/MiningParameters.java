@@ -26,6 +26,8 @@ public class MiningParameters {
 
   public static final long DEFAULT_REMOTE_SEALERS_TTL = Duration.ofMinutes(10).toMinutes();
 
+  public static final int DEFAULT_MINER_THREADS = 1;
+
   private final Optional<Address> coinbase;
   private final Wei minTransactionGasPrice;
   private final Bytes extraData;
@@ -38,6 +40,8 @@ public class MiningParameters {
   private final Double minBlockOccupancyRatio;
   private final int remoteSealersLimit;
   private final long remoteSealersTimeToLive;
+  private final boolean ethHashFullDatasetEnabled;
+  private final int minerThreads;
 
   public MiningParameters(
       final Address coinbase,
@@ -56,7 +60,9 @@ public class MiningParameters {
         Optional.empty(),
         0.8,
         DEFAULT_REMOTE_SEALERS_LIMIT,
-        DEFAULT_REMOTE_SEALERS_TTL);
+        DEFAULT_REMOTE_SEALERS_TTL,
+        false,
+        DEFAULT_MINER_THREADS);
   }
 
   public MiningParameters(
@@ -72,6 +78,69 @@ public class MiningParameters {
       final Double minBlockOccupancyRatio,
       final int remoteSealersLimit,
       final long remoteSealersTimeToLive) {
+    this(
+        coinbase,
+        minTransactionGasPrice,
+        extraData,
+        enabled,
+        stratumMiningEnabled,
+        stratumNetworkInterface,
+        stratumPort,
+        stratumExtranonce,
+        maybeNonceGenerator,
+        minBlockOccupancyRatio,
+        remoteSealersLimit,
+        remoteSealersTimeToLive,
+        false,
+        DEFAULT_MINER_THREADS);
+  }
+
+  public MiningParameters(
+      final Address coinbase,
+      final Wei minTransactionGasPrice,
+      final Bytes extraData,
+      final boolean enabled,
+      final boolean stratumMiningEnabled,
+      final String stratumNetworkInterface,
+      final int stratumPort,
+      final String stratumExtranonce,
+      final Optional<Iterable<Long>> maybeNonceGenerator,
+      final Double minBlockOccupancyRatio,
+      final int remoteSealersLimit,
+      final long remoteSealersTimeToLive,
+      final boolean ethHashFullDatasetEnabled) {
+    this(
+        coinbase,
+        minTransactionGasPrice,
+        extraData,
+        enabled,
+        stratumMiningEnabled,
+        stratumNetworkInterface,
+        stratumPort,
+        stratumExtranonce,
+        maybeNonceGenerator,
+        minBlockOccupancyRatio,
+        remoteSealersLimit,
+        remoteSealersTimeToLive,
+        ethHashFullDatasetEnabled,
+        DEFAULT_MINER_THREADS);
+  }
+
+  public MiningParameters(
+      final Address coinbase,
+      final Wei minTransactionGasPrice,
+      final Bytes extraData,
+      final boolean enabled,
+      final boolean stratumMiningEnabled,
+      final String stratumNetworkInterface,
+      final int stratumPort,
+      final String stratumExtranonce,
+      final Optional<Iterable<Long>> maybeNonceGenerator,
+      final Double minBlockOccupancyRatio,
+      final int remoteSealersLimit,
+      final long remoteSealersTimeToLive,
+      final boolean ethHashFullDatasetEnabled,
+      final int minerThreads) {
     this.coinbase = Optional.ofNullable(coinbase);
     this.minTransactionGasPrice = minTransactionGasPrice;
     this.extraData = extraData;
@@ -84,6 +153,8 @@ public class MiningParameters {
     this.minBlockOccupancyRatio = minBlockOccupancyRatio;
     this.remoteSealersLimit = remoteSealersLimit;
     this.remoteSealersTimeToLive = remoteSealersTimeToLive;
+    this.ethHashFullDatasetEnabled = ethHashFullDatasetEnabled;
+    this.minerThreads = minerThreads;
   }
 
   public Optional<Address> getCoinbase() {
@@ -134,6 +205,14 @@ public class MiningParameters {
     return remoteSealersTimeToLive;
   }
 
+  public boolean isEthHashFullDatasetEnabled() {
+    return ethHashFullDatasetEnabled;
+  }
+
+  public int getMinerThreads() {
+    return minerThreads;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) return true;
@@ -149,7 +228,9 @@ public class MiningParameters {
         && Objects.equals(stratumExtranonce, that.stratumExtranonce)
         && Objects.equals(minBlockOccupancyRatio, that.minBlockOccupancyRatio)
         && Objects.equals(remoteSealersTimeToLive, that.remoteSealersTimeToLive)
-        && Objects.equals(remoteSealersLimit, that.remoteSealersLimit);
+        && Objects.equals(remoteSealersLimit, that.remoteSealersLimit)
+        && ethHashFullDatasetEnabled == that.ethHashFullDatasetEnabled
+        && minerThreads == that.minerThreads;
   }
 
   @Override
@@ -165,7 +246,9 @@ public class MiningParameters {
         stratumExtranonce,
         minBlockOccupancyRatio,
         remoteSealersLimit,
-        remoteSealersTimeToLive);
+        remoteSealersTimeToLive,
+        ethHashFullDatasetEnabled,
+        minerThreads);
   }
 
   @Override
@@ -197,6 +280,10 @@ public class MiningParameters {
         + remoteSealersLimit
         + ", remoteSealersTimeToLive="
         + remoteSealersTimeToLive
+        + ", ethHashFullDatasetEnabled="
+        + ethHashFullDatasetEnabled
+        + ", minerThreads="
+        + minerThreads
         + '}';
   }
 }
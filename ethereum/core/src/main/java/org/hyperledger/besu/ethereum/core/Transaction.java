@@ -31,6 +31,8 @@ import org.hyperledger.besu.plugin.data.Quantity;
 import org.hyperledger.besu.plugin.data.TransactionType;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -425,6 +427,41 @@ public class Transaction implements org.hyperledger.besu.plugin.data.Transaction
     return sender;
   }
 
+  /**
+   * Recovers, as a single batch, the sender of each transaction whose sender isn't known yet.
+   * Senders that can't be recovered are left unset, so {@link #getSender()} still reports the
+   * failure when it is called.
+   *
+   * @param transactions the transactions to recover the senders of
+   */
+  public static void recoverSenders(final Collection<Transaction> transactions) {
+    final List<Transaction> unrecovered = new ArrayList<>(transactions.size());
+    final List<Bytes32> dataHashes = new ArrayList<>(transactions.size());
+    final List<SECPSignature> signatures = new ArrayList<>(transactions.size());
+    for (final Transaction transaction : transactions) {
+      if (transaction.sender == null) {
+        unrecovered.add(transaction);
+        dataHashes.add(transaction.getOrComputeSenderRecoveryHash());
+        signatures.add(transaction.signature);
+      }
+    }
+    if (unrecovered.isEmpty()) {
+      return;
+    }
+
+    final List<Optional<SECPPublicKey>> publicKeys =
+        SignatureAlgorithmFactory.getInstance()
+            .recoverPublicKeysFromSignatures(dataHashes, signatures);
+    for (int i = 0; i < unrecovered.size(); i++) {
+      final Transaction transaction = unrecovered.get(i);
+      publicKeys
+          .get(i)
+          .ifPresent(
+              publicKey ->
+                  transaction.sender = Address.extract(Hash.hash(publicKey.getEncodedBytes())));
+    }
+  }
+
   /**
    * Returns the public key extracted from the signature.
    *
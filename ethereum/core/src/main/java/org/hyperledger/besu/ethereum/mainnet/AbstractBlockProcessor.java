@@ -24,6 +24,8 @@ import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.core.WorldState;
 import org.hyperledger.besu.ethereum.core.WorldUpdater;
 import org.hyperledger.besu.ethereum.core.fees.TransactionGasBudgetCalculator;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.Phase;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.PhaseTimer;
 import org.hyperledger.besu.ethereum.privacy.storage.PrivateMetadataUpdater;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
@@ -157,6 +159,14 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
     final Span globalProcessBlock =
         tracer.spanBuilder("processBlock").setSpanKind(Span.Kind.INTERNAL).startSpan();
     try {
+      final PhaseTimer senderRecoveryTimer =
+          BlockProcessingMetrics.startPhase(Phase.SENDER_RECOVERY);
+      Transaction.recoverSenders(transactions);
+      senderRecoveryTimer.stop();
+
+      final PhaseTimer executionTimer =
+          BlockProcessingMetrics.startPhase(Phase.TRANSACTION_EXECUTION);
+      final OperationTracer operationTracer = BlockProcessingMetrics.operationTracer();
       final List<TransactionReceipt> receipts = new ArrayList<>();
       long currentGasUsed = 0;
       for (final Transaction transaction : transactions) {
@@ -176,7 +186,7 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
                 blockHeader,
                 transaction,
                 miningBeneficiary,
-                OperationTracer.NO_TRACING,
+                operationTracer,
                 blockHashLookup,
                 true,
                 TransactionValidationParams.processingBlock(),
@@ -204,6 +214,7 @@ public abstract class AbstractBlockProcessor implements BlockProcessor {
         // no need to log, rewardCoinbase logs the error.
         return AbstractBlockProcessor.Result.failed();
       }
+      executionTimer.stop();
 
       worldState.persist(blockHeader);
       return AbstractBlockProcessor.Result.successful(receipts);
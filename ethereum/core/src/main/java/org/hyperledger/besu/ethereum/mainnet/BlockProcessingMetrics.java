@@ -0,0 +1,233 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static org.apache.logging.log4j.LogManager.getLogger;
+
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.vm.OperationTracer;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Times the phases of importing a block.
+ *
+ * <p>Phases are recorded against the block being imported on the current thread, so the block
+ * processor and world state can time themselves without being handed a metrics system. Outside of
+ * a block import the phase timers do nothing. Each phase is both reported as a labelled timer and
+ * accumulated locally, so blocks slower than the configured threshold are logged with their phase
+ * breakdown even when metrics timers are disabled. An EVM profiler can also be attached, in which
+ * case it traces every transaction executed as part of a block import.
+ */
+public class BlockProcessingMetrics {
+
+  private static final Logger LOG = getLogger();
+
+  public static final Duration DEFAULT_SLOW_BLOCK_THRESHOLD = Duration.ofSeconds(1);
+
+  private static final ThreadLocal<BlockImport> CURRENT_IMPORT = new ThreadLocal<>();
+  private static final PhaseTimer NO_OP_PHASE_TIMER = () -> {};
+
+  public enum Phase {
+    HEADER_VALIDATION("header_validation"),
+    SENDER_RECOVERY("sender_recovery"),
+    TRANSACTION_EXECUTION("transaction_execution"),
+    STATE_ROOT("state_root"),
+    DATABASE_COMMIT("database_commit"),
+    BODY_VALIDATION("body_validation"),
+    CHAIN_APPEND("chain_append");
+
+    private final String label;
+
+    Phase(final String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+
+  @FunctionalInterface
+  public interface PhaseTimer {
+    void stop();
+  }
+
+  private final OperationTimer[] phaseTimers;
+  private final long slowBlockThresholdNanos;
+  private final Optional<ProfilingOperationTracer> evmProfiler;
+  private final OperationTracer importTracer;
+  private volatile double importGasPerSecond;
+  private volatile double executionGasPerSecond;
+
+  public BlockProcessingMetrics(final MetricsSystem metricsSystem) {
+    this(metricsSystem, DEFAULT_SLOW_BLOCK_THRESHOLD, Optional.empty());
+  }
+
+  public BlockProcessingMetrics(
+      final MetricsSystem metricsSystem,
+      final Duration slowBlockThreshold,
+      final Optional<ProfilingOperationTracer> evmProfiler) {
+    final LabelledMetric<OperationTimer> phaseTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.BLOCKCHAIN,
+            "block_import_phase_seconds",
+            "Time spent in each phase of importing a block",
+            "phase");
+    final Phase[] phases = Phase.values();
+    this.phaseTimers = new OperationTimer[phases.length];
+    for (final Phase phase : phases) {
+      phaseTimers[phase.ordinal()] = phaseTimer.labels(phase.getLabel());
+    }
+    this.slowBlockThresholdNanos = slowBlockThreshold.toNanos();
+    this.evmProfiler = evmProfiler;
+    this.importTracer = evmProfiler.isPresent() ? evmProfiler.get() : OperationTracer.NO_TRACING;
+
+    metricsSystem.createGauge(
+        BesuMetricCategory.BLOCKCHAIN,
+        "block_import_gas_per_second",
+        "Gas per second achieved importing the most recent block",
+        () -> importGasPerSecond);
+    metricsSystem.createGauge(
+        BesuMetricCategory.BLOCKCHAIN,
+        "block_execution_gas_per_second",
+        "Gas per second achieved executing the transactions of the most recent block",
+        () -> executionGasPerSecond);
+  }
+
+  public Optional<ProfilingOperationTracer> getEvmProfiler() {
+    return evmProfiler;
+  }
+
+  /**
+   * Starts timing the import of a block on the current thread. The returned handle must be closed
+   * once the import finishes, and {@link BlockImport#imported()} called if the block was added to
+   * the chain.
+   *
+   * @param block the block being imported
+   * @return the handle phases of this import are recorded against
+   */
+  public BlockImport startBlockImport(final Block block) {
+    final BlockImport blockImport = new BlockImport(block.getHeader(), CURRENT_IMPORT.get());
+    CURRENT_IMPORT.set(blockImport);
+    return blockImport;
+  }
+
+  /**
+   * Starts timing a phase of the block being imported on the current thread.
+   *
+   * @param phase the phase being timed
+   * @return a timer to stop when the phase completes, which does nothing if no block is being
+   *     imported
+   */
+  public static PhaseTimer startPhase(final Phase phase) {
+    final BlockImport blockImport = CURRENT_IMPORT.get();
+    return blockImport == null ? NO_OP_PHASE_TIMER : blockImport.startPhase(phase);
+  }
+
+  /**
+   * Returns the tracer transactions of the block being imported on the current thread should be
+   * executed with.
+   *
+   * @return the EVM profiler when one is attached and a block is being imported, otherwise {@link
+   *     OperationTracer#NO_TRACING}
+   */
+  public static OperationTracer operationTracer() {
+    final BlockImport blockImport = CURRENT_IMPORT.get();
+    return blockImport == null ? OperationTracer.NO_TRACING : blockImport.importTracer();
+  }
+
+  public class BlockImport implements AutoCloseable {
+    private final BlockHeader header;
+    private final BlockImport previous;
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[phaseTimers.length];
+    private boolean imported;
+
+    private BlockImport(final BlockHeader header, final BlockImport previous) {
+      this.header = header;
+      this.previous = previous;
+    }
+
+    private PhaseTimer startPhase(final Phase phase) {
+      final OperationTimer.TimingContext timingContext = phaseTimers[phase.ordinal()].startTimer();
+      final long phaseStart = System.nanoTime();
+      return () -> {
+        timingContext.stopTimer();
+        phaseNanos[phase.ordinal()] += System.nanoTime() - phaseStart;
+      };
+    }
+
+    private OperationTracer importTracer() {
+      return importTracer;
+    }
+
+    /** Marks the block as successfully added to the chain. */
+    public void imported() {
+      imported = true;
+    }
+
+    @Override
+    public void close() {
+      if (previous == null) {
+        CURRENT_IMPORT.remove();
+      } else {
+        CURRENT_IMPORT.set(previous);
+      }
+      if (!imported) {
+        return;
+      }
+
+      final long totalNanos = System.nanoTime() - startNanos;
+      final long gasUsed = header.getGasUsed();
+      if (totalNanos > 0) {
+        importGasPerSecond = gasUsed * 1e9 / totalNanos;
+      }
+      final long executionNanos = phaseNanos[Phase.TRANSACTION_EXECUTION.ordinal()];
+      if (executionNanos > 0) {
+        executionGasPerSecond = gasUsed * 1e9 / executionNanos;
+      }
+      if (totalNanos >= slowBlockThresholdNanos) {
+        LOG.info(
+            "Slow block {} ({}) with {} gas imported in {} ms: {}",
+            header.getNumber(),
+            header.getHash(),
+            gasUsed,
+            TimeUnit.NANOSECONDS.toMillis(totalNanos),
+            phaseBreakdown());
+      }
+    }
+
+    private String phaseBreakdown() {
+      final StringJoiner breakdown = new StringJoiner(", ");
+      for (final Phase phase : Phase.values()) {
+        final long millis = TimeUnit.NANOSECONDS.toMillis(phaseNanos[phase.ordinal()]);
+        breakdown.add(phase.getLabel() + "=" + millis + "ms");
+      }
+      return breakdown.toString();
+    }
+  }
+}
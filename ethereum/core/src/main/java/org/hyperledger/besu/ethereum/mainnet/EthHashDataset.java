@@ -0,0 +1,191 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The full EthHash dataset (DAG) of an epoch, held in a memory-mapped file.
+ *
+ * <p>The file is written to a temporary name while the dataset is generated and only renamed once
+ * complete, so a dataset file found on disk can be mapped and reused as is after a restart.
+ */
+public class EthHashDataset {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  // A single mapping is limited to 2GiB, so larger datasets are mapped as several segments.
+  private static final int SEGMENT_SHIFT = 30;
+  private static final long SEGMENT_BYTES = 1L << SEGMENT_SHIFT;
+  private static final int SEGMENT_MASK = (int) SEGMENT_BYTES - 1;
+  // Number of items generated per task, chosen so that a task never spans two segments.
+  private static final int ITEMS_PER_TASK = 1 << 14;
+
+  private final long epoch;
+  private final long size;
+  private final MappedByteBuffer[] segments;
+
+  private EthHashDataset(final long epoch, final long size, final MappedByteBuffer[] segments) {
+    this.epoch = epoch;
+    this.size = size;
+    this.segments = segments;
+  }
+
+  /**
+   * Maps the dataset stored in {@code file}, generating and storing it first if the file doesn't
+   * exist yet.
+   *
+   * @param file The file holding the dataset
+   * @param epoch The epoch of the dataset
+   * @param size The size of the dataset in bytes
+   * @param cache The EthHash light cache of the epoch, from which the dataset is generated
+   * @return The dataset
+   */
+  public static EthHashDataset loadOrGenerate(
+      final Path file, final long epoch, final long size, final int[] cache) {
+    checkArgument(size % EthHash.HASH_BYTES == 0, "Dataset size must be a multiple of 64 bytes");
+    try {
+      if (!Files.isRegularFile(file) || Files.size(file) != size) {
+        generate(file, epoch, size, cache);
+      } else {
+        LOG.info("Loading EthHash dataset for epoch {} from {}", epoch, file);
+      }
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        return new EthHashDataset(epoch, size, map(channel, MapMode.READ_ONLY, size));
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to load EthHash dataset from " + file, e);
+    }
+  }
+
+  private static void generate(
+      final Path file, final long epoch, final long size, final int[] cache) throws IOException {
+    LOG.info("Generating {} MB EthHash dataset for epoch {} in {}", size >> 20, epoch, file);
+    Files.createDirectories(file.getParent());
+    final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (final FileChannel channel =
+        FileChannel.open(
+            tempFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      final MappedByteBuffer[] segments = map(channel, MapMode.READ_WRITE, size);
+      generateItems(segments, Math.toIntExact(size / EthHash.HASH_BYTES), cache);
+      for (final MappedByteBuffer segment : segments) {
+        segment.force();
+      }
+    }
+    Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+    LOG.info("Generated EthHash dataset for epoch {}", epoch);
+  }
+
+  private static void generateItems(
+      final MappedByteBuffer[] segments, final int items, final int[] cache) {
+    final ExecutorService workers =
+        Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("EthHashDatasetGenerator-%d")
+                .setDaemon(true)
+                .build());
+    try {
+      final List<Future<?>> tasks = new ArrayList<>();
+      for (int start = 0; start < items; start += ITEMS_PER_TASK) {
+        final int from = start;
+        final int to = Math.min(items, start + ITEMS_PER_TASK);
+        tasks.add(workers.submit(() -> generateItems(segments, cache, from, to)));
+      }
+      for (final Future<?> task : tasks) {
+        task.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while generating EthHash dataset", e);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Failed to generate EthHash dataset", e.getCause());
+    } finally {
+      workers.shutdownNow();
+    }
+  }
+
+  private static void generateItems(
+      final MappedByteBuffer[] segments, final int[] cache, final int from, final int to) {
+    final long offset = (long) from * EthHash.HASH_BYTES;
+    final ByteBuffer output = segments[(int) (offset >>> SEGMENT_SHIFT)].duplicate();
+    output.position((int) offset & SEGMENT_MASK);
+    final byte[] item = new byte[EthHash.HASH_BYTES];
+    for (int index = from; index < to; index++) {
+      EthHash.calcDatasetItem(item, cache, index);
+      output.put(item);
+    }
+  }
+
+  private static MappedByteBuffer[] map(
+      final FileChannel channel, final MapMode mode, final long size) throws IOException {
+    final MappedByteBuffer[] segments =
+        new MappedByteBuffer[Math.toIntExact((size + SEGMENT_BYTES - 1) >>> SEGMENT_SHIFT)];
+    for (int i = 0; i < segments.length; i++) {
+      final long position = i * SEGMENT_BYTES;
+      segments[i] = channel.map(mode, position, Math.min(SEGMENT_BYTES, size - position));
+    }
+    return segments;
+  }
+
+  /**
+   * Copies a dataset item into the given buffer.
+   *
+   * @param buffer Buffer to store the dataset item in
+   * @param index Index of the dataset item to read
+   */
+  public void lookup(final byte[] buffer, final int index) {
+    final long offset = (long) index * EthHash.HASH_BYTES;
+    final MappedByteBuffer segment = segments[(int) (offset >>> SEGMENT_SHIFT)];
+    final int position = (int) offset & SEGMENT_MASK;
+    // Absolute reads don't move the buffer's position, so concurrent lookups are safe.
+    for (int i = 0; i < EthHash.HASH_BYTES; i++) {
+      buffer[i] = segment.get(position + i);
+    }
+  }
+
+  public long getEpoch() {
+    return epoch;
+  }
+
+  public long getSize() {
+    return size;
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Provides the full EthHash datasets used for mining, stored as files in a directory.
+ *
+ * <p>Datasets are generated in the background: until the dataset of an epoch is ready, callers
+ * are expected to fall back to light hashing. Once an epoch's dataset is in use, the dataset of the
+ * next epoch is prepared so that it is ready by the time the chain reaches it, and the datasets of
+ * earlier epochs are deleted.
+ */
+public class EthHashDatasetFactory {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String FILE_PREFIX = "full-";
+
+  private final Path directory;
+  private final EthHashCacheFactory cacheFactory = new EthHashCacheFactory();
+  private final ExecutorService generationExecutor =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat("EthHashDataset-%d").setDaemon(true).build());
+  private final Map<Long, CompletableFuture<EthHashDataset>> datasets = new ConcurrentHashMap<>();
+  private volatile EthHashDataset current;
+
+  public EthHashDatasetFactory(final Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the dataset of the epoch of the given block, if it is ready.
+   *
+   * @param blockNumber The block number
+   * @param epochCalculator EpochCalculator used to determine the epoch
+   * @return The dataset, or empty if it is still being generated, its generation failed or the
+   *     block precedes the epoch of the dataset in use
+   */
+  public Optional<EthHashDataset> datasetFor(
+      final long blockNumber, final EpochCalculator epochCalculator) {
+    final long epoch = epochCalculator.cacheEpoch(blockNumber);
+    final EthHashDataset dataset = current;
+    if (dataset != null && dataset.getEpoch() == epoch) {
+      return Optional.of(dataset);
+    }
+    if (dataset != null && epoch < dataset.getEpoch()) {
+      // The datasets of earlier epochs have been discarded, so old blocks use light hashing.
+      return Optional.empty();
+    }
+
+    final CompletableFuture<EthHashDataset> future =
+        datasets.computeIfAbsent(epoch, e -> generate(e, blockNumber, epochCalculator));
+    if (!future.isDone()) {
+      return Optional.empty();
+    }
+    final EthHashDataset ready;
+    try {
+      ready = future.join();
+    } catch (final CompletionException e) {
+      // Forget the failed generation so that the next lookup retries it.
+      datasets.remove(epoch, future);
+      LOG.error("Unable to provide the EthHash dataset for epoch {}", epoch, e.getCause());
+      return Optional.empty();
+    }
+    current = ready;
+    datasets.computeIfAbsent(
+        epoch + 1,
+        e -> generate(e, firstBlockOfNextEpoch(blockNumber, epochCalculator), epochCalculator));
+    deleteDatasetsBefore(epoch);
+    return Optional.of(ready);
+  }
+
+  private CompletableFuture<EthHashDataset> generate(
+      final long epoch, final long blockNumber, final EpochCalculator epochCalculator) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final EthHashCacheFactory.EthHashDescriptor descriptor =
+              cacheFactory.ethHashCacheFor(blockNumber, epochCalculator);
+          final Bytes seed =
+              Bytes.wrap(DirectAcyclicGraphSeed.dagSeed(blockNumber, epochCalculator));
+          final Path file =
+              directory.resolve(
+                  FILE_PREFIX + epoch + "-" + seed.slice(0, 8).toUnprefixedHexString());
+          return EthHashDataset.loadOrGenerate(
+              file, epoch, descriptor.getDatasetSize(), descriptor.getCache());
+        },
+        generationExecutor);
+  }
+
+  private void deleteDatasetsBefore(final long epoch) {
+    datasets.keySet().removeIf(e -> e < epoch);
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (final Stream<Path> files = Files.list(directory)) {
+      files
+          .filter(file -> epochOf(file).map(e -> e < epoch).orElse(false))
+          .forEach(
+              file -> {
+                try {
+                  Files.deleteIfExists(file);
+                  LOG.debug("Deleted outdated EthHash dataset {}", file);
+                } catch (final IOException e) {
+                  LOG.warn("Unable to delete outdated EthHash dataset {}", file, e);
+                }
+              });
+    } catch (final IOException e) {
+      LOG.warn("Unable to list EthHash datasets in {}", directory, e);
+    }
+  }
+
+  private static Optional<Long> epochOf(final Path file) {
+    final String name = file.getFileName().toString();
+    if (!name.startsWith(FILE_PREFIX)) {
+      return Optional.empty();
+    }
+    final int end = name.indexOf('-', FILE_PREFIX.length());
+    try {
+      return Optional.of(Long.parseLong(name.substring(FILE_PREFIX.length(), end)));
+    } catch (final IndexOutOfBoundsException | NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  /** Finds the first block of the epoch following the given block's. */
+  static long firstBlockOfNextEpoch(final long blockNumber, final EpochCalculator epochCalculator) {
+    final long epoch = epochCalculator.cacheEpoch(blockNumber);
+    long low = blockNumber;
+    long step = 1;
+    while (epochCalculator.cacheEpoch(blockNumber + step) == epoch) {
+      low = blockNumber + step;
+      step <<= 1;
+    }
+    long high = blockNumber + step;
+    while (high - low > 1) {
+      final long middle = low + (high - low) / 2;
+      if (epochCalculator.cacheEpoch(middle) == epoch) {
+        low = middle;
+      } else {
+        high = middle;
+      }
+    }
+    return high;
+  }
+}
@@ -19,6 +19,8 @@ import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockImporter;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.Phase;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.PhaseTimer;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,15 +43,21 @@ public class MainnetBlockImporter implements BlockImporter {
       return true;
     }
 
-    final Optional<BlockValidator.BlockProcessingOutputs> outputs =
-        blockValidator.validateAndProcessBlock(
-            context, block, headerValidationMode, ommerValidationMode);
+    try (final BlockProcessingMetrics.BlockImport blockImport =
+        context.getBlockProcessingMetrics().startBlockImport(block)) {
+      final Optional<BlockValidator.BlockProcessingOutputs> outputs =
+          blockValidator.validateAndProcessBlock(
+              context, block, headerValidationMode, ommerValidationMode);
+      if (outputs.isEmpty()) {
+        return false;
+      }
 
-    outputs.ifPresent(
-        processingOutputs ->
-            context.getBlockchain().appendBlock(block, processingOutputs.receipts));
-
-    return outputs.isPresent();
+      final PhaseTimer chainAppendTimer = BlockProcessingMetrics.startPhase(Phase.CHAIN_APPEND);
+      context.getBlockchain().appendBlock(block, outputs.get().receipts);
+      chainAppendTimer.stop();
+      blockImport.imported();
+      return true;
+    }
   }
 
   @Override
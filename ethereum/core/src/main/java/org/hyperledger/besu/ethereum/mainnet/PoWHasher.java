@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.ethereum.mainnet;
 
+import java.nio.file.Path;
+
 import org.apache.tuweni.bytes.Bytes;
 
 public interface PoWHasher {
@@ -53,6 +55,31 @@ public interface PoWHasher {
     }
   }
 
+  /**
+   * Implementation of Ethash Hashimoto Full, reading from the full dataset of the epoch. Hashing
+   * falls back to Hashimoto Light while the dataset is being generated.
+   */
+  final class EthashFull implements PoWHasher {
+
+    private final EthHashDatasetFactory datasetFactory;
+
+    public EthashFull(final Path datasetDirectory) {
+      this.datasetFactory = new EthHashDatasetFactory(datasetDirectory);
+    }
+
+    @Override
+    public PoWSolution hash(
+        final long nonce,
+        final long number,
+        final EpochCalculator epochCalc,
+        final Bytes prePowHash) {
+      return datasetFactory
+          .datasetFor(number, epochCalc)
+          .map(dataset -> EthHash.hashimoto(prePowHash, dataset.getSize(), nonce, dataset::lookup))
+          .orElseGet(() -> ETHASH_LIGHT.hash(nonce, number, epochCalc, prePowHash));
+    }
+  }
+
   /** Implementation of an inoperative hasher. */
   final class Unsupported implements PoWHasher {
 
@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.mainnet;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static org.apache.logging.log4j.LogManager.getLogger;
 
 import org.hyperledger.besu.ethereum.chain.PoWObserver;
@@ -22,15 +23,29 @@ import org.hyperledger.besu.util.Subscribers;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.units.bigints.UInt256;
 
 public class PoWSolver {
 
   private static final Logger LOG = getLogger();
+  private static final int HASH_RATE_UPDATE_INTERVAL = 100;
+
+  /**
+   * Runs the additional workers of every solver. Solvers are created per block, so their workers
+   * are kept on a shared pool rather than on threads started for each job.
+   */
+  private static final ExecutorService WORKER_EXECUTOR =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setNameFormat("PoWSolver-%d").setDaemon(true).build());
 
   public static class PoWSolverJob {
 
@@ -79,6 +94,7 @@ public class PoWSolver {
   private final Boolean stratumMiningEnabled;
   private final Subscribers<PoWObserver> ethHashObservers;
   private final EpochCalculator epochCalculator;
+  private final int minerThreads;
   private volatile Optional<PoWSolverJob> currentJob = Optional.empty();
 
   public PoWSolver(
@@ -87,12 +103,24 @@ public class PoWSolver {
       final Boolean stratumMiningEnabled,
       final Subscribers<PoWObserver> ethHashObservers,
       final EpochCalculator epochCalculator) {
+    this(nonceGenerator, poWHasher, stratumMiningEnabled, ethHashObservers, epochCalculator, 1);
+  }
+
+  public PoWSolver(
+      final Iterable<Long> nonceGenerator,
+      final PoWHasher poWHasher,
+      final Boolean stratumMiningEnabled,
+      final Subscribers<PoWObserver> ethHashObservers,
+      final EpochCalculator epochCalculator,
+      final int minerThreads) {
+    checkArgument(minerThreads > 0, "Miner thread count must be positive");
     this.nonceGenerator = nonceGenerator;
     this.poWHasher = poWHasher;
     this.stratumMiningEnabled = stratumMiningEnabled;
     this.ethHashObservers = ethHashObservers;
     ethHashObservers.forEach(observer -> observer.setSubmitWorkCallback(this::submitSolution));
     this.epochCalculator = epochCalculator;
+    this.minerThreads = minerThreads;
   }
 
   public PoWSolution solveFor(final PoWSolverJob job)
@@ -107,23 +135,66 @@ public class PoWSolver {
   }
 
   private void findValidNonce() {
-    final Stopwatch operationTimer = Stopwatch.createStarted();
     final PoWSolverJob job = currentJob.get();
-    long hashesExecuted = 0;
+    final Stopwatch operationTimer = Stopwatch.createStarted();
+    final LongAdder hashesExecuted = new LongAdder();
+    final AtomicInteger runningWorkers = new AtomicInteger(minerThreads);
+    for (int worker = 1; worker < minerThreads; worker++) {
+      final int workerIndex = worker;
+      WORKER_EXECUTOR.execute(
+          () -> {
+            try {
+              searchNonces(job, workerIndex, operationTimer, hashesExecuted, runningWorkers);
+            } catch (final RuntimeException e) {
+              job.failed(e);
+            }
+          });
+    }
+    searchNonces(job, 0, operationTimer, hashesExecuted, runningWorkers);
+  }
+
+  /**
+   * Searches the slice of the nonce space owned by one worker: each nonce drawn from the generator
+   * is mapped to {@code nonce * minerThreads + workerIndex}, so workers never test the same value
+   * when the generator is sequential. With a single worker the generator is used as is.
+   *
+   * <p>Every worker iterates its own iterator of the generator, and only publishes its hash count
+   * every {@link #HASH_RATE_UPDATE_INTERVAL} hashes and when it stops.
+   */
+  private void searchNonces(
+      final PoWSolverJob job,
+      final int workerIndex,
+      final Stopwatch operationTimer,
+      final LongAdder hashesExecuted,
+      final AtomicInteger runningWorkers) {
+    int unreportedHashes = 0;
     for (final Long n : nonceGenerator) {
 
       if (job.isDone()) {
+        updateHashesPerSecond(operationTimer, hashesExecuted, unreportedHashes);
         return;
       }
 
-      final Optional<PoWSolution> solution = testNonce(job.getInputs(), n);
+      final Optional<PoWSolution> solution =
+          testNonce(job.getInputs(), n * minerThreads + workerIndex);
       solution.ifPresent(job::solvedWith);
 
-      hashesExecuted++;
-      final double operationDurationSeconds = operationTimer.elapsed(TimeUnit.NANOSECONDS) / 1e9;
-      hashesPerSecond = (long) (hashesExecuted / operationDurationSeconds);
+      if (++unreportedHashes == HASH_RATE_UPDATE_INTERVAL) {
+        updateHashesPerSecond(operationTimer, hashesExecuted, unreportedHashes);
+        unreportedHashes = 0;
+      }
+    }
+    updateHashesPerSecond(operationTimer, hashesExecuted, unreportedHashes);
+    if (runningWorkers.decrementAndGet() == 0) {
+      job.failed(new IllegalStateException("No valid nonce found."));
     }
-    job.failed(new IllegalStateException("No valid nonce found."));
+  }
+
+  private void updateHashesPerSecond(
+      final Stopwatch operationTimer, final LongAdder hashesExecuted, final int newHashes) {
+    hashesExecuted.add(newHashes);
+    final double operationDurationSeconds = operationTimer.elapsed(TimeUnit.NANOSECONDS) / 1e9;
+    hashesPerSecond = (long) (hashesExecuted.sum() / operationDurationSeconds);
   }
 
   private Optional<PoWSolution> testNonce(final PoWSolverInputs inputs, final long nonce) {
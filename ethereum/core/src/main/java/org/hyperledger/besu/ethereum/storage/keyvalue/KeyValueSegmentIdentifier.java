@@ -30,7 +30,8 @@ public enum KeyValueSegmentIdentifier implements SegmentIdentifier {
   TRIE_BRANCH_STORAGE(new byte[] {9}, new int[] {2}),
   TRIE_LOG_STORAGE(new byte[] {10}, new int[] {2}),
   GOQUORUM_PRIVATE_WORLD_STATE(new byte[] {11}),
-  GOQUORUM_PRIVATE_STORAGE(new byte[] {12});
+  GOQUORUM_PRIVATE_STORAGE(new byte[] {12}),
+  VOTE_TALLY_SNAPSHOTS(new byte[] {13});
 
   private final byte[] id;
   private final int[] versionList;
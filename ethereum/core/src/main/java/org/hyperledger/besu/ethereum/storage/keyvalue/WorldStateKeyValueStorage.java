@@ -37,7 +37,8 @@ public class WorldStateKeyValueStorage implements WorldStateStorage {
 
   private final Subscribers<NodesAddedListener> nodeAddedListeners = Subscribers.create();
   private final KeyValueStorage keyValueStorage;
-  private final ReentrantLock lock = new ReentrantLock();
+  // Fair, so that a long prune cannot keep re-acquiring the lock ahead of a waiting commit.
+  private final ReentrantLock lock = new ReentrantLock(true);
 
   public WorldStateKeyValueStorage(final KeyValueStorage keyValueStorage) {
     this.keyValueStorage = keyValueStorage;
@@ -103,6 +104,11 @@ public class WorldStateKeyValueStorage implements WorldStateStorage {
     try (final Stream<byte[]> keys = keyValueStorage.streamKeys()) {
       keys.forEach(
           key -> {
+            // Most keys are in use, so check them without holding up commits and only re-check
+            // deletion candidates under the lock in case they were re-added in the meantime.
+            if (inUseCheck.test(key)) {
+              return;
+            }
             lock.lock();
             try {
               if (!inUseCheck.test(key) && keyValueStorage.tryDelete(key)) {
@@ -39,20 +39,26 @@ public class Memory {
    * <p>Note that the current Ethereum spec don't put a limit on memory, so we could theoretically
    * overflow this. A byte array implementation limits us to 2GiB. But that would cost over 51
    * trillion gas. So this is likely a reasonable limitation, at least at first.
+   *
+   * <p>The array is grown geometrically so that contracts expanding memory a word at a time don't
+   * copy it over and over. Only the first {@code activeBytes} are part of the memory; the bytes
+   * past that are always zero, so expanding over them needs no clearing.
    */
   private byte[] data;
 
-  private UInt256 activeWords;
+  private int activeBytes;
   private int dataSize256;
+  private UInt256 activeWords;
 
   public Memory() {
     data = new byte[0];
-    updateSize();
+    updateSize(0);
   }
 
-  private void updateSize() {
-    dataSize256 = data.length / Bytes32.SIZE;
-    activeWords = UInt256.valueOf(dataSize256);
+  private void updateSize(final int newActiveWords) {
+    dataSize256 = newActiveWords;
+    activeBytes = newActiveWords * Bytes32.SIZE;
+    activeWords = UInt256.valueOf(newActiveWords);
   }
 
   private static RuntimeException overflow(final long v) {
@@ -169,11 +175,15 @@ public class Memory {
   private void maybeExpandCapacity(final int newActiveWords) {
     if (dataSize256 >= newActiveWords) return;
 
-    // Require full capacity to guarantee we don't resize more than once.
-    final byte[] newData = new byte[newActiveWords * Bytes32.SIZE];
-    System.arraycopy(data, 0, newData, 0, data.length);
-    data = newData;
-    updateSize();
+    final long newActiveBytes = (long) newActiveWords * Bytes32.SIZE;
+    if (newActiveBytes > MAX_BYTES) throw overflow(newActiveBytes);
+    if (newActiveBytes > data.length) {
+      // Require full capacity to guarantee we don't resize more than once, and at least double
+      // the current capacity to amortize the copy over subsequent expansions.
+      final long newCapacity = Math.min(Math.max(newActiveBytes, 2L * data.length), MAX_BYTES);
+      data = Arrays.copyOf(data, (int) newCapacity);
+    }
+    updateSize(newActiveWords);
   }
 
   /**
@@ -189,12 +199,16 @@ public class Memory {
     if (!(other instanceof Memory)) return false;
 
     final Memory that = (Memory) other;
-    return Arrays.equals(this.data, that.data);
+    return Arrays.equals(this.data, 0, this.activeBytes, that.data, 0, that.activeBytes);
   }
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(data);
+    int result = 1;
+    for (int i = 0; i < activeBytes; i++) {
+      result = 31 * result + data[i];
+    }
+    return result;
   }
 
   /**
@@ -203,7 +217,7 @@ public class Memory {
    * @return The current number of active bytes stored in memory.
    */
   int getActiveBytes() {
-    return data.length;
+    return activeBytes;
   }
 
   /**
@@ -382,6 +396,6 @@ public class Memory {
 
   @Override
   public String toString() {
-    return Bytes.wrap(data).toHexString();
+    return Bytes.wrap(data, 0, activeBytes).toHexString();
   }
 }
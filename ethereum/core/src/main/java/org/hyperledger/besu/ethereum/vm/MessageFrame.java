@@ -593,6 +593,21 @@ public class MessageFrame {
     return value;
   }
 
+  /**
+   * Read the 32-byte word that begins at the specified offset in memory.
+   *
+   * @param offset The offset in memory
+   * @param explicitMemoryRead true if triggered by a memory opcode, false otherwise
+   * @return The word in memory at the specified offset
+   */
+  public Bytes32 readMemoryWord(final UInt256 offset, final boolean explicitMemoryRead) {
+    final Bytes32 value = memory.getWord(offset);
+    if (explicitMemoryRead) {
+      setUpdatedMemory(offset, value);
+    }
+    return value;
+  }
+
   /**
    * Write byte to memory
    *
@@ -638,6 +653,21 @@ public class MessageFrame {
     }
   }
 
+  /**
+   * Write a 32-byte word to memory
+   *
+   * @param offset The offset in memory
+   * @param value The word to write
+   * @param explicitMemoryUpdate true if triggered by a memory opcode, false otherwise
+   */
+  public void writeMemoryWord(
+      final UInt256 offset, final Bytes32 value, final boolean explicitMemoryUpdate) {
+    memory.setWord(offset, value);
+    if (explicitMemoryUpdate) {
+      setUpdatedMemory(offset, value.copy());
+    }
+  }
+
   /**
    * Write bytes to memory
    *
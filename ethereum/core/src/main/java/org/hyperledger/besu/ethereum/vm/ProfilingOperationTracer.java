@@ -0,0 +1,268 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.vm;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Gas;
+import org.hyperledger.besu.ethereum.vm.Operation.OperationResult;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Aggregates how many times each opcode ran, how long it took and how much gas it charged, both
+ * per opcode and per contract whose code was executing.
+ *
+ * <p>Times are self times: a call or create opcode is only charged for setting up the child frame,
+ * the child's opcodes are charged separately. Recording a step does not allocate. Contracts are
+ * tracked individually up to a limit, after which further contracts are aggregated together so
+ * the profile cannot grow without bound.
+ */
+public class ProfilingOperationTracer implements OperationTracer {
+
+  public static final int DEFAULT_MAX_TRACKED_CONTRACTS = 10_000;
+
+  private static final int OPCODE_COUNT = 256;
+
+  private final AtomicReferenceArray<Operation> operations =
+      new AtomicReferenceArray<>(OPCODE_COUNT);
+  private final AtomicLongArray operationCounts = new AtomicLongArray(OPCODE_COUNT);
+  private final AtomicLongArray operationGas = new AtomicLongArray(OPCODE_COUNT);
+  private final AtomicLongArray operationNanos = new AtomicLongArray(OPCODE_COUNT);
+
+  private final Map<Address, Accumulator> contracts = new ConcurrentHashMap<>();
+  private final Accumulator untrackedContracts = new Accumulator(null);
+  private final int maxTrackedContracts;
+  private volatile Accumulator lastContract = untrackedContracts;
+  private volatile OperationGauges operationGauges;
+
+  public ProfilingOperationTracer() {
+    this(DEFAULT_MAX_TRACKED_CONTRACTS);
+  }
+
+  public ProfilingOperationTracer(final int maxTrackedContracts) {
+    this.maxTrackedContracts = maxTrackedContracts;
+  }
+
+  @Override
+  public void traceExecution(final MessageFrame frame, final ExecuteOperation executeOperation) {
+    final Operation operation = frame.getCurrentOperation();
+    final long start = System.nanoTime();
+    final OperationResult result = executeOperation.execute();
+    final long nanos = System.nanoTime() - start;
+
+    final Optional<Gas> gasCost = result.getGasCost();
+    final long gas = gasCost.isPresent() ? gasCost.get().toLong() : 0;
+
+    final int opcode = operation.getOpcode() & 0xff;
+    if (operations.get(opcode) == null && operations.compareAndSet(opcode, null, operation)) {
+      final OperationGauges gauges = operationGauges;
+      if (gauges != null) {
+        gauges.register(opcode, operation);
+      }
+    }
+    operationCounts.incrementAndGet(opcode);
+    operationGas.addAndGet(opcode, gas);
+    operationNanos.addAndGet(opcode, nanos);
+
+    contractAccumulator(frame.getContractAddress()).record(gas, nanos);
+  }
+
+  private Accumulator contractAccumulator(final Address address) {
+    final Accumulator last = lastContract;
+    if (last.address == address) {
+      return last;
+    }
+    Accumulator accumulator = contracts.get(address);
+    if (accumulator == null) {
+      if (contracts.size() >= maxTrackedContracts) {
+        return untrackedContracts;
+      }
+      accumulator = contracts.computeIfAbsent(address, Accumulator::new);
+    }
+    lastContract = accumulator;
+    return accumulator;
+  }
+
+  /**
+   * Returns the profile of every opcode executed so far, most expensive in time first.
+   *
+   * @return the profile of each executed opcode, keyed by opcode name
+   */
+  public Map<String, Stats> getOperationStats() {
+    final Map<String, Stats> stats = new HashMap<>();
+    for (int opcode = 0; opcode < OPCODE_COUNT; opcode++) {
+      final Operation operation = operations.get(opcode);
+      if (operation != null) {
+        stats.put(
+            operation.getName(),
+            new Stats(
+                operationCounts.get(opcode), operationGas.get(opcode), operationNanos.get(opcode)));
+      }
+    }
+    return mostExpensiveFirst(stats, stats.size());
+  }
+
+  /**
+   * Returns the profile of the contracts that took the most time to execute.
+   *
+   * @param limit the maximum number of contracts to return
+   * @return the profile of the most expensive contracts, most expensive first
+   */
+  public Map<Address, Stats> getContractStats(final int limit) {
+    final Map<Address, Stats> stats = new HashMap<>();
+    contracts.forEach((address, accumulator) -> stats.put(address, accumulator.snapshot()));
+    return mostExpensiveFirst(stats, limit);
+  }
+
+  /**
+   * Returns the combined profile of contracts seen after the tracked contract limit was reached.
+   *
+   * @return the combined profile of untracked contracts
+   */
+  public Stats getUntrackedContractStats() {
+    return untrackedContracts.snapshot();
+  }
+
+  /** Discards everything recorded so far. */
+  public void reset() {
+    for (int opcode = 0; opcode < OPCODE_COUNT; opcode++) {
+      operationCounts.set(opcode, 0);
+      operationGas.set(opcode, 0);
+      operationNanos.set(opcode, 0);
+    }
+    lastContract = untrackedContracts;
+    contracts.clear();
+    untrackedContracts.clear();
+  }
+
+  /**
+   * Exposes the per opcode profile as labelled gauges. Opcodes are added the first time they run.
+   * Contracts are left out as they would give the metrics an unbounded number of labels.
+   *
+   * @param metricsSystem the metrics system to register with
+   */
+  public void registerMetrics(final MetricsSystem metricsSystem) {
+    final OperationGauges gauges = new OperationGauges(metricsSystem);
+    operationGauges = gauges;
+    for (int opcode = 0; opcode < OPCODE_COUNT; opcode++) {
+      final Operation operation = operations.get(opcode);
+      if (operation != null) {
+        gauges.register(opcode, operation);
+      }
+    }
+  }
+
+  private static <K> Map<K, Stats> mostExpensiveFirst(final Map<K, Stats> stats, final int limit) {
+    final Map<K, Stats> sorted = new LinkedHashMap<>();
+    stats.entrySet().stream()
+        .sorted(Map.Entry.comparingByValue(Comparator.comparingLong(Stats::getNanos).reversed()))
+        .limit(limit)
+        .forEachOrdered(entry -> sorted.put(entry.getKey(), entry.getValue()));
+    return sorted;
+  }
+
+  private class OperationGauges {
+    private final LabelledGauge counts;
+    private final LabelledGauge gas;
+    private final LabelledGauge seconds;
+
+    private OperationGauges(final MetricsSystem metricsSystem) {
+      counts =
+          metricsSystem.createLabelledGauge(
+              BesuMetricCategory.BLOCKCHAIN, "evm_operations", "EVM operations executed", "opcode");
+      gas =
+          metricsSystem.createLabelledGauge(
+              BesuMetricCategory.BLOCKCHAIN,
+              "evm_operation_gas",
+              "Gas charged by EVM operations",
+              "opcode");
+      seconds =
+          metricsSystem.createLabelledGauge(
+              BesuMetricCategory.BLOCKCHAIN,
+              "evm_operation_seconds",
+              "Time spent executing EVM operations",
+              "opcode");
+    }
+
+    private void register(final int opcode, final Operation operation) {
+      final String name = operation.getName();
+      counts.labels(() -> operationCounts.get(opcode), name);
+      gas.labels(() -> operationGas.get(opcode), name);
+      seconds.labels(() -> operationNanos.get(opcode) / 1e9, name);
+    }
+  }
+
+  private static class Accumulator {
+    private final Address address;
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong gas = new AtomicLong();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private Accumulator(final Address address) {
+      this.address = address;
+    }
+
+    private void record(final long gasCost, final long elapsedNanos) {
+      count.incrementAndGet();
+      gas.addAndGet(gasCost);
+      nanos.addAndGet(elapsedNanos);
+    }
+
+    private void clear() {
+      count.set(0);
+      gas.set(0);
+      nanos.set(0);
+    }
+
+    private Stats snapshot() {
+      return new Stats(count.get(), gas.get(), nanos.get());
+    }
+  }
+
+  public static class Stats {
+    private final long count;
+    private final long gas;
+    private final long nanos;
+
+    public Stats(final long count, final long gas, final long nanos) {
+      this.count = count;
+      this.gas = gas;
+      this.nanos = nanos;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getGas() {
+      return gas;
+    }
+
+    public long getNanos() {
+      return nanos;
+    }
+  }
+}
@@ -23,7 +23,6 @@ import org.hyperledger.besu.ethereum.vm.MessageFrame;
 
 import java.util.Optional;
 
-import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
 
 public class MLoadOperation extends AbstractOperation {
@@ -42,9 +41,7 @@ public class MLoadOperation extends AbstractOperation {
       return new OperationResult(optionalCost, Optional.of(ExceptionalHaltReason.INSUFFICIENT_GAS));
     }
 
-    final Bytes32 value = Bytes32.leftPad(frame.readMemory(location, UInt256.valueOf(32), true));
-
-    frame.pushStackItem(value);
+    frame.pushStackItem(frame.readMemoryWord(location, true));
     return new OperationResult(optionalCost, Optional.empty());
   }
 }
@@ -43,7 +43,7 @@ public class MStoreOperation extends AbstractOperation {
       return new OperationResult(optionalCost, Optional.of(ExceptionalHaltReason.INSUFFICIENT_GAS));
     }
 
-    frame.writeMemory(location, UInt256.valueOf(32), value, true);
+    frame.writeMemoryWord(location, value, true);
     return new OperationResult(optionalCost, Optional.empty());
   }
 }
@@ -26,6 +26,9 @@ import org.hyperledger.besu.ethereum.core.UpdateTrackingAccount;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.core.WorldState;
 import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.Phase;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.PhaseTimer;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
 import org.hyperledger.besu.ethereum.rlp.RLPInput;
@@ -180,6 +183,7 @@ public class DefaultMutableWorldState implements MutableWorldState {
   @Override
   public void persist(final BlockHeader blockHeader) {
     final WorldStateStorage.Updater stateUpdater = worldStateStorage.updater();
+    final PhaseTimer stateRootTimer = BlockProcessingMetrics.startPhase(Phase.STATE_ROOT);
     // Store updated code
     for (final Bytes code : updatedAccountCode.values()) {
       stateUpdater.putCode(null, code);
@@ -192,6 +196,7 @@ public class DefaultMutableWorldState implements MutableWorldState {
     }
     // Commit account updates
     accountStateTrie.commit(stateUpdater::putAccountStateTrieNode);
+    stateRootTimer.stop();
 
     // Persist preimages
     final WorldStatePreimageStorage.Updater preimageUpdater = preimageStorage.updater();
@@ -204,8 +209,10 @@ public class DefaultMutableWorldState implements MutableWorldState {
     newStorageKeyPreimages.clear();
 
     // Push changes to underlying storage
+    final PhaseTimer commitTimer = BlockProcessingMetrics.startPhase(Phase.DATABASE_COMMIT);
     preimageUpdater.commit();
     stateUpdater.commit();
+    commitTimer.stop();
   }
 
   private Optional<UInt256> getStorageTrieKeyPreimage(final Bytes32 trieKey) {
@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.ethereum.worldstate;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
@@ -26,17 +28,17 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -53,9 +55,12 @@ public class MarkSweepPruner {
   private static final byte[] IN_USE = Bytes.of(1).toArrayUnsafe();
 
   private static final int DEFAULT_OPS_PER_TRANSACTION = 10_000;
-  private static final int MAX_MARKING_THREAD_POOL_SIZE = 2;
+  private static final int DEFAULT_MARKING_THREAD_POOL_SIZE =
+      Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+  private static final int QUEUED_MARKING_TASKS_PER_THREAD = 8;
 
   private final int operationsPerTransaction;
+  private final int markingThreadPoolSize;
   private final WorldStateStorage worldStateStorage;
   private final MutableBlockchain blockchain;
   private final KeyValueStorage markStorage;
@@ -65,7 +70,7 @@ public class MarkSweepPruner {
   private final Counter sweptNodesCounter;
   private final Stopwatch markStopwatch;
   private volatile long nodeAddedListenerId;
-  private final ReadWriteLock pendingMarksLock = new ReentrantReadWriteLock();
+  private final AtomicBoolean flushingPendingMarks = new AtomicBoolean(false);
   private final Set<Bytes32> pendingMarks = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
   public MarkSweepPruner(
@@ -82,10 +87,28 @@ public class MarkSweepPruner {
       final KeyValueStorage markStorage,
       final ObservableMetricsSystem metricsSystem,
       final int operationsPerTransaction) {
+    this(
+        worldStateStorage,
+        blockchain,
+        markStorage,
+        metricsSystem,
+        operationsPerTransaction,
+        DEFAULT_MARKING_THREAD_POOL_SIZE);
+  }
+
+  public MarkSweepPruner(
+      final WorldStateStorage worldStateStorage,
+      final MutableBlockchain blockchain,
+      final KeyValueStorage markStorage,
+      final ObservableMetricsSystem metricsSystem,
+      final int operationsPerTransaction,
+      final int markingThreadPoolSize) {
+    checkArgument(markingThreadPoolSize > 0, "markingThreadPoolSize must be greater than 0");
     this.worldStateStorage = worldStateStorage;
     this.markStorage = markStorage;
     this.blockchain = blockchain;
     this.operationsPerTransaction = operationsPerTransaction;
+    this.markingThreadPoolSize = markingThreadPoolSize;
 
     markedNodesCounter =
         metricsSystem.createCounter(
@@ -114,7 +137,7 @@ public class MarkSweepPruner {
         "Cumulative number of seconds spent marking the state trie across all pruning cycles",
         () -> markStopwatch.elapsed(TimeUnit.SECONDS));
 
-    LOG.debug("Using {} pruner threads", MAX_MARKING_THREAD_POOL_SIZE);
+    LOG.debug("Using {} pruner threads", markingThreadPoolSize);
   }
 
   public void prepare() {
@@ -158,10 +181,10 @@ public class MarkSweepPruner {
     final ExecutorService markingExecutorService =
         new ThreadPoolExecutor(
             0,
-            MAX_MARKING_THREAD_POOL_SIZE,
+            markingThreadPoolSize,
             5L,
             TimeUnit.SECONDS,
-            new LinkedBlockingDeque<>(16),
+            new LinkedBlockingDeque<>(markingThreadPoolSize * QUEUED_MARKING_TASKS_PER_THREAD),
             new ThreadFactoryBuilder()
                 .setDaemon(true)
                 .setPriority(Thread.MIN_PRIORITY)
@@ -272,39 +295,30 @@ public class MarkSweepPruner {
   }
 
   private void markThenMaybeFlush(final Runnable nodeMarker, final int numberOfNodes) {
-    // We use the read lock here because pendingMarks is threadsafe and we want to allow all the
-    // marking threads access simultaneously.
-    final Lock markLock = pendingMarksLock.readLock();
-    markLock.lock();
-    try {
-      nodeMarker.run();
-    } finally {
-      markLock.unlock();
-    }
+    // pendingMarks is threadsafe, so marking threads and the block import listener add to it
+    // without any coordination.
+    nodeMarker.run();
     markedNodesCounter.inc(numberOfNodes);
 
-    // However, when the size of pendingMarks grows too large, we want all the threads to stop
-    // adding because we're going to clear the set.
-    // Therefore, we need to take out a write lock.
-    if (pendingMarks.size() >= operationsPerTransaction) {
-      final Lock flushLock = pendingMarksLock.writeLock();
-      flushLock.lock();
+    // When pendingMarks grows too large a single thread writes it out to the mark storage. Every
+    // other thread carries on adding marks rather than waiting for the flush to complete.
+    if (pendingMarks.size() >= operationsPerTransaction
+        && flushingPendingMarks.compareAndSet(false, true)) {
       try {
-        // Check once again that the condition holds. If it doesn't, that means another thread
-        // already flushed them.
-        if (pendingMarks.size() >= operationsPerTransaction) {
-          flushPendingMarks();
-        }
+        flushPendingMarks();
       } finally {
-        flushLock.unlock();
+        flushingPendingMarks.set(false);
       }
     }
   }
 
   private void flushPendingMarks() {
+    final List<Bytes32> flushedMarks = new ArrayList<>(pendingMarks);
     final KeyValueStorageTransaction transaction = markStorage.startTransaction();
-    pendingMarks.forEach(node -> transaction.put(node.toArrayUnsafe(), IN_USE));
+    flushedMarks.forEach(node -> transaction.put(node.toArrayUnsafe(), IN_USE));
     transaction.commit();
-    pendingMarks.clear();
+    // Only remove what was committed. Marks added during the flush stay pending, and a flushed
+    // mark leaves pendingMarks only once it is in the mark storage, so isMarked always finds it.
+    flushedMarks.forEach(pendingMarks::remove);
   }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.worldstate;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.plugin.services.exception.StorageException;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Wraps a hash-keyed (forest) {@link WorldStateStorage} so that committing an updater returns as
+ * soon as its nodes are staged in memory, while the write to the underlying storage happens on a
+ * background thread. This lets block import execute the next block against the nodes of the
+ * previous block while they are still being written.
+ *
+ * <p>Staged nodes are served to readers until their write completes. Writes are applied strictly in
+ * commit order, and at most {@code maxPendingCommits} commits may be in flight before {@link
+ * Updater#commit()} blocks. A node whose write failed causes every subsequent commit to fail.
+ */
+public class PipelinedWorldStateStorage implements WorldStateStorage, Closeable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final WorldStateStorage delegate;
+  private final Map<Bytes32, Bytes> pendingNodes = new ConcurrentHashMap<>();
+  private final Semaphore pendingCommits;
+  private final AtomicReference<Throwable> commitFailure = new AtomicReference<>();
+  private final ExecutorService commitExecutor;
+
+  public PipelinedWorldStateStorage(final WorldStateStorage delegate, final int maxPendingCommits) {
+    this.delegate = delegate;
+    this.pendingCommits = new Semaphore(maxPendingCommits);
+    this.commitExecutor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("WorldStateCommit-%d").build());
+  }
+
+  @Override
+  public Optional<Bytes> getCode(final Bytes32 codeHash, final Hash accountHash) {
+    return getPending(codeHash).or(() -> delegate.getCode(codeHash, accountHash));
+  }
+
+  @Override
+  public Optional<Bytes> getAccountTrieNodeData(final Bytes location, final Bytes32 hash) {
+    return getPending(hash).or(() -> delegate.getAccountTrieNodeData(location, hash));
+  }
+
+  @Override
+  public Optional<Bytes> getAccountStateTrieNode(final Bytes location, final Bytes32 nodeHash) {
+    return getPending(nodeHash).or(() -> delegate.getAccountStateTrieNode(location, nodeHash));
+  }
+
+  @Override
+  public Optional<Bytes> getAccountStorageTrieNode(
+      final Hash accountHash, final Bytes location, final Bytes32 nodeHash) {
+    return getPending(nodeHash)
+        .or(() -> delegate.getAccountStorageTrieNode(accountHash, location, nodeHash));
+  }
+
+  @Override
+  public Optional<Bytes> getNodeData(final Bytes location, final Bytes32 hash) {
+    return getPending(hash).or(() -> delegate.getNodeData(location, hash));
+  }
+
+  @Override
+  public boolean isWorldStateAvailable(final Bytes32 rootHash, final Hash blockHash) {
+    return pendingNodes.containsKey(rootHash)
+        || delegate.isWorldStateAvailable(rootHash, blockHash);
+  }
+
+  private Optional<Bytes> getPending(final Bytes32 hash) {
+    return Optional.ofNullable(pendingNodes.get(hash));
+  }
+
+  @Override
+  public Updater updater() {
+    return new PipelinedUpdater();
+  }
+
+  @Override
+  public long prune(final Predicate<byte[]> inUseCheck) {
+    return delegate.prune(inUseCheck);
+  }
+
+  @Override
+  public long addNodeAddedListener(final NodesAddedListener listener) {
+    return delegate.addNodeAddedListener(listener);
+  }
+
+  @Override
+  public void removeNodeAddedListener(final long id) {
+    delegate.removeNodeAddedListener(id);
+  }
+
+  /** Blocks until every commit issued so far has been written to the underlying storage. */
+  public void flush() {
+    try {
+      commitExecutor.submit(() -> {}).get();
+    } catch (final Exception e) {
+      throw new StorageException("Failed to flush pending world state commits", e);
+    }
+    checkCommitFailure();
+  }
+
+  @Override
+  public void close() {
+    commitExecutor.shutdown();
+    try {
+      if (!commitExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOG.warn("Timed out waiting for pending world state commits to complete");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void checkCommitFailure() {
+    final Throwable failure = commitFailure.get();
+    if (failure != null) {
+      throw new StorageException("A previous world state commit failed", failure);
+    }
+  }
+
+  private class PipelinedUpdater implements Updater {
+    private final List<Consumer<Updater>> operations = new ArrayList<>();
+    private final Map<Bytes32, Bytes> stagedNodes = new HashMap<>();
+
+    @Override
+    public Updater putCode(final Hash accountHash, final Bytes32 codeHash, final Bytes code) {
+      if (code.size() > 0) {
+        stagedNodes.put(codeHash, code);
+      }
+      operations.add(updater -> updater.putCode(accountHash, codeHash, code));
+      return this;
+    }
+
+    @Override
+    public Updater saveWorldState(final Bytes blockHash, final Bytes32 nodeHash, final Bytes node) {
+      stagedNodes.put(nodeHash, node);
+      operations.add(updater -> updater.saveWorldState(blockHash, nodeHash, node));
+      return this;
+    }
+
+    @Override
+    public Updater putAccountStateTrieNode(
+        final Bytes location, final Bytes32 nodeHash, final Bytes node) {
+      stagedNodes.put(nodeHash, node);
+      operations.add(updater -> updater.putAccountStateTrieNode(location, nodeHash, node));
+      return this;
+    }
+
+    @Override
+    public Updater removeAccountStateTrieNode(final Bytes location, final Bytes32 nodeHash) {
+      stagedNodes.remove(nodeHash);
+      operations.add(updater -> updater.removeAccountStateTrieNode(location, nodeHash));
+      return this;
+    }
+
+    @Override
+    public Updater putAccountStorageTrieNode(
+        final Hash accountHash, final Bytes location, final Bytes32 nodeHash, final Bytes node) {
+      stagedNodes.put(nodeHash, node);
+      operations.add(
+          updater -> updater.putAccountStorageTrieNode(accountHash, location, nodeHash, node));
+      return this;
+    }
+
+    @Override
+    public void commit() {
+      checkCommitFailure();
+      try {
+        pendingCommits.acquire();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new StorageException("Interrupted waiting for pending world state commits", e);
+      }
+      pendingNodes.putAll(stagedNodes);
+      commitExecutor.execute(this::applyToDelegate);
+    }
+
+    private void applyToDelegate() {
+      try {
+        final Updater updater = delegate.updater();
+        operations.forEach(operation -> operation.accept(updater));
+        updater.commit();
+        stagedNodes.keySet().forEach(pendingNodes::remove);
+      } catch (final Throwable t) {
+        LOG.error("Failed to commit world state changes", t);
+        commitFailure.compareAndSet(null, t);
+      } finally {
+        pendingCommits.release();
+      }
+    }
+
+    @Override
+    public void rollback() {
+      operations.clear();
+      stagedNodes.clear();
+    }
+  }
+}
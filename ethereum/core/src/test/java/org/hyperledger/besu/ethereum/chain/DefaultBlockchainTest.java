@@ -21,6 +21,7 @@ import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.BlockDataGenerator.BlockOptions;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockWithReceipts;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
@@ -268,6 +269,50 @@ public class DefaultBlockchainTest {
     assertThat(blockchain.getForks()).isEmpty();
   }
 
+  @Test
+  public void appendBlocksInSingleBatch() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final List<Block> chain = gen.blockSequence(5);
+    final List<BlockWithReceipts> blocksWithReceipts =
+        chain.stream()
+            .skip(1)
+            .map(block -> new BlockWithReceipts(block, gen.receipts(block)))
+            .collect(Collectors.toList());
+
+    final KeyValueStorage kvStore = new InMemoryKeyValueStorage();
+    final DefaultBlockchain blockchain = createMutableBlockchain(kvStore, chain.get(0));
+    final List<Block> addedBlocks = new ArrayList<>();
+    blockchain.observeBlockAdded(event -> addedBlocks.add(event.getBlock()));
+    blockchain.appendBlocks(blocksWithReceipts);
+
+    for (final BlockWithReceipts blockWithReceipts : blocksWithReceipts) {
+      assertBlockDataIsStored(
+          blockchain, blockWithReceipts.getBlock(), blockWithReceipts.getReceipts());
+    }
+    final Block head = chain.get(chain.size() - 1);
+    assertBlockIsHead(blockchain, head);
+    assertTotalDifficultiesAreConsistent(blockchain, head);
+    assertThat(addedBlocks).containsExactlyElementsOf(chain.subList(1, chain.size()));
+  }
+
+  @Test
+  public void appendBlocksRejectsGapWithoutStoringAnything() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final List<Block> chain = gen.blockSequence(4);
+
+    final KeyValueStorage kvStore = new InMemoryKeyValueStorage();
+    final DefaultBlockchain blockchain = createMutableBlockchain(kvStore, chain.get(0));
+    final List<BlockWithReceipts> blocksWithGap =
+        Lists.newArrayList(
+            new BlockWithReceipts(chain.get(1), gen.receipts(chain.get(1))),
+            new BlockWithReceipts(chain.get(3), gen.receipts(chain.get(3))));
+
+    assertThatThrownBy(() -> blockchain.appendBlocks(blocksWithGap))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertBlockIsHead(blockchain, chain.get(0));
+    assertThat(blockchain.getBlockHeader(chain.get(1).getHash())).isEmpty();
+  }
+
   @Test
   public void appendBlockWithReorgToChainAtEqualHeight() {
     final BlockDataGenerator gen = new BlockDataGenerator(1);
@@ -0,0 +1,75 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.Phase;
+import org.hyperledger.besu.ethereum.mainnet.BlockProcessingMetrics.PhaseTimer;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
+
+import org.junit.Test;
+
+public class BlockProcessingMetricsTest {
+
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final BlockProcessingMetrics metrics = new BlockProcessingMetrics(metricsSystem);
+  private final Block block =
+      new BlockDataGenerator().block(BlockDataGenerator.BlockOptions.create().setGasUsed(21_000));
+
+  @Test
+  public void phaseTimersDoNothingOutsideOfABlockImport() {
+    final PhaseTimer timer = BlockProcessingMetrics.startPhase(Phase.TRANSACTION_EXECUTION);
+    timer.stop();
+
+    assertThat(BlockProcessingMetrics.startPhase(Phase.STATE_ROOT)).isSameAs(timer);
+  }
+
+  @Test
+  public void gasPerSecondGaugesReflectTheLastImportedBlock() {
+    try (final BlockProcessingMetrics.BlockImport blockImport = metrics.startBlockImport(block)) {
+      BlockProcessingMetrics.startPhase(Phase.TRANSACTION_EXECUTION).stop();
+      blockImport.imported();
+    }
+
+    assertThat(metricsSystem.getGaugeValue("block_import_gas_per_second")).isPositive();
+    assertThat(metricsSystem.getGaugeValue("block_execution_gas_per_second")).isPositive();
+  }
+
+  @Test
+  public void gaugesAreNotUpdatedForBlocksThatWereNotImported() {
+    try (final BlockProcessingMetrics.BlockImport ignored = metrics.startBlockImport(block)) {
+      BlockProcessingMetrics.startPhase(Phase.TRANSACTION_EXECUTION).stop();
+    }
+
+    assertThat(metricsSystem.getGaugeValue("block_import_gas_per_second")).isZero();
+    assertThat(metricsSystem.getGaugeValue("block_execution_gas_per_second")).isZero();
+  }
+
+  @Test
+  public void phaseTimersStopRecordingOnceTheImportCloses() {
+    final PhaseTimer insideImport;
+    try (final BlockProcessingMetrics.BlockImport ignored = metrics.startBlockImport(block)) {
+      insideImport = BlockProcessingMetrics.startPhase(Phase.HEADER_VALIDATION);
+      insideImport.stop();
+    }
+
+    final PhaseTimer afterImport = BlockProcessingMetrics.startPhase(Phase.HEADER_VALIDATION);
+    assertThat(afterImport).isNotSameAs(insideImport);
+    assertThat(afterImport).isSameAs(BlockProcessingMetrics.startPhase(Phase.STATE_ROOT));
+  }
+}
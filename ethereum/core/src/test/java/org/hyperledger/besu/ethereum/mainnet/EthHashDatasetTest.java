@@ -0,0 +1,95 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EthHashDatasetTest {
+
+  private static final long DATASET_SIZE = 32 * 1024;
+  private static final Bytes HEADER_HASH =
+      Bytes.fromHexString("c9149cc0386e689d789a1c2f3d5d169a61a6218ed30e74414dc736e442ef3d1f");
+
+  @Rule public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private final int[] cache =
+      EthHash.mkCache(1024, 1L, new EpochCalculator.DefaultEpochCalculator());
+
+  @Test
+  public void generatedItemsMatchLightCalculation() throws Exception {
+    final Path file = tempFolder.getRoot().toPath().resolve("full-0");
+    final EthHashDataset dataset = EthHashDataset.loadOrGenerate(file, 0, DATASET_SIZE, cache);
+
+    assertThat(Files.size(file)).isEqualTo(DATASET_SIZE);
+    final byte[] expected = new byte[EthHash.HASH_BYTES];
+    final byte[] actual = new byte[EthHash.HASH_BYTES];
+    for (int i = 0; i < DATASET_SIZE / EthHash.HASH_BYTES; i++) {
+      EthHash.calcDatasetItem(expected, cache, i);
+      dataset.lookup(actual, i);
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void hashimotoFullMatchesHashimotoLight() {
+    final EthHashDataset dataset =
+        EthHashDataset.loadOrGenerate(
+            tempFolder.getRoot().toPath().resolve("full-0"), 0, DATASET_SIZE, cache);
+
+    for (long nonce = 0; nonce < 10; nonce++) {
+      final PoWSolution full = EthHash.hashimoto(HEADER_HASH, DATASET_SIZE, nonce, dataset::lookup);
+      final PoWSolution light = EthHash.hashimotoLight(DATASET_SIZE, cache, HEADER_HASH, nonce);
+      assertThat(full.getSolution()).isEqualTo(light.getSolution());
+      assertThat(full.getMixHash()).isEqualTo(light.getMixHash());
+    }
+  }
+
+  @Test
+  public void reusesExistingDatasetFile() throws Exception {
+    final Path file = tempFolder.getRoot().toPath().resolve("full-0");
+    EthHashDataset.loadOrGenerate(file, 0, DATASET_SIZE, cache);
+    final byte[] stored = Files.readAllBytes(file);
+
+    // Loading with a different cache must not regenerate the stored dataset.
+    final EthHashDataset reloaded =
+        EthHashDataset.loadOrGenerate(file, 0, DATASET_SIZE, new int[cache.length]);
+    final byte[] item = new byte[EthHash.HASH_BYTES];
+    reloaded.lookup(item, 1);
+
+    assertThat(Files.readAllBytes(file)).isEqualTo(stored);
+    assertThat(Bytes.wrap(item)).isEqualTo(Bytes.wrap(stored, EthHash.HASH_BYTES, item.length));
+  }
+
+  @Test
+  public void findsFirstBlockOfNextEpoch() {
+    final EpochCalculator defaultCalculator = new EpochCalculator.DefaultEpochCalculator();
+    assertThat(EthHashDatasetFactory.firstBlockOfNextEpoch(0, defaultCalculator))
+        .isEqualTo(30_000);
+    assertThat(EthHashDatasetFactory.firstBlockOfNextEpoch(45_000, defaultCalculator))
+        .isEqualTo(60_000);
+    assertThat(
+            EthHashDatasetFactory.firstBlockOfNextEpoch(
+                59_999, new EpochCalculator.Ecip1099EpochCalculator()))
+        .isEqualTo(60_000);
+  }
+}
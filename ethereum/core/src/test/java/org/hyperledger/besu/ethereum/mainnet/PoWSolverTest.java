@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.mainnet;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
@@ -28,6 +29,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
@@ -153,4 +156,56 @@ public class PoWSolverTest {
     soln = solver.solveFor(PoWSolver.PoWSolverJob.createFromInputs(secondInputs));
     assertThat(soln.getMixHash()).isEqualTo(expectedSecondOutput.getMixHash());
   }
+
+  @Test
+  public void multipleThreadsSearchDisjointNonces()
+      throws InterruptedException, ExecutionException {
+    final long winningNonce = 42L;
+    final PoWSolver solver =
+        new PoWSolver(
+            LongStream.range(0, 100).boxed().collect(Collectors.toList()),
+            hasherAccepting(winningNonce),
+            false,
+            Subscribers.none(),
+            new EpochCalculator.DefaultEpochCalculator(),
+            4);
+
+    final PoWSolverInputs inputs = new PoWSolverInputs(UInt256.ONE, Bytes.EMPTY, 5);
+    final PoWSolution solution = solver.solveFor(PoWSolver.PoWSolverJob.createFromInputs(inputs));
+
+    assertThat(solution.getNonce()).isEqualTo(winningNonce);
+    assertThat(solver.hashesPerSecond()).isPresent();
+  }
+
+  @Test
+  public void multipleThreadsFailOnceEveryWorkerExhaustsTheGenerator() {
+    final PoWSolver solver =
+        new PoWSolver(
+            LongStream.range(0, 10).boxed().collect(Collectors.toList()),
+            hasherAccepting(-1L),
+            false,
+            Subscribers.none(),
+            new EpochCalculator.DefaultEpochCalculator(),
+            3);
+
+    final PoWSolverInputs inputs = new PoWSolverInputs(UInt256.ONE, Bytes.EMPTY, 5);
+    assertThatThrownBy(() -> solver.solveFor(PoWSolver.PoWSolverJob.createFromInputs(inputs)))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  private PoWHasher hasherAccepting(final long acceptedNonce) {
+    final PoWHasher hasher = mock(PoWHasher.class);
+    doAnswer(
+            invocation -> {
+              final long nonce = invocation.getArgument(0);
+              final Bytes32 result =
+                  nonce == acceptedNonce ? Bytes32.ZERO : Bytes32.rightPad(Bytes.of((byte) 0xFF));
+              return new PoWSolution(
+                  nonce, Hash.wrap(Bytes32.ZERO), result, invocation.getArgument(3));
+            })
+        .when(hasher)
+        .hash(anyLong(), anyLong(), any(), any());
+    return hasher;
+  }
 }
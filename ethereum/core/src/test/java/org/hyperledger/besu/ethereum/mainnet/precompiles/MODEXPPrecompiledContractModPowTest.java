@@ -0,0 +1,100 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.precompiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.hyperledger.besu.ethereum.mainnet.BerlinGasCalculator;
+import org.hyperledger.besu.ethereum.vm.MessageFrame;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.junit.Test;
+
+/** Compares the MODEXP precompile with {@link BigInteger#modPow} on random operands. */
+public class MODEXPPrecompiledContractModPowTest {
+
+  private final BigIntegerModularExponentiationPrecompiledContract berlinContract =
+      new BigIntegerModularExponentiationPrecompiledContract(new BerlinGasCalculator());
+  private final MessageFrame messageFrame = mock(MessageFrame.class);
+  private final Random random = new Random(42);
+
+  @Test
+  public void matchesModPowForCommonModulusSizes() {
+    for (final int bytes : new int[] {32, 128, 256, 512}) {
+      for (int i = 0; i < 10; i++) {
+        final Bytes base = randomBytes(bytes);
+        final Bytes exponent = i % 2 == 0 ? Bytes.of(1, 0, 1) : randomBytes(32);
+        final MutableBytes modulus = randomBytes(bytes).mutableCopy();
+        // Exercise both odd and even moduli.
+        final byte lowByte = modulus.get(bytes - 1);
+        modulus.set(bytes - 1, i % 3 == 0 ? (byte) (lowByte & ~1) : (byte) (lowByte | 1));
+
+        assertThat(berlinContract.compute(modexpInput(base, exponent, modulus), messageFrame))
+            .isEqualTo(modPow(base, exponent, modulus));
+      }
+    }
+  }
+
+  @Test
+  public void padsTruncatedInputWithZeros() {
+    final Bytes base = randomBytes(64);
+    final Bytes exponent = randomBytes(32);
+    final Bytes modulus = randomBytes(64);
+    final Bytes input = modexpInput(base, exponent, modulus);
+
+    for (final int missing : new int[] {1, 10, 63, 64, 100}) {
+      final Bytes truncated = input.slice(0, input.size() - missing);
+      final MutableBytes padded = MutableBytes.create(input.size());
+      truncated.copyTo(padded, 0);
+
+      assertThat(berlinContract.compute(truncated, messageFrame))
+          .isEqualTo(modPow(padded.slice(96, 64), padded.slice(160, 32), padded.slice(192, 64)));
+    }
+  }
+
+  private Bytes randomBytes(final int size) {
+    final byte[] bytes = new byte[size];
+    random.nextBytes(bytes);
+    return Bytes.wrap(bytes);
+  }
+
+  private static Bytes modexpInput(final Bytes base, final Bytes exponent, final Bytes modulus) {
+    return Bytes.concatenate(
+        Bytes32.leftPad(Bytes.ofUnsignedInt(base.size())),
+        Bytes32.leftPad(Bytes.ofUnsignedInt(exponent.size())),
+        Bytes32.leftPad(Bytes.ofUnsignedInt(modulus.size())),
+        base,
+        exponent,
+        modulus);
+  }
+
+  private static Bytes modPow(final Bytes base, final Bytes exponent, final Bytes modulus) {
+    final BigInteger mod = modulus.toUnsignedBigInteger();
+    final MutableBytes result = MutableBytes.create(modulus.size());
+    if (mod.signum() != 0) {
+      final BigInteger value =
+          base.toUnsignedBigInteger().modPow(exponent.toUnsignedBigInteger(), mod);
+      final Bytes trimmed = Bytes.wrap(value.toByteArray()).trimLeadingZeros();
+      trimmed.copyTo(result, modulus.size() - trimmed.size());
+    }
+    return result;
+  }
+}
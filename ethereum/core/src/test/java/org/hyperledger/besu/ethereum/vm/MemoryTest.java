@@ -16,6 +16,8 @@ package org.hyperledger.besu.ethereum.vm;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
+
 import com.google.common.base.Strings;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -147,6 +149,43 @@ public class MemoryTest {
     assertThat(memory.getWord(UInt256.valueOf(64))).isEqualTo(Bytes32.ZERO);
   }
 
+  @Test
+  public void shouldOnlyExposeActiveWordsWhenExpandingIncrementally() {
+    for (int i = 0; i < 100; i++) {
+      memory.setWord(UInt256.valueOf(i * 32L), WORD1);
+      assertThat(memory.getActiveBytes()).isEqualTo((i + 1) * 32);
+      assertThat(memory.getActiveWords()).isEqualTo(UInt256.valueOf(i + 1));
+    }
+    assertThat(memory.getBytes(UInt256.ZERO, UInt256.valueOf(3200)))
+        .isEqualTo(Bytes.wrap(Collections.nCopies(100, WORD1).toArray(new Bytes[0])));
+    assertThat(memory.toString()).hasSize(2 + 3200 * 2);
+  }
+
+  @Test
+  public void shouldReadZeroesWhenExpandingPastActiveWords() {
+    memory.setWord(UInt256.ZERO, WORD1);
+    memory.setWord(UInt256.valueOf(32), WORD2);
+    memory.setWord(UInt256.valueOf(64), WORD3);
+
+    assertThat(memory.getWord(UInt256.valueOf(96))).isEqualTo(Bytes32.ZERO);
+    assertThat(memory.getWord(UInt256.valueOf(128))).isEqualTo(Bytes32.ZERO);
+    assertThat(memory.getActiveWords()).isEqualTo(UInt256.valueOf(5));
+  }
+
+  @Test
+  public void shouldBeEqualRegardlessOfHowMemoryWasExpanded() {
+    final Memory other = new Memory();
+    other.setBytes(UInt256.ZERO, UInt256.valueOf(96), Bytes.concatenate(WORD1, WORD2, WORD3));
+
+    memory.setWord(UInt256.ZERO, WORD1);
+    memory.setWord(UInt256.valueOf(32), WORD2);
+    assertThat(memory).isNotEqualTo(other);
+
+    memory.setWord(UInt256.valueOf(64), WORD3);
+    assertThat(memory).isEqualTo(other);
+    assertThat(memory.hashCode()).isEqualTo(other.hashCode());
+  }
+
   private static Bytes32 fillBytes32(final long value) {
     return Bytes32.fromHexString(Strings.repeat(Long.toString(value), 64));
   }
@@ -0,0 +1,124 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.vm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Gas;
+import org.hyperledger.besu.ethereum.core.MessageFrameTestFixture;
+import org.hyperledger.besu.ethereum.mainnet.FrontierGasCalculator;
+import org.hyperledger.besu.ethereum.vm.Operation.OperationResult;
+import org.hyperledger.besu.ethereum.vm.ProfilingOperationTracer.Stats;
+import org.hyperledger.besu.ethereum.vm.operations.AddOperation;
+import org.hyperledger.besu.ethereum.vm.operations.MulOperation;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class ProfilingOperationTracerTest {
+
+  private static final Address CONTRACT_1 = Address.fromHexString("0x01");
+  private static final Address CONTRACT_2 = Address.fromHexString("0x02");
+  private static final Address CONTRACT_3 = Address.fromHexString("0x03");
+
+  private final GasCalculator gasCalculator = new FrontierGasCalculator();
+  private final Operation add = new AddOperation(gasCalculator);
+  private final Operation mul = new MulOperation(gasCalculator);
+
+  private final MessageFrameTestFixture messageFrameTestFixture = new MessageFrameTestFixture();
+  private final ProfilingOperationTracer tracer = new ProfilingOperationTracer(2);
+
+  @Test
+  public void shouldAggregateByOpcode() {
+    trace(CONTRACT_1, add, 3);
+    trace(CONTRACT_1, add, 3);
+    trace(CONTRACT_2, mul, 5);
+
+    final Map<String, Stats> operations = tracer.getOperationStats();
+    assertThat(operations).containsOnlyKeys("ADD", "MUL");
+    assertThat(operations.get("ADD").getCount()).isEqualTo(2);
+    assertThat(operations.get("ADD").getGas()).isEqualTo(6);
+    assertThat(operations.get("MUL").getCount()).isEqualTo(1);
+    assertThat(operations.get("MUL").getGas()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldAggregateByContract() {
+    trace(CONTRACT_1, add, 3);
+    trace(CONTRACT_2, mul, 5);
+    trace(CONTRACT_1, mul, 5);
+
+    final Map<Address, Stats> contracts = tracer.getContractStats(10);
+    assertThat(contracts).containsOnlyKeys(CONTRACT_1, CONTRACT_2);
+    assertThat(contracts.get(CONTRACT_1).getCount()).isEqualTo(2);
+    assertThat(contracts.get(CONTRACT_1).getGas()).isEqualTo(8);
+    assertThat(contracts.get(CONTRACT_2).getCount()).isEqualTo(1);
+    assertThat(contracts.get(CONTRACT_2).getGas()).isEqualTo(5);
+    assertThat(tracer.getContractStats(1)).hasSize(1);
+  }
+
+  @Test
+  public void shouldAggregateContractsBeyondLimitTogether() {
+    trace(CONTRACT_1, add, 3);
+    trace(CONTRACT_2, add, 3);
+    trace(CONTRACT_3, mul, 5);
+    trace(CONTRACT_3, add, 3);
+
+    assertThat(tracer.getContractStats(10)).containsOnlyKeys(CONTRACT_1, CONTRACT_2);
+    assertThat(tracer.getUntrackedContractStats().getCount()).isEqualTo(2);
+    assertThat(tracer.getUntrackedContractStats().getGas()).isEqualTo(8);
+  }
+
+  @Test
+  public void shouldDiscardProfileOnReset() {
+    trace(CONTRACT_1, add, 3);
+    trace(CONTRACT_2, add, 3);
+    trace(CONTRACT_3, add, 3);
+
+    tracer.reset();
+
+    assertThat(tracer.getOperationStats().get("ADD").getCount()).isZero();
+    assertThat(tracer.getContractStats(10)).isEmpty();
+    assertThat(tracer.getUntrackedContractStats().getCount()).isZero();
+
+    trace(CONTRACT_3, add, 3);
+    assertThat(tracer.getContractStats(10)).containsOnlyKeys(CONTRACT_3);
+  }
+
+  @Test
+  public void shouldExposeOpcodesSeenBeforeAndAfterRegisteringMetrics() {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    trace(CONTRACT_1, add, 3);
+    tracer.registerMetrics(metricsSystem);
+    trace(CONTRACT_1, add, 3);
+    trace(CONTRACT_2, mul, 5);
+
+    assertThat(metricsSystem.getLabelledGaugeValue("evm_operations", "ADD")).isEqualTo(2);
+    assertThat(metricsSystem.getLabelledGaugeValue("evm_operation_gas", "ADD")).isEqualTo(6);
+    assertThat(metricsSystem.getLabelledGaugeValue("evm_operations", "MUL")).isEqualTo(1);
+    assertThat(metricsSystem.getLabelledGaugeValue("evm_operation_gas", "MUL")).isEqualTo(5);
+  }
+
+  private void trace(final Address contract, final Operation operation, final long gasCost) {
+    final MessageFrame frame = messageFrameTestFixture.contract(contract).build();
+    frame.setCurrentOperation(operation);
+    tracer.traceExecution(
+        frame, () -> new OperationResult(Optional.of(Gas.of(gasCost)), Optional.empty()));
+  }
+}
@@ -115,6 +115,27 @@ public class MarkSweepPrunerTest {
             expectedNodes.stream().map(Bytes::toArrayUnsafe).collect(Collectors.toSet()));
   }
 
+  @Test
+  public void mark_withConcurrentMarkingThreadsKeepsAllExpectedNodes() {
+    // flush marks after every node so marking threads constantly race the flushes
+    final MarkSweepPruner pruner =
+        new MarkSweepPruner(worldStateStorage, blockchain, markStorage, metricsSystem, 1, 4);
+
+    final int numBlocks = 15;
+    final int numAccounts = 10;
+    generateBlockchainData(numBlocks, numAccounts);
+
+    final BlockHeader markBlock = blockchain.getBlockHeader(10).get();
+    final Set<Bytes> expectedNodes = collectWorldStateNodes(markBlock.getStateRoot());
+
+    pruner.mark(markBlock.getStateRoot());
+    pruner.sweepBefore(markBlock.getNumber());
+
+    assertThat(hashValueStore.values())
+        .containsExactlyInAnyOrderElementsOf(
+            expectedNodes.stream().map(Bytes::toArrayUnsafe).collect(Collectors.toSet()));
+  }
+
   @Test
   public void sweepBefore_shouldSweepStateRootFirst() {
     final MarkSweepPruner pruner =
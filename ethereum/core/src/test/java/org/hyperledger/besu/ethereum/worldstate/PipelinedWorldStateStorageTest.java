@@ -0,0 +1,103 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.worldstate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStateKeyValueStorage;
+import org.hyperledger.besu.plugin.services.exception.StorageException;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.After;
+import org.junit.Test;
+
+public class PipelinedWorldStateStorageTest {
+
+  private static final Bytes NODE = Bytes.fromHexString("0x0123456789abcdef");
+  private static final Hash NODE_HASH = Hash.hash(NODE);
+
+  private final WorldStateKeyValueStorage keyValueStorage =
+      new WorldStateKeyValueStorage(new InMemoryKeyValueStorage());
+  private PipelinedWorldStateStorage storage;
+
+  @After
+  public void tearDown() {
+    if (storage != null) {
+      storage.close();
+    }
+  }
+
+  @Test
+  public void shouldWriteCommittedNodesToUnderlyingStorage() {
+    storage = new PipelinedWorldStateStorage(keyValueStorage, 2);
+
+    storage.updater().putAccountStateTrieNode(null, NODE_HASH, NODE).commit();
+    storage.flush();
+
+    assertThat(keyValueStorage.getAccountStateTrieNode(null, NODE_HASH)).contains(NODE);
+    assertThat(storage.getAccountStateTrieNode(null, NODE_HASH)).contains(NODE);
+  }
+
+  @Test
+  public void shouldServePendingNodesBeforeTheyAreWritten() throws Exception {
+    final CountDownLatch writeAllowed = new CountDownLatch(1);
+    final WorldStateStorage delegate = mock(WorldStateStorage.class);
+    final WorldStateStorage.Updater delegateUpdater = mock(WorldStateStorage.Updater.class);
+    when(delegate.updater()).thenReturn(delegateUpdater);
+    doAnswer(
+            invocation -> {
+              writeAllowed.await();
+              return null;
+            })
+        .when(delegateUpdater)
+        .commit();
+    storage = new PipelinedWorldStateStorage(delegate, 2);
+
+    storage.updater().putAccountStateTrieNode(null, NODE_HASH, NODE).commit();
+
+    assertThat(storage.getAccountStateTrieNode(null, NODE_HASH)).contains(NODE);
+    assertThat(storage.getNodeData(null, NODE_HASH)).contains(NODE);
+    assertThat(storage.isWorldStateAvailable(NODE_HASH, null)).isTrue();
+
+    writeAllowed.countDown();
+    storage.flush();
+    assertThat(storage.getAccountStateTrieNode(null, NODE_HASH)).isEmpty();
+  }
+
+  @Test
+  public void shouldFailSubsequentCommitsWhenAWriteFails() {
+    final WorldStateStorage delegate = mock(WorldStateStorage.class);
+    final WorldStateStorage.Updater delegateUpdater = mock(WorldStateStorage.Updater.class);
+    when(delegate.updater()).thenReturn(delegateUpdater);
+    doThrow(new StorageException(new RuntimeException("disk full")))
+        .when(delegateUpdater)
+        .commit();
+    storage = new PipelinedWorldStateStorage(delegate, 2);
+
+    storage.updater().putAccountStateTrieNode(null, NODE_HASH, NODE).commit();
+
+    assertThatThrownBy(storage::flush).isInstanceOf(StorageException.class);
+    assertThatThrownBy(() -> storage.updater().commit()).isInstanceOf(StorageException.class);
+  }
+}
@@ -38,6 +38,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -69,11 +70,11 @@ public class EthPeer {
   private final AtomicInteger lastProtocolVersion = new AtomicInteger(0);
 
   private volatile long lastRequestTimestamp = 0;
-  private final RequestManager headersRequestManager = new RequestManager(this);
-  private final RequestManager bodiesRequestManager = new RequestManager(this);
-  private final RequestManager receiptsRequestManager = new RequestManager(this);
-  private final RequestManager nodeDataRequestManager = new RequestManager(this);
-  private final RequestManager pooledTransactionsRequestManager = new RequestManager(this);
+  private final RequestManager headersRequestManager;
+  private final RequestManager bodiesRequestManager;
+  private final RequestManager receiptsRequestManager;
+  private final RequestManager nodeDataRequestManager;
+  private final RequestManager pooledTransactionsRequestManager;
 
   private final AtomicReference<Consumer<EthPeer>> onStatusesExchanged = new AtomicReference<>();
   private final PeerReputation reputation = new PeerReputation();
@@ -89,6 +90,11 @@ public class EthPeer {
     this.connection = connection;
     this.protocolName = protocolName;
     this.clock = clock;
+    headersRequestManager = new RequestManager(this, clock, MAX_OUTSTANDING_REQUESTS);
+    bodiesRequestManager = new RequestManager(this, clock, MAX_OUTSTANDING_REQUESTS);
+    receiptsRequestManager = new RequestManager(this, clock, MAX_OUTSTANDING_REQUESTS);
+    nodeDataRequestManager = new RequestManager(this, clock, MAX_OUTSTANDING_REQUESTS);
+    pooledTransactionsRequestManager = new RequestManager(this, clock, MAX_OUTSTANDING_REQUESTS);
     knownBlocks =
         Collections.newSetFromMap(
             Collections.synchronizedMap(
@@ -137,6 +143,7 @@ public class EthPeer {
 
   public void recordRequestTimeout(final int requestCode) {
     LOG.debug("Timed out while waiting for response from peer {}", this);
+    requestManagerForRequest(requestCode).ifPresent(RequestManager::recordTimeout);
     reputation.recordRequestTimeout(requestCode).ifPresent(this::disconnect);
   }
 
@@ -183,6 +190,23 @@ public class EthPeer {
     return sendRequest(headersRequestManager, message);
   }
 
+  private Optional<RequestManager> requestManagerForRequest(final int requestCode) {
+    switch (requestCode) {
+      case EthPV62.GET_BLOCK_HEADERS:
+        return Optional.of(headersRequestManager);
+      case EthPV62.GET_BLOCK_BODIES:
+        return Optional.of(bodiesRequestManager);
+      case EthPV63.GET_RECEIPTS:
+        return Optional.of(receiptsRequestManager);
+      case EthPV63.GET_NODE_DATA:
+        return Optional.of(nodeDataRequestManager);
+      case EthPV65.GET_POOLED_TRANSACTIONS:
+        return Optional.of(pooledTransactionsRequestManager);
+      default:
+        return Optional.empty();
+    }
+  }
+
   private RequestManager.ResponseStream sendRequest(
       final RequestManager requestManager, final MessageData messageData) throws PeerNotConnected {
     lastRequestTimestamp = clock.millis();
@@ -402,6 +426,22 @@ public class EthPeer {
     return outstandingRequests() < MAX_OUTSTANDING_REQUESTS;
   }
 
+  /**
+   * Check whether another node data request can be sent to this peer without exceeding the window
+   * of outstanding node data requests, which shrinks when the peer times out.
+   *
+   * @return true if a node data request can be sent to this peer now
+   */
+  public boolean hasAvailableNodeDataRequestCapacity() {
+    return hasAvailableRequestCapacity()
+        && nodeDataRequestManager.outstandingRequests()
+            < nodeDataRequestManager.getStatistics().getOutstandingRequestLimit();
+  }
+
+  public PeerRequestStatistics getNodeDataRequestStatistics() {
+    return nodeDataRequestManager.getStatistics();
+  }
+
   public Set<Capability> getAgreedCapabilities() {
     return connection.getAgreedCapabilities();
   }
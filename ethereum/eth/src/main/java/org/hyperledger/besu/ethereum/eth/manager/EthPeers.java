@@ -46,6 +46,12 @@ public class EthPeers {
       Comparator.comparing(EthPeer::outstandingRequests)
           .thenComparing(EthPeer::getLastRequestTimestamp);
 
+  public static final Comparator<EthPeer> FASTEST_NODE_DATA =
+      Comparator.comparing(
+              (final EthPeer p) -> p.getNodeDataRequestStatistics().getAverageThroughput())
+          .reversed()
+          .thenComparing(LEAST_TO_MOST_BUSY);
+
   private final Map<PeerConnection, EthPeer> connections = new ConcurrentHashMap<>();
   private final String protocolName;
   private final Clock clock;
@@ -97,8 +103,34 @@ public class EthPeers {
 
   public PendingPeerRequest executePeerRequest(
       final PeerRequest request, final long minimumBlockNumber, final Optional<EthPeer> peer) {
+    return executePeerRequest(
+        request,
+        minimumBlockNumber,
+        peer,
+        LEAST_TO_MOST_BUSY,
+        EthPeer::hasAvailableRequestCapacity);
+  }
+
+  /**
+   * Execute a request on the preferred peer that has capacity available, or queue it until such a
+   * peer becomes available.
+   *
+   * @param request the request to send
+   * @param minimumBlockNumber the minimum chain height a peer must have to serve the request
+   * @param peer the peer the request must be sent to, or empty to select a peer
+   * @param peerPreference orders suitable peers, with the most preferred peer first
+   * @param hasRequestCapacity checks if a peer can accept the request now
+   * @return the pending request
+   */
+  public PendingPeerRequest executePeerRequest(
+      final PeerRequest request,
+      final long minimumBlockNumber,
+      final Optional<EthPeer> peer,
+      final Comparator<EthPeer> peerPreference,
+      final Predicate<EthPeer> hasRequestCapacity) {
     final PendingPeerRequest pendingPeerRequest =
-        new PendingPeerRequest(this, request, minimumBlockNumber, peer);
+        new PendingPeerRequest(
+            this, request, minimumBlockNumber, peer, peerPreference, hasRequestCapacity);
     synchronized (this) {
       if (!pendingPeerRequest.attemptExecution()) {
         pendingRequests.add(pendingPeerRequest);
@@ -0,0 +1,145 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+/**
+ * Tracks how quickly and reliably a peer responds to one type of request. Latency and throughput
+ * are exponentially weighted moving averages, and the request size limit and the window of
+ * outstanding requests adapt to the peer's responses: they grow while the peer keeps up and shrink
+ * when it returns partial responses or times out.
+ */
+public class PeerRequestStatistics {
+  static final double SMOOTHING_FACTOR = 0.25;
+  static final int MIN_REQUEST_SIZE = 16;
+  static final int REQUEST_SIZE_INCREMENT = 32;
+
+  private final int maxOutstandingRequests;
+
+  private double averageLatencyMillis = Double.NaN;
+  private double averageThroughput = Double.NaN;
+  private int requestSizeLimit = Integer.MAX_VALUE;
+  private int lastRequestSize = Integer.MAX_VALUE;
+  private int outstandingRequestLimit;
+
+  public PeerRequestStatistics(final int maxOutstandingRequests) {
+    this.maxOutstandingRequests = maxOutstandingRequests;
+    this.outstandingRequestLimit = maxOutstandingRequests;
+  }
+
+  /**
+   * Record a response to a request.
+   *
+   * @param latencyMillis the time between sending the request and receiving the response
+   * @param responseSize the size of the response in bytes
+   */
+  public synchronized void recordResponse(final long latencyMillis, final int responseSize) {
+    final long boundedLatency = Math.max(1, latencyMillis);
+    averageLatencyMillis = smooth(averageLatencyMillis, boundedLatency);
+    averageThroughput = smooth(averageThroughput, responseSize * 1000d / boundedLatency);
+    outstandingRequestLimit = Math.min(maxOutstandingRequests, outstandingRequestLimit + 1);
+  }
+
+  /**
+   * Record how many of the requested items were actually returned by the peer.
+   *
+   * @param itemsRequested the number of items requested
+   * @param itemsReceived the number of items received
+   */
+  public synchronized void recordItemsReceived(final int itemsRequested, final int itemsReceived) {
+    if (itemsReceived >= itemsRequested) {
+      if (itemsRequested >= requestSizeLimit - REQUEST_SIZE_INCREMENT) {
+        requestSizeLimit = saturatedAdd(requestSizeLimit, REQUEST_SIZE_INCREMENT);
+      }
+    } else if (itemsReceived > 0) {
+      // The peer served as much as it was willing to, so don't ask for more than that next time.
+      requestSizeLimit = Math.max(MIN_REQUEST_SIZE, itemsReceived);
+    } else {
+      requestSizeLimit = Math.max(MIN_REQUEST_SIZE, Math.min(requestSizeLimit, itemsRequested) / 2);
+    }
+  }
+
+  /**
+   * Record a request that timed out. The request size limit and the outstanding request window are
+   * halved and the throughput estimate decays so the peer is ranked below faster peers.
+   *
+   */
+  public synchronized void recordTimeout() {
+    final int currentSize = Math.min(requestSizeLimit, lastRequestSize);
+    if (currentSize != Integer.MAX_VALUE) {
+      requestSizeLimit = Math.max(MIN_REQUEST_SIZE, currentSize / 2);
+    }
+    outstandingRequestLimit = Math.max(1, outstandingRequestLimit / 2);
+    if (!Double.isNaN(averageThroughput)) {
+      averageThroughput /= 2;
+    }
+  }
+
+  /**
+   * Returns the number of items that should be requested from this peer in a single request.
+   *
+   * @param maxRequestSize the maximum number of items the caller wants to request
+   * @return the number of items to request, never more than {@code maxRequestSize}
+   */
+  public synchronized int nextRequestSize(final int maxRequestSize) {
+    lastRequestSize = Math.min(maxRequestSize, requestSizeLimit);
+    return lastRequestSize;
+  }
+
+  public synchronized int getOutstandingRequestLimit() {
+    return outstandingRequestLimit;
+  }
+
+  public synchronized boolean hasMeasurements() {
+    return !Double.isNaN(averageThroughput);
+  }
+
+  /**
+   * Returns the average throughput in bytes per second. Peers that have not yet responded are
+   * given the maximum possible throughput so that they are tried before being ranked.
+   *
+   * @return the average throughput in bytes per second
+   */
+  public synchronized double getAverageThroughput() {
+    return Double.isNaN(averageThroughput) ? Double.MAX_VALUE : averageThroughput;
+  }
+
+  public synchronized double getAverageLatencyMillis() {
+    return averageLatencyMillis;
+  }
+
+  private static double smooth(final double average, final double sample) {
+    return Double.isNaN(average)
+        ? sample
+        : SMOOTHING_FACTOR * sample + (1 - SMOOTHING_FACTOR) * average;
+  }
+
+  private static int saturatedAdd(final int value, final int increment) {
+    return (int) Math.min(Integer.MAX_VALUE, (long) value + increment);
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "PeerRequestStatistics{"
+        + "averageLatencyMillis="
+        + averageLatencyMillis
+        + ", averageThroughput="
+        + averageThroughput
+        + ", requestSizeLimit="
+        + requestSizeLimit
+        + ", outstandingRequestLimit="
+        + outstandingRequestLimit
+        + '}';
+  }
+}
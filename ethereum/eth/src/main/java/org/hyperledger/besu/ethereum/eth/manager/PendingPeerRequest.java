@@ -19,11 +19,15 @@ import org.hyperledger.besu.ethereum.eth.manager.exceptions.NoAvailablePeersExce
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.PeerDisconnectedException;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 public class PendingPeerRequest {
   private final EthPeers ethPeers;
@@ -31,16 +35,22 @@ public class PendingPeerRequest {
   private final CompletableFuture<ResponseStream> result = new CompletableFuture<>();
   private final long minimumBlockNumber;
   private final Optional<EthPeer> peer;
+  private final Comparator<EthPeer> peerPreference;
+  private final Predicate<EthPeer> hasRequestCapacity;
 
   PendingPeerRequest(
       final EthPeers ethPeers,
       final PeerRequest request,
       final long minimumBlockNumber,
-      final Optional<EthPeer> peer) {
+      final Optional<EthPeer> peer,
+      final Comparator<EthPeer> peerPreference,
+      final Predicate<EthPeer> hasRequestCapacity) {
     this.ethPeers = ethPeers;
     this.request = request;
     this.minimumBlockNumber = minimumBlockNumber;
     this.peer = peer;
+    this.peerPreference = peerPreference;
+    this.hasRequestCapacity = hasRequestCapacity;
   }
 
   /**
@@ -52,15 +62,15 @@ public class PendingPeerRequest {
     if (result.isDone()) {
       return true;
     }
-    final Optional<EthPeer> leastBusySuitablePeer = getLeastBusySuitablePeer();
-    if (!leastBusySuitablePeer.isPresent()) {
+    final List<EthPeer> suitablePeers = getSuitablePeers();
+    if (suitablePeers.isEmpty()) {
       // No peers have the required height.
       result.completeExceptionally(new NoAvailablePeersException());
       return true;
     } else {
       // At least one peer has the required height, but we not be able to use it if it's busy
       final Optional<EthPeer> selectedPeer =
-          leastBusySuitablePeer.filter(EthPeer::hasAvailableRequestCapacity);
+          suitablePeers.stream().filter(hasRequestCapacity).min(peerPreference);
 
       selectedPeer.ifPresent(this::sendRequest);
       return selectedPeer.isPresent();
@@ -79,13 +89,13 @@ public class PendingPeerRequest {
     }
   }
 
-  private Optional<EthPeer> getLeastBusySuitablePeer() {
+  private List<EthPeer> getSuitablePeers() {
     return peer.isPresent()
-        ? peer
+        ? List.of(peer.get())
         : ethPeers
             .streamAvailablePeers()
             .filter(peer -> peer.chainState().getEstimatedHeight() >= minimumBlockNumber)
-            .min(EthPeers.LEAST_TO_MOST_BUSY);
+            .collect(Collectors.toList());
   }
 
   /**
@@ -17,6 +17,7 @@ package org.hyperledger.besu.ethereum.eth.manager;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
@@ -30,19 +31,33 @@ public class RequestManager {
   private final AtomicLong responseStreamId = new AtomicLong(0L);
   private final Map<Long, ResponseStream> responseStreams = new ConcurrentHashMap<>();
   private final EthPeer peer;
+  private final Clock clock;
+  private final PeerRequestStatistics statistics;
 
   private final AtomicInteger outstandingRequests = new AtomicInteger(0);
+  private final Queue<Long> requestTimestamps = new ConcurrentLinkedQueue<>();
 
   public RequestManager(final EthPeer peer) {
+    this(peer, Clock.systemUTC(), Integer.MAX_VALUE);
+  }
+
+  public RequestManager(final EthPeer peer, final Clock clock, final int maxOutstandingRequests) {
     this.peer = peer;
+    this.clock = clock;
+    this.statistics = new PeerRequestStatistics(maxOutstandingRequests);
   }
 
   public int outstandingRequests() {
     return outstandingRequests.get();
   }
 
+  public PeerRequestStatistics getStatistics() {
+    return statistics;
+  }
+
   public ResponseStream dispatchRequest(final RequestSender sender) throws PeerNotConnected {
     outstandingRequests.incrementAndGet();
+    requestTimestamps.add(clock.millis());
     final ResponseStream stream = createStream();
     sender.send();
     return stream;
@@ -51,14 +66,30 @@ public class RequestManager {
   public void dispatchResponse(final EthMessage message) {
     final Collection<ResponseStream> streams = new ArrayList<>(responseStreams.values());
     final int count = outstandingRequests.decrementAndGet();
+    // Peers answer requests in order so the oldest outstanding request is the one being answered
+    final Long requestTimestamp = requestTimestamps.poll();
+    if (requestTimestamp != null) {
+      statistics.recordResponse(clock.millis() - requestTimestamp, message.getData().getSize());
+    }
 
     streams.forEach(s -> s.processMessage(message.getData()));
     if (count == 0) {
       // No possibility of any remaining outstanding messages
+      requestTimestamps.clear();
       closeOutstandingStreams(streams);
     }
   }
 
+  /**
+   * Records that the peer failed to answer a request in time. Peers answer requests in order, so
+   * the oldest outstanding request is the one that timed out and its timestamp is discarded rather
+   * than being matched with the response to a later request.
+   */
+  public void recordTimeout() {
+    requestTimestamps.poll();
+    statistics.recordTimeout();
+  }
+
   public void close() {
     closeOutstandingStreams(responseStreams.values());
   }
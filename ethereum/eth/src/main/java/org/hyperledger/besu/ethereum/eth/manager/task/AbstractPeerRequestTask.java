@@ -27,9 +27,11 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.util.ExceptionUtils;
 
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -90,6 +92,17 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
     return ethContext.getEthPeers().executePeerRequest(request, minimumBlockNumber, assignedPeer);
   }
 
+  public PendingPeerRequest sendRequestToPeer(
+      final PeerRequest request,
+      final long minimumBlockNumber,
+      final Comparator<EthPeer> peerPreference,
+      final Predicate<EthPeer> hasRequestCapacity) {
+    return ethContext
+        .getEthPeers()
+        .executePeerRequest(
+            request, minimumBlockNumber, assignedPeer, peerPreference, hasRequestCapacity);
+  }
+
   private void handleMessage(
       final CompletableFuture<R> promise,
       final boolean streamClosed,
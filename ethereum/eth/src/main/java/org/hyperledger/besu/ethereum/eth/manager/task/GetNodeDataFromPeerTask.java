@@ -19,6 +19,7 @@ import static java.util.Collections.emptyMap;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
+import org.hyperledger.besu.ethereum.eth.manager.EthPeers;
 import org.hyperledger.besu.ethereum.eth.manager.PendingPeerRequest;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV63;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
@@ -32,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -43,6 +45,7 @@ public class GetNodeDataFromPeerTask extends AbstractPeerRequestTask<Map<Hash, B
 
   private final Set<Hash> hashes;
   private final long pivotBlockNumber;
+  private volatile Set<Hash> requestedHashes;
 
   private GetNodeDataFromPeerTask(
       final EthContext ethContext,
@@ -66,10 +69,20 @@ public class GetNodeDataFromPeerTask extends AbstractPeerRequestTask<Map<Hash, B
   protected PendingPeerRequest sendRequest() {
     return sendRequestToPeer(
         peer -> {
-          LOG.debug("Requesting {} node data entries from peer {}.", hashes.size(), peer);
-          return peer.getNodeData(hashes);
+          // Only ask the peer for as many entries as it has recently been able to serve. Any
+          // entries left out are reported as missing and requested again later.
+          final int requestSize =
+              peer.getNodeDataRequestStatistics().nextRequestSize(hashes.size());
+          requestedHashes =
+              requestSize < hashes.size()
+                  ? hashes.stream().limit(requestSize).collect(Collectors.toSet())
+                  : hashes;
+          LOG.debug("Requesting {} node data entries from peer {}.", requestedHashes.size(), peer);
+          return peer.getNodeData(requestedHashes);
         },
-        pivotBlockNumber);
+        pivotBlockNumber,
+        EthPeers.FASTEST_NODE_DATA,
+        EthPeer::hasAvailableNodeDataRequestCapacity);
   }
 
   @Override
@@ -82,18 +95,23 @@ public class GetNodeDataFromPeerTask extends AbstractPeerRequestTask<Map<Hash, B
     }
     final NodeDataMessage nodeDataMessage = NodeDataMessage.readFrom(message);
     final List<Bytes> nodeData = nodeDataMessage.nodeData();
-    if (nodeData.size() > hashes.size()) {
+    if (nodeData.size() > requestedHashes.size()) {
       // Can't be the response to our request
       return Optional.empty();
     }
-    return mapNodeDataByHash(nodeData);
+    final Optional<Map<Hash, Bytes>> nodeDataByHash = mapNodeDataByHash(nodeData);
+    nodeDataByHash.ifPresent(
+        data ->
+            peer.getNodeDataRequestStatistics()
+                .recordItemsReceived(requestedHashes.size(), data.size()));
+    return nodeDataByHash;
   }
 
   private Optional<Map<Hash, Bytes>> mapNodeDataByHash(final List<Bytes> nodeData) {
     final Map<Hash, Bytes> nodeDataByHash = new HashMap<>();
     for (final Bytes data : nodeData) {
       final Hash hash = Hash.hash(data);
-      if (!hashes.contains(hash)) {
+      if (!requestedHashes.contains(hash)) {
         return Optional.empty();
       }
       nodeDataByHash.put(hash, data);
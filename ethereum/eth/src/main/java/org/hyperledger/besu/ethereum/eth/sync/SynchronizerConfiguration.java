@@ -46,6 +46,7 @@ public class SynchronizerConfiguration {
   public static final int DEFAULT_COMPUTATION_PARALLELISM = 2;
   public static final int DEFAULT_WORLD_STATE_TASK_CACHE_SIZE =
       CachingTaskCollection.DEFAULT_CACHE_SIZE;
+  public static final int DEFAULT_STATE_COMMIT_PIPELINE_DEPTH = 0;
 
   // Fast sync config
   private final int fastSyncPivotDistance;
@@ -73,6 +74,7 @@ public class SynchronizerConfiguration {
   private final int computationParallelism;
   private final int maxTrailingPeers;
   private final long worldStateMinMillisBeforeStalling;
+  private final int stateCommitPipelineDepth;
 
   private SynchronizerConfiguration(
       final int fastSyncPivotDistance,
@@ -93,7 +95,8 @@ public class SynchronizerConfiguration {
       final int downloaderParallelism,
       final int transactionsParallelism,
       final int computationParallelism,
-      final int maxTrailingPeers) {
+      final int maxTrailingPeers,
+      final int stateCommitPipelineDepth) {
     this.fastSyncPivotDistance = fastSyncPivotDistance;
     this.fastSyncFullValidationRate = fastSyncFullValidationRate;
     this.fastSyncMinimumPeerCount = fastSyncMinimumPeerCount;
@@ -113,6 +116,7 @@ public class SynchronizerConfiguration {
     this.transactionsParallelism = transactionsParallelism;
     this.computationParallelism = computationParallelism;
     this.maxTrailingPeers = maxTrailingPeers;
+    this.stateCommitPipelineDepth = stateCommitPipelineDepth;
   }
 
   public static Builder builder() {
@@ -219,6 +223,17 @@ public class SynchronizerConfiguration {
     return maxTrailingPeers;
   }
 
+  /**
+   * The number of world state commits that may be written to storage in the background while
+   * import of the following blocks continues. Zero disables pipelining and writes each block's
+   * state before the next block is processed.
+   *
+   * @return the maximum number of world state commits in flight
+   */
+  public int getStateCommitPipelineDepth() {
+    return stateCommitPipelineDepth;
+  }
+
   public static class Builder {
     private SyncMode syncMode = SyncMode.FULL;
     private int fastSyncMinimumPeerCount = DEFAULT_FAST_SYNC_MINIMUM_PEERS;
@@ -243,6 +258,7 @@ public class SynchronizerConfiguration {
         DEFAULT_WORLD_STATE_MAX_REQUESTS_WITHOUT_PROGRESS;
     private long worldStateMinMillisBeforeStalling = DEFAULT_WORLD_STATE_MIN_MILLIS_BEFORE_STALLING;
     private int worldStateTaskCacheSize = DEFAULT_WORLD_STATE_TASK_CACHE_SIZE;
+    private int stateCommitPipelineDepth = DEFAULT_STATE_COMMIT_PIPELINE_DEPTH;
 
     public Builder fastSyncPivotDistance(final int distance) {
       fastSyncPivotDistance = distance;
@@ -350,6 +366,11 @@ public class SynchronizerConfiguration {
       return this;
     }
 
+    public Builder stateCommitPipelineDepth(final int stateCommitPipelineDepth) {
+      this.stateCommitPipelineDepth = stateCommitPipelineDepth;
+      return this;
+    }
+
     public SynchronizerConfiguration build() {
       return new SynchronizerConfiguration(
           fastSyncPivotDistance,
@@ -370,7 +391,8 @@ public class SynchronizerConfiguration {
           downloaderParallelism,
           transactionsParallelism,
           computationParallelism,
-          maxTrailingPeers);
+          maxTrailingPeers,
+          stateCommitPipelineDepth);
     }
   }
 }
@@ -114,6 +114,11 @@ public class FastDownloaderFactory {
     return Optional.of(fastSyncDownloader);
   }
 
+  public static boolean isFastSyncInProgress(final Path dataDirectory) {
+    return new FastSyncStateStorage(dataDirectory.resolve(FAST_SYNC_FOLDER))
+        .isFastSyncInProgress();
+  }
+
   private static Path getStateQueueDirectory(final Path dataDirectory) {
     final Path queueDataDir = getFastSyncDataDirectory(dataDirectory).resolve("statequeue");
     ensureDirectoryExists(queueDataDir.toFile());
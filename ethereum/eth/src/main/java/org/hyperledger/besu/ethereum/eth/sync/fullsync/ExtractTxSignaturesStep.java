@@ -16,20 +16,62 @@ package org.hyperledger.besu.ethereum.eth.sync.fullsync;
 
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+/**
+ * Recovers the sender of every transaction in a batch of blocks ahead of import. The transactions
+ * of the whole batch are split into at most {@code parallelism} chunks which are recovered
+ * concurrently on the scheduler's computation executor, so that small blocks don't leave cores
+ * idle.
+ */
 public class ExtractTxSignaturesStep implements Function<List<Block>, Stream<Block>> {
 
+  private final EthScheduler scheduler;
+  private final int parallelism;
+  private final Counter recoveredSendersCounter;
+
+  public ExtractTxSignaturesStep(
+      final EthScheduler scheduler, final int parallelism, final MetricsSystem metricsSystem) {
+    this.scheduler = scheduler;
+    this.parallelism = Math.max(1, parallelism);
+    this.recoveredSendersCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.SYNCHRONIZER,
+            "transaction_senders_recovered_total",
+            "Number of transaction senders recovered ahead of block import");
+  }
+
   @Override
   public Stream<Block> apply(final List<Block> blocks) {
-    return blocks.stream().map(this::extractSignatures);
-  }
+    final List<Transaction> transactions = new ArrayList<>();
+    blocks.forEach(block -> transactions.addAll(block.getBody().getTransactions()));
+    if (transactions.isEmpty()) {
+      return blocks.stream();
+    }
 
-  private Block extractSignatures(final Block block) {
-    block.getBody().getTransactions().forEach(Transaction::getSender);
-    return block;
+    final int chunkSize = (transactions.size() + parallelism - 1) / parallelism;
+    final List<CompletableFuture<Void>> futures = new ArrayList<>(parallelism);
+    for (int start = 0; start < transactions.size(); start += chunkSize) {
+      final List<Transaction> chunk =
+          transactions.subList(start, Math.min(start + chunkSize, transactions.size()));
+      futures.add(
+          scheduler.scheduleComputationTask(
+              () -> {
+                chunk.forEach(Transaction::getSender);
+                return null;
+              }));
+    }
+    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+    recoveredSendersCounter.inc(transactions.size());
+    return blocks.stream();
   }
 }
@@ -88,7 +88,9 @@ public class FullSyncDownloadPipelineFactory implements DownloadPipelineFactory
             protocolSchedule, protocolContext, detachedValidationPolicy);
     final DownloadBodiesStep downloadBodiesStep =
         new DownloadBodiesStep(protocolSchedule, ethContext, metricsSystem);
-    final ExtractTxSignaturesStep extractTxSignaturesStep = new ExtractTxSignaturesStep();
+    final ExtractTxSignaturesStep extractTxSignaturesStep =
+        new ExtractTxSignaturesStep(
+            ethContext.getScheduler(), syncConfig.getComputationParallelism(), metricsSystem);
     final FullImportBlockStep importBlockStep =
         new FullImportBlockStep(protocolSchedule, protocolContext, ethContext);
 
@@ -103,7 +105,9 @@ public class FullSyncDownloadPipelineFactory implements DownloadPipelineFactory
                 "step",
                 "action"),
             true,
-            "fullSync")
+            "fullSync",
+            false,
+            metricsSystem)
         .thenProcessAsyncOrdered("downloadHeaders", downloadHeadersStep, downloaderParallelism)
         .thenFlatMap("validateHeadersJoin", validateHeadersJoinUpStep, singleHeaderBufferSize)
         .inBatches(headerRequestSize)
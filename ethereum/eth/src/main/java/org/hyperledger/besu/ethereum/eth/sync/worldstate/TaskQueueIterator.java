@@ -16,14 +16,23 @@ package org.hyperledger.besu.ethereum.eth.sync.worldstate;
 
 import org.hyperledger.besu.services.tasks.Task;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 
+/**
+ * Dequeues pending requests in batches of up to {@code batchSize}, so the task collection is
+ * locked once per batch rather than once per request.
+ */
 class TaskQueueIterator implements Iterator<Task<NodeDataRequest>> {
 
   private final WorldDownloadState downloadState;
+  private final int batchSize;
+  private final Deque<Task<NodeDataRequest>> dequeuedTasks = new ArrayDeque<>();
 
-  public TaskQueueIterator(final WorldDownloadState downloadState) {
+  public TaskQueueIterator(final WorldDownloadState downloadState, final int batchSize) {
     this.downloadState = downloadState;
+    this.batchSize = batchSize;
   }
 
   @Override
@@ -33,6 +42,9 @@ class TaskQueueIterator implements Iterator<Task<NodeDataRequest>> {
 
   @Override
   public Task<NodeDataRequest> next() {
-    return downloadState.dequeueRequestBlocking();
+    if (dequeuedTasks.isEmpty()) {
+      dequeuedTasks.addAll(downloadState.dequeueRequestsBlocking(batchSize));
+    }
+    return dequeuedTasks.poll();
   }
 }
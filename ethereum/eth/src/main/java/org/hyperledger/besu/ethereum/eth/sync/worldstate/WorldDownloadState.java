@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.ethereum.eth.sync.worldstate;
 
+import static java.util.stream.Collectors.toList;
+
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.eth.manager.task.EthTask;
@@ -25,6 +27,7 @@ import org.hyperledger.besu.util.ExceptionUtils;
 
 import java.time.Clock;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -131,25 +134,25 @@ class WorldDownloadState {
 
   public synchronized void enqueueRequests(final Stream<NodeDataRequest> requests) {
     if (!internalFuture.isDone()) {
-      requests.forEach(pendingRequests::add);
+      pendingRequests.addAll(requests.collect(toList()));
       notifyAll();
     }
   }
 
-  public synchronized Task<NodeDataRequest> dequeueRequestBlocking() {
+  public synchronized List<Task<NodeDataRequest>> dequeueRequestsBlocking(final int maxRequests) {
     while (!internalFuture.isDone()) {
-      final Task<NodeDataRequest> task = pendingRequests.remove();
-      if (task != null) {
-        return task;
+      final List<Task<NodeDataRequest>> tasks = pendingRequests.remove(maxRequests);
+      if (!tasks.isEmpty()) {
+        return tasks;
       }
       try {
         wait();
       } catch (final InterruptedException e) {
         Thread.currentThread().interrupt();
-        return null;
+        return Collections.emptyList();
       }
     }
-    return null;
+    return Collections.emptyList();
   }
 
   public synchronized void setRootNodeData(final Bytes rootNodeData) {
@@ -206,7 +206,13 @@ public class WorldStateDownloadProcess {
 
       final Pipeline<Task<NodeDataRequest>> completionPipeline =
           PipelineBuilder.<Task<NodeDataRequest>>createPipeline(
-                  "requestDataAvailable", bufferCapacity, outputCounter, true, "node_data_request")
+                  "requestDataAvailable",
+                  bufferCapacity,
+                  outputCounter,
+                  true,
+                  "node_data_request",
+                  true,
+                  metricsSystem)
               .andFinishWith(
                   "requestCompleteTask",
                   task ->
@@ -217,11 +223,13 @@ public class WorldStateDownloadProcess {
       final Pipeline<Task<NodeDataRequest>> fetchDataPipeline =
           createPipelineFrom(
                   "requestDequeued",
-                  new TaskQueueIterator(downloadState),
+                  new TaskQueueIterator(downloadState, hashCountPerRequest),
                   bufferCapacity,
                   outputCounter,
                   true,
-                  "world_state_download")
+                  "world_state_download",
+                  true,
+                  metricsSystem)
               .thenFlatMapInParallel(
                   "requestLoadLocalData",
                   task -> loadLocalDataStep.loadLocalData(task, requestsToComplete),
@@ -50,6 +50,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.Logger;
 
@@ -167,6 +168,11 @@ public class TransactionPool implements BlockAddedObserver {
     if (!syncState.isInSync(SYNC_TOLERANCE)) {
       return;
     }
+    // Recover the senders of the transactions we don't know yet in one batch, ahead of validation.
+    Transaction.recoverSenders(
+        transactions.stream()
+            .filter(transaction -> !pendingTransactions.containsTransaction(transaction.getHash()))
+            .collect(Collectors.toList()));
     final Set<Transaction> addedTransactions = new HashSet<>();
     for (final Transaction transaction : transactions) {
       pendingTransactions.tryEvictTransactionHash(transaction.getHash());
@@ -131,6 +131,27 @@ public class EthPeersTest {
     assertRequestSuccessful(pendingRequest);
   }
 
+  @Test
+  public void shouldUseFastestPeerForNodeDataRequest() throws Exception {
+    final RespondingEthPeer slowPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    final RespondingEthPeer fastPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    slowPeer.getEthPeer().getNodeDataRequestStatistics().recordResponse(1000, 5000);
+    fastPeer.getEthPeer().getNodeDataRequestStatistics().recordResponse(100, 5000);
+
+    final PendingPeerRequest pendingRequest =
+        ethPeers.executePeerRequest(
+            peerRequest,
+            10,
+            Optional.empty(),
+            EthPeers.FASTEST_NODE_DATA,
+            EthPeer::hasAvailableNodeDataRequestCapacity);
+
+    verify(peerRequest).sendRequest(fastPeer.getEthPeer());
+    assertRequestSuccessful(pendingRequest);
+  }
+
   @Test
   public void shouldUseLeastRecentlyUsedPeerWhenBothHaveSameNumberOfOutstandingRequests()
       throws Exception {
@@ -0,0 +1,116 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hyperledger.besu.ethereum.eth.manager.PeerRequestStatistics.MIN_REQUEST_SIZE;
+import static org.hyperledger.besu.ethereum.eth.manager.PeerRequestStatistics.REQUEST_SIZE_INCREMENT;
+
+import org.junit.Test;
+
+public class PeerRequestStatisticsTest {
+
+  private static final int MAX_OUTSTANDING_REQUESTS = 5;
+
+  private final PeerRequestStatistics statistics =
+      new PeerRequestStatistics(MAX_OUTSTANDING_REQUESTS);
+
+  @Test
+  public void shouldRankUnmeasuredPeersFirst() {
+    assertThat(statistics.hasMeasurements()).isFalse();
+    assertThat(statistics.getAverageThroughput()).isEqualTo(Double.MAX_VALUE);
+
+    statistics.recordResponse(100, 1000);
+
+    assertThat(statistics.hasMeasurements()).isTrue();
+    assertThat(statistics.getAverageThroughput()).isEqualTo(10_000d);
+    assertThat(statistics.getAverageLatencyMillis()).isEqualTo(100d);
+  }
+
+  @Test
+  public void shouldSmoothLatencyAndThroughput() {
+    statistics.recordResponse(100, 1000);
+    statistics.recordResponse(200, 1000);
+
+    assertThat(statistics.getAverageLatencyMillis()).isEqualTo(125d);
+    assertThat(statistics.getAverageThroughput()).isEqualTo(8750d);
+  }
+
+  @Test
+  public void shouldNotLimitRequestSizeUntilPeerFallsBehind() {
+    assertThat(statistics.nextRequestSize(384)).isEqualTo(384);
+
+    statistics.recordItemsReceived(384, 384);
+
+    assertThat(statistics.nextRequestSize(384)).isEqualTo(384);
+  }
+
+  @Test
+  public void shouldLimitRequestSizeToPartialResponseSize() {
+    statistics.nextRequestSize(384);
+    statistics.recordItemsReceived(384, 100);
+
+    assertThat(statistics.nextRequestSize(384)).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldGrowRequestSizeAfterCompleteResponses() {
+    statistics.recordItemsReceived(384, 100);
+    final int requestSize = statistics.nextRequestSize(384);
+    statistics.recordItemsReceived(requestSize, requestSize);
+
+    assertThat(statistics.nextRequestSize(384)).isEqualTo(100 + REQUEST_SIZE_INCREMENT);
+  }
+
+  @Test
+  public void shouldHalveRequestSizeOnEmptyResponse() {
+    statistics.recordItemsReceived(384, 0);
+
+    assertThat(statistics.nextRequestSize(384)).isEqualTo(192);
+  }
+
+  @Test
+  public void shouldNotShrinkRequestSizeBelowMinimum() {
+    statistics.recordItemsReceived(384, 1);
+    statistics.recordItemsReceived(MIN_REQUEST_SIZE, 0);
+
+    assertThat(statistics.nextRequestSize(384)).isEqualTo(MIN_REQUEST_SIZE);
+  }
+
+  @Test
+  public void shouldShrinkRequestSizeAndWindowOnTimeout() {
+    statistics.recordResponse(100, 1000);
+    statistics.nextRequestSize(384);
+
+    statistics.recordTimeout();
+
+    assertThat(statistics.nextRequestSize(384)).isEqualTo(192);
+    assertThat(statistics.getOutstandingRequestLimit()).isEqualTo(2);
+    assertThat(statistics.getAverageThroughput()).isEqualTo(5000d);
+  }
+
+  @Test
+  public void shouldRestoreWindowAsResponsesArrive() {
+    statistics.recordTimeout();
+    statistics.recordTimeout();
+    assertThat(statistics.getOutstandingRequestLimit()).isEqualTo(1);
+
+    for (int i = 0; i < MAX_OUTSTANDING_REQUESTS * 2; i++) {
+      statistics.recordResponse(100, 1000);
+    }
+
+    assertThat(statistics.getOutstandingRequestLimit()).isEqualTo(MAX_OUTSTANDING_REQUESTS);
+  }
+}
@@ -211,6 +211,23 @@ public class RequestManagerTest {
     assertThat(closedCountB.get()).isEqualTo(1);
   }
 
+  @Test
+  public void discardsTimestampOfTimedOutRequest() throws Exception {
+    final TestClock clock = new TestClock();
+    final RequestManager requestManager =
+        new RequestManager(createPeer(), clock, Integer.MAX_VALUE);
+
+    requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(10_000);
+    requestManager.recordTimeout();
+
+    requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(100);
+    requestManager.dispatchResponse(mockMessage(createPeer()));
+
+    assertThat(requestManager.getStatistics().getAverageLatencyMillis()).isEqualTo(100.0);
+  }
+
   private EthMessage mockMessage(final EthPeer peer) {
     return new EthMessage(peer, new RawMessage(1, Bytes.EMPTY));
   }
@@ -0,0 +1,101 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync.fullsync;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.eth.manager.DeterministicEthScheduler;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+public class ExtractTxSignaturesStepTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final DeterministicEthScheduler scheduler = new DeterministicEthScheduler();
+
+  @Test
+  public void shouldRecoverSendersOnComputationExecutor() throws Exception {
+    final Map<Transaction, List<Thread>> recoveringThreads = new ConcurrentHashMap<>();
+    final List<Block> blocks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      final List<Transaction> transactions = new ArrayList<>();
+      for (int j = 0; j < 4; j++) {
+        transactions.add(uncachedSenderTransaction(recoveringThreads));
+      }
+      blocks.add(new Block(gen.header(), new BlockBody(transactions, Collections.emptyList())));
+    }
+    final EthScheduler ethScheduler = new EthScheduler(1, 1, 3, new NoOpMetricsSystem());
+    try {
+      final ExtractTxSignaturesStep step =
+          new ExtractTxSignaturesStep(ethScheduler, 3, new NoOpMetricsSystem());
+
+      final List<Block> result = step.apply(blocks).collect(toList());
+
+      assertThat(result).isEqualTo(blocks);
+      assertThat(recoveringThreads).hasSize(20);
+      recoveringThreads
+          .values()
+          .forEach(
+              threads ->
+                  assertThat(threads).hasSize(1).doesNotContain(Thread.currentThread()));
+    } finally {
+      ethScheduler.stop();
+      ethScheduler.awaitStop();
+    }
+  }
+
+  @Test
+  public void shouldHandleBlocksWithoutTransactions() {
+    final Block block = gen.block(BlockDataGenerator.BlockOptions.create().hasTransactions(false));
+    final ExtractTxSignaturesStep step =
+        new ExtractTxSignaturesStep(scheduler, 3, new NoOpMetricsSystem());
+
+    assertThat(step.apply(List.of(block)).collect(toList())).containsExactly(block);
+    assertThat(scheduler.getPendingFuturesCount()).isZero();
+  }
+
+  private Transaction uncachedSenderTransaction(
+      final Map<Transaction, List<Thread>> recoveringThreads) {
+    // Decoding drops the sender cached by the generator, so it has to be recovered again.
+    final Transaction transaction =
+        spy(Transaction.readFrom(RLP.input(RLP.encode(gen.transaction()::writeTo))));
+    doAnswer(
+            invocation -> {
+              recoveringThreads
+                  .computeIfAbsent(transaction, __ -> new ArrayList<>())
+                  .add(Thread.currentThread());
+              return invocation.callRealMethod();
+            })
+        .when(transaction)
+        .getSender();
+    return transaction;
+  }
+}
@@ -103,6 +103,19 @@ public class WorldDownloadStateTest {
     assertThat(downloadState.isDownloading()).isTrue();
   }
 
+  @Test
+  public void shouldDequeueUpToMaxRequestsPerBatch() {
+    downloadState.enqueueRequests(
+        Stream.of(
+            NodeDataRequest.createAccountDataRequest(Hash.EMPTY_TRIE_HASH, Optional.empty()),
+            NodeDataRequest.createAccountDataRequest(Hash.EMPTY, Optional.empty()),
+            NodeDataRequest.createAccountDataRequest(ROOT_NODE_HASH, Optional.empty())));
+
+    assertThat(downloadState.dequeueRequestsBlocking(2)).hasSize(2);
+    assertThat(downloadState.dequeueRequestsBlocking(2)).hasSize(1);
+    assertThat(pendingRequests.isEmpty()).isTrue();
+  }
+
   @Test
   public void shouldCancelOutstandingTasksWhenFutureIsCancelled() {
     final EthTask<?> outstandingTask1 = mock(EthTask.class);
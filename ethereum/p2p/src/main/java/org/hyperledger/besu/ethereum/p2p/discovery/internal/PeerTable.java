@@ -15,7 +15,6 @@
 package org.hyperledger.besu.ethereum.p2p.discovery.internal;
 
 import static java.util.Comparator.comparingInt;
-import static java.util.stream.Collectors.toList;
 
 import org.hyperledger.besu.crypto.Hash;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
@@ -24,15 +23,14 @@ import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.AddResult.
 import org.hyperledger.besu.ethereum.p2p.peers.Peer;
 import org.hyperledger.besu.ethereum.p2p.peers.PeerId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
-import com.google.common.hash.BloomFilter;
 import org.apache.tuweni.bytes.Bytes;
 
 /**
@@ -42,15 +40,13 @@ import org.apache.tuweni.bytes.Bytes;
 public class PeerTable {
   private static final int N_BUCKETS = 256;
   private static final int DEFAULT_BUCKET_SIZE = 16;
-  private static final int BLOOM_FILTER_REGENERATION_THRESHOLD = 50; // evictions
 
   private final Bucket[] table;
   private final Bytes keccak256;
-  private final int maxEntriesCnt;
 
+  // Holds the distance of every peer currently in the table, so it doubles as an exact membership
+  // index that is kept up to date as peers are added and evicted.
   private final Map<Bytes, Integer> distanceCache;
-  private BloomFilter<Bytes> idBloom;
-  private int evictionCnt = 0;
 
   /**
    * Builds a new peer table, where distance is calculated using the provided nodeId as a baseline.
@@ -61,15 +57,8 @@ public class PeerTable {
   public PeerTable(final Bytes nodeId, final int bucketSize) {
     this.keccak256 = Hash.keccak256(nodeId);
     this.table =
-        Stream.generate(() -> new Bucket(DEFAULT_BUCKET_SIZE))
-            .limit(N_BUCKETS + 1)
-            .toArray(Bucket[]::new);
+        Stream.generate(() -> new Bucket(bucketSize)).limit(N_BUCKETS + 1).toArray(Bucket[]::new);
     this.distanceCache = new ConcurrentHashMap<>();
-    this.maxEntriesCnt = N_BUCKETS * bucketSize;
-
-    // A bloom filter with 4096 expected insertions of 64-byte keys with a 0.1% false positive
-    // probability yields a memory footprint of ~7.5kb.
-    buildBloomFilter();
   }
 
   public PeerTable(final Bytes nodeId) {
@@ -83,10 +72,10 @@ public class PeerTable {
    * @return The stored representation.
    */
   public Optional<DiscoveryPeer> get(final PeerId peer) {
-    if (!idBloom.mightContain(peer.getId())) {
+    final Integer distance = distanceCache.get(peer.getId());
+    if (distance == null) {
       return Optional.empty();
     }
-    final int distance = distanceFrom(peer);
     return table[distance].getAndTouch(peer.getId());
   }
 
@@ -131,7 +120,6 @@ public class PeerTable {
     }
 
     if (!res.isPresent()) {
-      idBloom.put(id);
       distanceCache.put(id, distance);
       return AddResult.added();
     }
@@ -159,45 +147,70 @@ public class PeerTable {
       return EvictResult.absent();
     }
 
-    final boolean evicted = table[distance].evict(peer);
-    if (evicted) {
-      evictionCnt++;
-    } else {
+    if (!table[distance].evict(peer)) {
       return EvictResult.absent();
     }
 
-    // Trigger the bloom filter regeneration if needed.
-    if (evictionCnt >= BLOOM_FILTER_REGENERATION_THRESHOLD) {
-      ForkJoinPool.commonPool().execute(this::buildBloomFilter);
-    }
-
     return EvictResult.evicted();
   }
 
-  private void buildBloomFilter() {
-    final BloomFilter<Bytes> bf =
-        BloomFilter.create((id, val) -> val.putBytes(id.toArray()), maxEntriesCnt, 0.001);
-    streamAllPeers().map(Peer::getId).forEach(bf::put);
-    this.evictionCnt = 0;
-    this.idBloom = bf;
-  }
-
   /**
    * Returns the <code>limit</code> peers (at most) closest to the provided target, based on the XOR
    * distance between the keccak-256 hash of the ID and the keccak-256 hash of the target.
    *
+   * <p>Only the buckets that can hold the closest peers are visited. If the target falls in bucket
+   * <code>d</code>, peers in bucket <code>d</code> are closer to it than <code>d</code>, peers in
+   * any lower bucket are exactly <code>d</code> away from it, and peers in bucket <code>i &gt;
+   * d</code> are exactly <code>i</code> away from it. Buckets are therefore walked in that order
+   * and the walk stops as soon as <code>limit</code> peers have been collected.
+   *
    * @param target The target node ID.
    * @param limit The amount of results to return.
    * @return The <code>limit</code> closest peers, at most.
    */
   public List<DiscoveryPeer> nearestPeers(final Bytes target, final int limit) {
-    final Bytes keccak256 = Hash.keccak256(target);
-    return streamAllPeers()
-        .filter(p -> p.getStatus() == PeerDiscoveryStatus.BONDED)
-        .sorted(
-            comparingInt((peer) -> PeerDistanceCalculator.distance(peer.keccak256(), keccak256)))
-        .limit(limit)
-        .collect(toList());
+    final List<DiscoveryPeer> result = new ArrayList<>(Math.max(limit, 0));
+    if (limit <= 0) {
+      return result;
+    }
+    final Bytes targetKeccak256 = Hash.keccak256(target);
+    final int targetDistance = PeerDistanceCalculator.distance(keccak256, targetKeccak256);
+
+    // Peers sharing the target's bucket are the only ones whose distance to it must be computed.
+    final List<DiscoveryPeer> sameBucket = bondedPeers(table[targetDistance]);
+    sameBucket.sort(
+        comparingInt(peer -> PeerDistanceCalculator.distance(peer.keccak256(), targetKeccak256)));
+    if (addUpTo(result, sameBucket, limit)) {
+      return result;
+    }
+    for (int i = 0; i < targetDistance; i++) {
+      if (addUpTo(result, bondedPeers(table[i]), limit)) {
+        return result;
+      }
+    }
+    for (int i = targetDistance + 1; i < table.length; i++) {
+      if (addUpTo(result, bondedPeers(table[i]), limit)) {
+        return result;
+      }
+    }
+    return result;
+  }
+
+  private static List<DiscoveryPeer> bondedPeers(final Bucket bucket) {
+    final List<DiscoveryPeer> peers = new ArrayList<>(bucket.getPeers());
+    peers.removeIf(p -> p.getStatus() != PeerDiscoveryStatus.BONDED);
+    return peers;
+  }
+
+  private static boolean addUpTo(
+      final List<DiscoveryPeer> result, final List<DiscoveryPeer> peers, final int limit) {
+    for (final DiscoveryPeer peer : peers) {
+      result.add(peer);
+      if (result.size() >= limit) {
+        return true;
+      }
+    }
+    return false;
   }
 
   public Stream<DiscoveryPeer> streamAllPeers() {
@@ -52,6 +52,9 @@ import org.bouncycastle.crypto.params.ParametersWithIV;
  * fragmented frames, as well as streams of multiple messages within the same incoming buffer, as
  * long as the order of incoming bytes matches the underlying TCP sequence.
  *
+ * <p>A framer holds the cipher and MAC state of a single connection and is not thread safe. It is
+ * only used from the event loop of its connection's channel.
+ *
  * @see <a href="https://github.com/ethereum/devp2p/blob/master/rlpx.md#framing">RLPx framing</a>
  */
 public class Framer {
@@ -149,7 +152,7 @@ public class Framer {
    *     could be extracted yet.
    * @throws FramingException Thrown when a decryption or internal error occurs.
    */
-  public synchronized MessageData deframe(final ByteBuf buf) throws FramingException {
+  public MessageData deframe(final ByteBuf buf) throws FramingException {
     if (buf == null || !buf.isReadable()) {
       return null;
     }
@@ -255,59 +258,73 @@ public class Framer {
       throw error("Expected %s bytes in header, got %s", expectedSize, f.readableBytes());
     }
 
-    final byte[] frameData = new byte[frameSize + pad];
-    final byte[] fMac = new byte[LENGTH_MAC];
-    f.readBytes(frameData).readBytes(fMac);
-
-    // Validate the frame's MAC.
-    final byte[] fMacSeed = secrets.updateIngress(frameData).getIngressMac();
-    final byte[] fMacSeedEnc = new byte[16];
-    macEncryptor.processBlock(fMacSeed, 0, fMacSeedEnc, 0);
-    byte[] expectedMac = secrets.updateIngress(xor(fMacSeedEnc, fMacSeed)).getIngressMac();
-    expectedMac = Arrays.copyOf(expectedMac, LENGTH_MAC);
-
-    validateMac(fMac, expectedMac);
-
-    // Decrypt frame data.
-    decryptor.processBytes(frameData, 0, frameData.length, frameData, 0);
+    // Compressed frame data is only needed until it has been decompressed so it is read into a
+    // pooled buffer, otherwise the frame data becomes the message data.
+    final int frameDataSize = frameSize + pad;
+    final ByteBuf frameBuffer =
+        compressionEnabled
+            ? f.alloc().heapBuffer(frameDataSize, frameDataSize)
+            : wrappedBuffer(new byte[frameDataSize]).clear();
+    try {
+      f.readBytes(frameBuffer, frameDataSize);
+      final byte[] frameData = frameBuffer.array();
+      final int offset = frameBuffer.arrayOffset();
+      final byte[] fMac = new byte[LENGTH_MAC];
+      f.readBytes(fMac);
+
+      // Validate the frame's MAC.
+      final byte[] fMacSeed =
+          secrets.updateIngress(frameData, offset, frameDataSize).getIngressMac();
+      final byte[] fMacSeedEnc = new byte[16];
+      macEncryptor.processBlock(fMacSeed, 0, fMacSeedEnc, 0);
+      byte[] expectedMac = secrets.updateIngress(xor(fMacSeedEnc, fMacSeed)).getIngressMac();
+      expectedMac = Arrays.copyOf(expectedMac, LENGTH_MAC);
+
+      validateMac(fMac, expectedMac);
+
+      // Decrypt frame data in place.
+      decryptor.processBytes(frameData, offset, frameDataSize, frameData, offset);
+
+      // Read the id.
+      final Bytes idbv = RLP.decodeOne(Bytes.of(frameData[offset]));
+      final int id = idbv.isZero() || idbv.size() == 0 ? 0 : idbv.get(0);
+
+      final int messageOffset = offset + LENGTH_MESSAGE_ID;
+      final int messageLength = frameSize - LENGTH_MESSAGE_ID;
+      final Bytes data;
+      if (compressionEnabled) {
+        data = decompress(frameData, messageOffset, messageLength);
+      } else {
+        data = Bytes.wrap(frameData, messageOffset, messageLength);
+      }
 
-    // Read the id.
-    final Bytes idbv = RLP.decodeOne(Bytes.of(frameData[0]));
-    final int id = idbv.isZero() || idbv.size() == 0 ? 0 : idbv.get(0);
+      return new RawMessage(id, data);
+    } finally {
+      frameBuffer.release();
+    }
+  }
 
-    // Write message data to ByteBuf, decompressing as necessary
-    final Bytes data;
-    if (compressionEnabled) {
-      final byte[] compressedMessageData = Arrays.copyOfRange(frameData, 1, frameData.length - pad);
-      final int uncompressedLength = compressor.uncompressedLength(compressedMessageData);
-      if (uncompressedLength >= LENGTH_MAX_MESSAGE_FRAME) {
-        throw error("Message size %s in excess of maximum length.", uncompressedLength);
-      }
-      Bytes _data;
-      try {
-        final byte[] decompressedMessageData = compressor.decompress(compressedMessageData);
-        _data = Bytes.wrap(decompressedMessageData);
-        compressionSuccessful = true;
-      } catch (final FramingException fe) {
-        if (compressionSuccessful) {
-          throw fe;
-        } else {
-          // OpenEthereum/Parity does not implement EIP-706
-          // If failing on the first packet downgrade to uncompressed
-          compressionEnabled = false;
-          LOG.debug("Snappy decompression failed: downgrading to uncompressed");
-          final int messageLength = frameSize - LENGTH_MESSAGE_ID;
-          _data = Bytes.wrap(frameData, 1, messageLength);
-        }
+  private Bytes decompress(final byte[] frameData, final int offset, final int length) {
+    final int uncompressedLength = compressor.uncompressedLength(frameData, offset, length);
+    if (uncompressedLength >= LENGTH_MAX_MESSAGE_FRAME) {
+      throw error("Message size %s in excess of maximum length.", uncompressedLength);
+    }
+    try {
+      final byte[] decompressedMessageData = new byte[uncompressedLength];
+      compressor.decompress(frameData, offset, length, decompressedMessageData, 0);
+      compressionSuccessful = true;
+      return Bytes.wrap(decompressedMessageData);
+    } catch (final FramingException fe) {
+      if (compressionSuccessful) {
+        throw fe;
+      } else {
+        // OpenEthereum/Parity does not implement EIP-706
+        // If failing on the first packet downgrade to uncompressed
+        compressionEnabled = false;
+        LOG.debug("Snappy decompression failed: downgrading to uncompressed");
+        return Bytes.wrap(Arrays.copyOfRange(frameData, offset, offset + length));
       }
-      data = _data;
-    } else {
-      // Move data to a ByteBuf
-      final int messageLength = frameSize - LENGTH_MESSAGE_ID;
-      data = Bytes.wrap(frameData, 1, messageLength);
     }
-
-    return new RawMessage(id, data);
   }
 
   private void validateMac(final byte[] candidateMac, final byte[] expectedMac) {
@@ -322,30 +339,75 @@ public class Framer {
    * Frames a message for sending to an RLPx peer, encrypting it and calculating the appropriate
    * MACs.
    *
+   * <p>The frame is assembled, compressed and encrypted in place in a single buffer from the
+   * output's allocator, which is released once the frame has been written to the output.
+   *
    * @param message The message to frame.
    * @param output The {@link ByteBuf} to write framed data to.
    */
-  public synchronized void frame(final MessageData message, final ByteBuf output) {
+  public void frame(final MessageData message, final ByteBuf output) {
     Preconditions.checkArgument(
         message.getSize() < LENGTH_MAX_MESSAGE_FRAME, "Message size in excess of maximum length.");
-    // Compress message
-    if (compressionEnabled) {
-      // Extract data from message
-      // Compress data
-      final byte[] compressed = compressor.compress(message.getData().toArrayUnsafe());
-      // Construct new, compressed message
-      frameMessage(new RawMessage(message.getCode(), Bytes.wrap(compressed)), output);
-    } else {
+    if (!compressionEnabled) {
       frameMessage(message, output);
+      return;
+    }
+
+    final int maxFrameSize =
+        LENGTH_MESSAGE_ID + compressor.maxCompressedLength(message.getSize()) + 16;
+    final ByteBuf frameBuffer = output.alloc().heapBuffer(maxFrameSize, maxFrameSize);
+    try {
+      final byte[] frame = frameBuffer.array();
+      final int offset = frameBuffer.arrayOffset();
+      final int compressedSize =
+          compressor.compress(
+              message.getData().toArrayUnsafe(),
+              0,
+              message.getSize(),
+              frame,
+              offset + LENGTH_MESSAGE_ID);
+      writeFrame(message.getCode(), frame, offset, compressedSize, output);
+    } finally {
+      frameBuffer.release();
     }
   }
 
   @VisibleForTesting
   void frameMessage(final MessageData message, final ByteBuf buf) {
-    final int frameSize = message.getSize() + LENGTH_MESSAGE_ID;
+    final int maxFrameSize = LENGTH_MESSAGE_ID + message.getSize() + 16;
+    final ByteBuf frameBuffer = buf.alloc().heapBuffer(maxFrameSize, maxFrameSize);
+    try {
+      final byte[] frame = frameBuffer.array();
+      final int offset = frameBuffer.arrayOffset();
+      message
+          .getData()
+          .copyTo(MutableBytes.wrap(frame, offset + LENGTH_MESSAGE_ID, message.getSize()));
+      writeFrame(message.getCode(), frame, offset, message.getSize(), buf);
+    } finally {
+      frameBuffer.release();
+    }
+  }
+
+  /**
+   * Writes the header and the frame of a message whose data has already been placed in the frame
+   * array, encrypting the frame in place.
+   *
+   * @param code The message code.
+   * @param frame An array holding the message data at offset + 1, with room for padding after it.
+   * @param offset The offset of the frame in the array.
+   * @param messageSize The size of the message data.
+   * @param buf The {@link ByteBuf} to write the framed message to.
+   */
+  private void writeFrame(
+      final int code,
+      final byte[] frame,
+      final int offset,
+      final int messageSize,
+      final ByteBuf buf) {
+    final int frameSize = messageSize + LENGTH_MESSAGE_ID;
     final int pad = padding16(frameSize);
 
-    final byte id = (byte) message.getCode();
+    final byte id = (byte) code;
 
     // Generate the header data.
     final byte[] h = new byte[LENGTH_HEADER_DATA];
@@ -364,24 +426,24 @@ public class Framer {
     buf.writeBytes(h).writeBytes(hMac);
 
     // Encrypt payload.
-    final MutableBytes f = MutableBytes.create(frameSize + pad);
-
     final Bytes bv = id == 0 ? RLP.NULL : RLP.encodeOne(Bytes.of(id));
     assert bv.size() == 1;
-    f.set(0, bv.get(0));
+    frame[offset] = bv.get(0);
 
-    // Zero-padded to 16-byte boundary.
-    message.getData().copyTo(f, 1);
-    encryptor.processBytes(f.toArrayUnsafe(), 0, f.size(), f.toArrayUnsafe(), 0);
+    // Zero-padded to 16-byte boundary, pooled buffers are not zeroed when allocated.
+    final int frameDataSize = frameSize + pad;
+    Arrays.fill(frame, offset + frameSize, offset + frameDataSize, (byte) 0x00);
+    encryptor.processBytes(frame, offset, frameDataSize, frame, offset);
 
     // Calculate the frame MAC.
     final byte[] fMacSeed =
-        Arrays.copyOf(secrets.updateEgress(f.toArrayUnsafe()).getEgressMac(), LENGTH_MAC);
+        Arrays.copyOf(
+            secrets.updateEgress(frame, offset, frameDataSize).getEgressMac(), LENGTH_MAC);
     byte[] fMac = new byte[16];
     macEncryptor.processBlock(fMacSeed, 0, fMac, 0);
     fMac = Arrays.copyOf(secrets.updateEgress(xor(fMac, fMacSeed)).getEgressMac(), LENGTH_MAC);
 
-    buf.writeBytes(f.toArrayUnsafe()).writeBytes(fMac);
+    buf.writeBytes(frame, offset, frameDataSize).writeBytes(fMac);
   }
 
   private static int padding16(final int size) {
@@ -53,4 +53,69 @@ public class SnappyCompressor {
       throw new FramingException("Snappy uncompressedLength failed", e);
     }
   }
+
+  /**
+   * Compresses a range of an array into another array, without allocating any intermediate
+   * buffers.
+   *
+   * @param uncompressed the array holding the data to compress
+   * @param offset the offset of the data to compress
+   * @param length the length of the data to compress
+   * @param output the array to write the compressed data to, which must have at least {@link
+   *     #maxCompressedLength(int)} bytes available from outputOffset
+   * @param outputOffset the offset in output to write the compressed data at
+   * @return the length of the compressed data
+   */
+  public int compress(
+      final byte[] uncompressed,
+      final int offset,
+      final int length,
+      final byte[] output,
+      final int outputOffset) {
+    checkNotNull(uncompressed, "input data must not be null");
+    try {
+      return Snappy.compress(uncompressed, offset, length, output, outputOffset);
+    } catch (final IOException e) {
+      throw new FramingException("Snappy compression failed", e);
+    }
+  }
+
+  /**
+   * Decompresses a range of an array into another array, without allocating any intermediate
+   * buffers.
+   *
+   * @param compressed the array holding the data to decompress
+   * @param offset the offset of the data to decompress
+   * @param length the length of the data to decompress
+   * @param output the array to write the decompressed data to, which must have at least {@link
+   *     #uncompressedLength(byte[], int, int)} bytes available from outputOffset
+   * @param outputOffset the offset in output to write the decompressed data at
+   * @return the length of the decompressed data
+   */
+  public int decompress(
+      final byte[] compressed,
+      final int offset,
+      final int length,
+      final byte[] output,
+      final int outputOffset) {
+    checkNotNull(compressed, "input data must not be null");
+    try {
+      return Snappy.uncompress(compressed, offset, length, output, outputOffset);
+    } catch (final IOException e) {
+      throw new FramingException("Snappy decompression failed", e);
+    }
+  }
+
+  public int uncompressedLength(final byte[] compressed, final int offset, final int length) {
+    checkNotNull(compressed, "input data must not be null");
+    try {
+      return Snappy.uncompressedLength(compressed, offset, length);
+    } catch (final IOException e) {
+      throw new FramingException("Snappy uncompressedLength failed", e);
+    }
+  }
+
+  public int maxCompressedLength(final int length) {
+    return Snappy.maxCompressedLength(length);
+  }
 }
@@ -14,12 +14,15 @@
  */
 package org.hyperledger.besu.ethereum.p2p.discovery.internal;
 
+import static java.util.Comparator.comparingInt;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.hyperledger.besu.crypto.Hash;
 import org.hyperledger.besu.crypto.SignatureAlgorithm;
 import org.hyperledger.besu.crypto.SignatureAlgorithmFactory;
 import org.hyperledger.besu.ethereum.p2p.discovery.DiscoveryPeer;
 import org.hyperledger.besu.ethereum.p2p.discovery.Endpoint;
+import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryStatus;
 import org.hyperledger.besu.ethereum.p2p.discovery.PeerDiscoveryTestHelper;
 import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.AddResult.AddOutcome;
 import org.hyperledger.besu.ethereum.p2p.discovery.internal.PeerTable.EvictResult;
@@ -29,6 +32,7 @@ import org.hyperledger.besu.ethereum.p2p.peers.Peer;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
@@ -184,4 +188,45 @@ public class PeerTableTest {
     final EvictResult evictResult = table.tryEvict(peer);
     assertThat(evictResult.getOutcome()).isEqualTo(EvictOutcome.SELF);
   }
+
+  @Test
+  public void getReturnsEmptyAfterEviction() {
+    final PeerTable table = new PeerTable(Peer.randomId(), 16);
+    final DiscoveryPeer peer = helper.createDiscoveryPeer();
+
+    table.tryAdd(peer);
+    assertThat(table.get(peer)).contains(peer);
+
+    table.tryEvict(peer);
+    assertThat(table.get(peer)).isEmpty();
+  }
+
+  @Test
+  public void nearestPeersMatchesSortingWholeTable() {
+    final PeerTable table = new PeerTable(Peer.randomId(), 16);
+    final List<DiscoveryPeer> peers = helper.createDiscoveryPeers(100);
+    for (int i = 0; i < peers.size(); i++) {
+      if (i % 3 != 0) {
+        peers.get(i).setStatus(PeerDiscoveryStatus.BONDED);
+      }
+      table.tryAdd(peers.get(i));
+    }
+
+    final List<Bytes> targets = List.of(Peer.randomId(), peers.get(1).getId(), peers.get(3).getId());
+    for (final Bytes target : targets) {
+      final Bytes targetHash = Hash.keccak256(target);
+      for (final int limit : new int[] {0, 1, 16, 200}) {
+        final List<DiscoveryPeer> expected =
+            table
+                .streamAllPeers()
+                .filter(p -> p.getStatus() == PeerDiscoveryStatus.BONDED)
+                .sorted(
+                    comparingInt(p -> PeerDistanceCalculator.distance(p.keccak256(), targetHash)))
+                .limit(limit)
+                .collect(Collectors.toList());
+
+        assertThat(table.nearestPeers(target, limit)).containsExactlyElementsOf(expected);
+      }
+    }
+  }
 }
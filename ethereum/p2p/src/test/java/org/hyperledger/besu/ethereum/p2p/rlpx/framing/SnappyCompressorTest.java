@@ -35,6 +35,23 @@ public class SnappyCompressorTest {
     assertThat(snappy.decompress(snappy.compress(data))).isEqualTo(data);
   }
 
+  @Test
+  public void roundTripWithOffsets() {
+    final byte[] data =
+        "  Uncompressed sample text, Uncompressed sample text, Uncompressed sample text  "
+            .getBytes(StandardCharsets.UTF_8);
+    final int length = data.length - 4;
+
+    final byte[] compressed = new byte[3 + snappy.maxCompressedLength(length)];
+    final int compressedLength = snappy.compress(data, 2, length, compressed, 3);
+    assertThat(snappy.uncompressedLength(compressed, 3, compressedLength)).isEqualTo(length);
+
+    final byte[] decompressed = new byte[length + 1];
+    assertThat(snappy.decompress(compressed, 3, compressedLength, decompressed, 1))
+        .isEqualTo(length);
+    assertThat(Bytes.wrap(decompressed, 1, length)).isEqualTo(Bytes.wrap(data, 2, length));
+  }
+
   @Test
   public void roundTripEmptyByteArray() {
     final byte[] data = new byte[0];
@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.permissioning;
 
+import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.p2p.peers.EnodeURL;
 import org.hyperledger.besu.ethereum.permissioning.node.NodePermissioningProvider;
@@ -32,6 +33,7 @@ public abstract class AbstractNodeSmartContractPermissioningController
 
   protected final Address contractAddress;
   protected final TransactionSimulator transactionSimulator;
+  protected final SmartContractPermissioningCallCache callCache;
 
   private final Counter checkCounter;
   private final Counter checkCounterPermitted;
@@ -48,8 +50,42 @@ public abstract class AbstractNodeSmartContractPermissioningController
       final Address contractAddress,
       final TransactionSimulator transactionSimulator,
       final MetricsSystem metricsSystem) {
+    this(
+        contractAddress,
+        transactionSimulator,
+        SmartContractPermissioningCallCache.disabled(transactionSimulator),
+        metricsSystem);
+  }
+
+  /**
+   * Creates a permissioning controller attached to a blockchain which reuses the result of a check
+   * until a block is added to the chain
+   *
+   * @param contractAddress The address at which the permissioning smart contract resides
+   * @param transactionSimulator A transaction simulator with attached blockchain and world state
+   * @param blockchain The blockchain the transaction simulator is attached to
+   * @param metricsSystem The metrics provider that is to be reported to
+   */
+  protected AbstractNodeSmartContractPermissioningController(
+      final Address contractAddress,
+      final TransactionSimulator transactionSimulator,
+      final Blockchain blockchain,
+      final MetricsSystem metricsSystem) {
+    this(
+        contractAddress,
+        transactionSimulator,
+        SmartContractPermissioningCallCache.create(transactionSimulator, blockchain),
+        metricsSystem);
+  }
+
+  private AbstractNodeSmartContractPermissioningController(
+      final Address contractAddress,
+      final TransactionSimulator transactionSimulator,
+      final SmartContractPermissioningCallCache callCache,
+      final MetricsSystem metricsSystem) {
     this.contractAddress = contractAddress;
     this.transactionSimulator = transactionSimulator;
+    this.callCache = callCache;
 
     this.checkCounter =
         metricsSystem.createCounter(
@@ -93,8 +129,7 @@ public abstract class AbstractNodeSmartContractPermissioningController
   }
 
   private boolean isContractDeployed() {
-    final Optional<Boolean> contractExists =
-        transactionSimulator.doesAddressExistAtHead(contractAddress);
+    final Optional<Boolean> contractExists = callCache.doesAddressExistAtHead(contractAddress);
 
     return contractExists.isPresent() && contractExists.get();
   }
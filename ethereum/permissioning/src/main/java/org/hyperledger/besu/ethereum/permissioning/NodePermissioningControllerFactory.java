@@ -70,7 +70,7 @@ public class NodePermissioningControllerFactory {
             .isSmartContractNodeAllowlistEnabled()) {
 
       configureNodePermissioningSmartContractProvider(
-          permissioningConfiguration, transactionSimulator, metricsSystem, providers);
+          permissioningConfiguration, transactionSimulator, metricsSystem, blockchain, providers);
 
       if (fixedNodes.isEmpty()) {
         syncStatusProviderOptional = Optional.empty();
@@ -117,6 +117,7 @@ public class NodePermissioningControllerFactory {
       final PermissioningConfiguration permissioningConfiguration,
       final TransactionSimulator transactionSimulator,
       final MetricsSystem metricsSystem,
+      final Blockchain blockchain,
       final List<NodePermissioningProvider> providers) {
     final SmartContractPermissioningConfiguration smartContractPermissioningConfig =
         permissioningConfiguration.getSmartContractConfig().get();
@@ -129,14 +130,20 @@ public class NodePermissioningControllerFactory {
         {
           smartContractProvider =
               new NodeSmartContractPermissioningController(
-                  nodePermissioningSmartContractAddress, transactionSimulator, metricsSystem);
+                  nodePermissioningSmartContractAddress,
+                  transactionSimulator,
+                  blockchain,
+                  metricsSystem);
           break;
         }
       case 2:
         {
           smartContractProvider =
               new NodeSmartContractV2PermissioningController(
-                  nodePermissioningSmartContractAddress, transactionSimulator, metricsSystem);
+                  nodePermissioningSmartContractAddress,
+                  transactionSimulator,
+                  blockchain,
+                  metricsSystem);
           break;
         }
       default:
@@ -17,6 +17,7 @@ package org.hyperledger.besu.ethereum.permissioning;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import org.hyperledger.besu.crypto.Hash;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.p2p.peers.EnodeURL;
 import org.hyperledger.besu.ethereum.transaction.CallParameter;
@@ -62,13 +63,20 @@ public class NodeSmartContractPermissioningController
     super(contractAddress, transactionSimulator, metricsSystem);
   }
 
+  public NodeSmartContractPermissioningController(
+      final Address contractAddress,
+      final TransactionSimulator transactionSimulator,
+      final Blockchain blockchain,
+      final MetricsSystem metricsSystem) {
+    super(contractAddress, transactionSimulator, blockchain, metricsSystem);
+  }
+
   @Override
   boolean checkSmartContractRules(final EnodeURL sourceEnode, final EnodeURL destinationEnode) {
     final Bytes payload = createPayload(sourceEnode, destinationEnode);
     final CallParameter callParams = buildCallParameters(payload);
 
-    final Optional<TransactionSimulatorResult> result =
-        transactionSimulator.processAtHead(callParams);
+    final Optional<TransactionSimulatorResult> result = callCache.processAtHead(callParams);
 
     if (result.isPresent()) {
       switch (result.get().getResult().getStatus()) {
@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.permissioning;
 
+import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.p2p.peers.EnodeURL;
 import org.hyperledger.besu.ethereum.transaction.CallParameter;
@@ -47,6 +48,14 @@ public class NodeSmartContractV2PermissioningController
     super(contractAddress, transactionSimulator, metricsSystem);
   }
 
+  public NodeSmartContractV2PermissioningController(
+      final Address contractAddress,
+      final TransactionSimulator transactionSimulator,
+      final Blockchain blockchain,
+      final MetricsSystem metricsSystem) {
+    super(contractAddress, transactionSimulator, blockchain, metricsSystem);
+  }
+
   @Override
   boolean checkSmartContractRules(final EnodeURL sourceEnode, final EnodeURL destinationEnode) {
     return isPermitted(sourceEnode) && isPermitted(destinationEnode);
@@ -56,7 +65,7 @@ public class NodeSmartContractV2PermissioningController
     final Bytes payload = createPayload(enode);
     final CallParameter callParams = buildCallParameters(payload);
 
-    return transactionSimulator.processAtHead(callParams).map(this::parseResult).orElse(false);
+    return callCache.processAtHead(callParams).map(this::parseResult).orElse(false);
   }
 
   private Bytes createPayload(final EnodeURL enodeUrl) {
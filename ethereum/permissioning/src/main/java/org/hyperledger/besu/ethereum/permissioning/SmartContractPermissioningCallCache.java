@@ -0,0 +1,117 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.permissioning;
+
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.transaction.CallParameter;
+import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
+import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Simulates calls to a permissioning smart contract at the chain head, reusing the result of
+ * identical calls until a block is added to the chain.
+ *
+ * <p>Results are keyed by the chain head they were computed against (tracked as the number of
+ * blocks added since start up) and the call payload. Concurrent checks with the same payload share
+ * a single simulation, so a burst of identical checks only runs the permissioning contract once.
+ */
+class SmartContractPermissioningCallCache {
+
+  private static final int MAX_CACHED_CALLS = 10_000;
+
+  private final TransactionSimulator transactionSimulator;
+  private final AtomicLong chainHeadVersion = new AtomicLong();
+  private final Cache<Bytes, Optional<TransactionSimulatorResult>> callResults;
+  private final Cache<Bytes, Optional<Boolean>> addressExists;
+
+  private SmartContractPermissioningCallCache(
+      final TransactionSimulator transactionSimulator, final int maxCachedCalls) {
+    this.transactionSimulator = transactionSimulator;
+    // A maximum size of zero disables caching, every call is simulated
+    this.callResults = CacheBuilder.newBuilder().maximumSize(maxCachedCalls).build();
+    this.addressExists = CacheBuilder.newBuilder().maximumSize(maxCachedCalls).build();
+  }
+
+  /**
+   * Creates a cache whose results are discarded whenever a block is added to the blockchain.
+   *
+   * @param transactionSimulator the simulator used to call the permissioning contract
+   * @param blockchain the blockchain whose head the calls are simulated against
+   * @return the cache
+   */
+  static SmartContractPermissioningCallCache create(
+      final TransactionSimulator transactionSimulator, final Blockchain blockchain) {
+    final SmartContractPermissioningCallCache cache =
+        new SmartContractPermissioningCallCache(transactionSimulator, MAX_CACHED_CALLS);
+    blockchain.observeBlockAdded(event -> cache.onChainHeadChanged());
+    return cache;
+  }
+
+  /**
+   * Creates an instance which simulates every call, for use when the chain head can't be observed.
+   *
+   * @param transactionSimulator the simulator used to call the permissioning contract
+   * @return the pass-through instance
+   */
+  static SmartContractPermissioningCallCache disabled(
+      final TransactionSimulator transactionSimulator) {
+    return new SmartContractPermissioningCallCache(transactionSimulator, 0);
+  }
+
+  Optional<TransactionSimulatorResult> processAtHead(final CallParameter callParams) {
+    final Bytes key = Bytes.concatenate(chainHeadKey(), callParams.getPayload());
+    return get(callResults, key, () -> transactionSimulator.processAtHead(callParams));
+  }
+
+  Optional<Boolean> doesAddressExistAtHead(final Address address) {
+    final Bytes key = Bytes.concatenate(chainHeadKey(), address);
+    return get(addressExists, key, () -> transactionSimulator.doesAddressExistAtHead(address));
+  }
+
+  private Bytes chainHeadKey() {
+    return Bytes.ofUnsignedLong(chainHeadVersion.get());
+  }
+
+  private static <V> V get(final Cache<Bytes, V> cache, final Bytes key, final Callable<V> loader) {
+    try {
+      // Concurrent checks for the same key wait for a single simulation of the call
+      return cache.get(key, loader);
+    } catch (final UncheckedExecutionException | ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private void onChainHeadChanged() {
+    // Bump the version first so that results computed against the previous head are never reused,
+    // even if their simulation finishes after the caches are cleared
+    chainHeadVersion.incrementAndGet();
+    callResults.invalidateAll();
+    addressExists.invalidateAll();
+  }
+}
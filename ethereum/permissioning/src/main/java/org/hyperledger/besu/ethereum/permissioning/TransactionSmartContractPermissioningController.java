@@ -18,6 +18,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import org.hyperledger.besu.crypto.Hash;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.permissioning.account.TransactionPermissioningProvider;
@@ -44,7 +45,7 @@ public class TransactionSmartContractPermissioningController
   private static final Logger LOG = LogManager.getLogger();
 
   private final Address contractAddress;
-  private final TransactionSimulator transactionSimulator;
+  private final SmartContractPermissioningCallCache callCache;
 
   // full function signature for connection allowed call
   private static final String FUNCTION_SIGNATURE =
@@ -78,8 +79,38 @@ public class TransactionSmartContractPermissioningController
       final Address contractAddress,
       final TransactionSimulator transactionSimulator,
       final MetricsSystem metricsSystem) {
+    this(
+        contractAddress,
+        SmartContractPermissioningCallCache.disabled(transactionSimulator),
+        metricsSystem);
+  }
+
+  /**
+   * Creates a permissioning controller attached to a blockchain which reuses the result of a check
+   * until a block is added to the chain
+   *
+   * @param contractAddress The address at which the permissioning smart contract resides
+   * @param transactionSimulator A transaction simulator with attached blockchain and world state
+   * @param blockchain The blockchain the transaction simulator is attached to
+   * @param metricsSystem The metrics provider that is to be reported to
+   */
+  public TransactionSmartContractPermissioningController(
+      final Address contractAddress,
+      final TransactionSimulator transactionSimulator,
+      final Blockchain blockchain,
+      final MetricsSystem metricsSystem) {
+    this(
+        contractAddress,
+        SmartContractPermissioningCallCache.create(transactionSimulator, blockchain),
+        metricsSystem);
+  }
+
+  private TransactionSmartContractPermissioningController(
+      final Address contractAddress,
+      final SmartContractPermissioningCallCache callCache,
+      final MetricsSystem metricsSystem) {
     this.contractAddress = contractAddress;
-    this.transactionSimulator = transactionSimulator;
+    this.callCache = callCache;
 
     this.checkCounter =
         metricsSystem.createCounter(
@@ -116,8 +147,7 @@ public class TransactionSmartContractPermissioningController
     final CallParameter callParams =
         new CallParameter(null, contractAddress, -1, null, null, payload);
 
-    final Optional<Boolean> contractExists =
-        transactionSimulator.doesAddressExistAtHead(contractAddress);
+    final Optional<Boolean> contractExists = callCache.doesAddressExistAtHead(contractAddress);
 
     if (contractExists.isPresent() && !contractExists.get()) {
       this.checkCounterPermitted.inc();
@@ -127,8 +157,7 @@ public class TransactionSmartContractPermissioningController
       return true;
     }
 
-    final Optional<TransactionSimulatorResult> result =
-        transactionSimulator.processAtHead(callParams);
+    final Optional<TransactionSimulatorResult> result = callCache.processAtHead(callParams);
 
     if (result.isPresent()) {
       switch (result.get().getResult().getStatus()) {
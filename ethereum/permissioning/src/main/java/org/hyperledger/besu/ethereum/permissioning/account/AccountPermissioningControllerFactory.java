@@ -58,7 +58,7 @@ public class AccountPermissioningControllerFactory {
     final Optional<TransactionSmartContractPermissioningController>
         transactionSmartContractPermissioningController =
             buildSmartContractPermissioningController(
-                permissioningConfiguration, transactionSimulator, metricsSystem);
+                permissioningConfiguration, transactionSimulator, metricsSystem, blockchain);
 
     if (accountLocalConfigPermissioningController.isPresent()
         || transactionSmartContractPermissioningController.isPresent()) {
@@ -92,7 +92,8 @@ public class AccountPermissioningControllerFactory {
       buildSmartContractPermissioningController(
           final PermissioningConfiguration permissioningConfiguration,
           final TransactionSimulator transactionSimulator,
-          final MetricsSystem metricsSystem) {
+          final MetricsSystem metricsSystem,
+          final Blockchain blockchain) {
 
     if (permissioningConfiguration.getSmartContractConfig().isPresent()) {
       final SmartContractPermissioningConfiguration smartContractPermissioningConfiguration =
@@ -106,7 +107,10 @@ public class AccountPermissioningControllerFactory {
             transactionSmartContractPermissioningController =
                 Optional.of(
                     new TransactionSmartContractPermissioningController(
-                        accountSmartContractAddress, transactionSimulator, metricsSystem));
+                        accountSmartContractAddress,
+                        transactionSimulator,
+                        blockchain,
+                        metricsSystem));
         validatePermissioningContract(transactionSmartContractPermissioningController.get());
 
         return transactionSmartContractPermissioningController;
@@ -0,0 +1,127 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.permissioning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.transaction.CallParameter;
+import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
+import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
+
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class SmartContractPermissioningCallCacheTest {
+
+  private final Address contractAddress =
+      Address.fromHexString("0x0000000000000000000000000000000000001234");
+  private final TransactionSimulator transactionSimulator = mock(TransactionSimulator.class);
+  private final Blockchain blockchain = mock(Blockchain.class);
+  private final Optional<TransactionSimulatorResult> result =
+      Optional.of(mock(TransactionSimulatorResult.class));
+
+  private SmartContractPermissioningCallCache callCache;
+  private BlockAddedObserver blockAddedObserver;
+
+  @Before
+  public void setUp() {
+    final ArgumentCaptor<BlockAddedObserver> observerCaptor =
+        ArgumentCaptor.forClass(BlockAddedObserver.class);
+    when(transactionSimulator.processAtHead(any())).thenReturn(result);
+    callCache = SmartContractPermissioningCallCache.create(transactionSimulator, blockchain);
+    verify(blockchain).observeBlockAdded(observerCaptor.capture());
+    blockAddedObserver = observerCaptor.getValue();
+  }
+
+  @Test
+  public void identicalCallsAtTheSameChainHeadAreSimulatedOnce() {
+    assertThat(callCache.processAtHead(callParams("0x01"))).isSameAs(result);
+    assertThat(callCache.processAtHead(callParams("0x01"))).isSameAs(result);
+
+    verify(transactionSimulator, times(1)).processAtHead(callParams("0x01"));
+  }
+
+  @Test
+  public void callsWithDifferentPayloadsAreSimulatedSeparately() {
+    callCache.processAtHead(callParams("0x01"));
+    callCache.processAtHead(callParams("0x02"));
+
+    verify(transactionSimulator, times(1)).processAtHead(callParams("0x01"));
+    verify(transactionSimulator, times(1)).processAtHead(callParams("0x02"));
+  }
+
+  @Test
+  public void callsAreSimulatedAgainAfterABlockIsAdded() {
+    callCache.processAtHead(callParams("0x01"));
+    blockAddedObserver.onBlockAdded(null);
+    callCache.processAtHead(callParams("0x01"));
+
+    verify(transactionSimulator, times(2)).processAtHead(callParams("0x01"));
+  }
+
+  @Test
+  public void contractExistenceIsCheckedOncePerChainHead() {
+    when(transactionSimulator.doesAddressExistAtHead(contractAddress))
+        .thenReturn(Optional.of(true));
+
+    assertThat(callCache.doesAddressExistAtHead(contractAddress)).contains(true);
+    assertThat(callCache.doesAddressExistAtHead(contractAddress)).contains(true);
+    verify(transactionSimulator, times(1)).doesAddressExistAtHead(contractAddress);
+
+    blockAddedObserver.onBlockAdded(null);
+    callCache.doesAddressExistAtHead(contractAddress);
+    verify(transactionSimulator, times(2)).doesAddressExistAtHead(contractAddress);
+  }
+
+  @Test
+  public void simulationFailuresAreRethrownAndNotCached() {
+    when(transactionSimulator.processAtHead(callParams("0x03")))
+        .thenThrow(new IllegalStateException("boom"))
+        .thenReturn(result);
+
+    assertThatIllegalStateException()
+        .isThrownBy(() -> callCache.processAtHead(callParams("0x03")))
+        .withMessage("boom");
+    assertThat(callCache.processAtHead(callParams("0x03"))).isSameAs(result);
+  }
+
+  @Test
+  public void disabledCacheSimulatesEveryCall() {
+    final SmartContractPermissioningCallCache disabled =
+        SmartContractPermissioningCallCache.disabled(transactionSimulator);
+
+    disabled.processAtHead(callParams("0x01"));
+    disabled.processAtHead(callParams("0x01"));
+
+    verify(transactionSimulator, times(2)).processAtHead(callParams("0x01"));
+  }
+
+  private CallParameter callParams(final String payload) {
+    return new CallParameter(null, contractAddress, -1, null, null, Bytes.fromHexString(payload));
+  }
+}
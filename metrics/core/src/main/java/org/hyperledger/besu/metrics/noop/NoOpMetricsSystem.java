@@ -17,6 +17,7 @@ package org.hyperledger.besu.metrics.noop;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
@@ -90,6 +91,19 @@ public class NoOpMetricsSystem implements ObservableMetricsSystem {
       final String help,
       final DoubleSupplier valueSupplier) {}
 
+  @Override
+  public LabelledGauge createLabelledGauge(
+      final MetricCategory category,
+      final String name,
+      final String help,
+      final String... labelNames) {
+    return getLabelledGauge(labelNames.length);
+  }
+
+  public static LabelledGauge getLabelledGauge(final int labelCount) {
+    return new LabelCountingNoOpGauge(labelCount);
+  }
+
   @Override
   public Stream<Observation> streamObservations(final MetricCategory category) {
     return Stream.empty();
@@ -123,4 +137,20 @@ public class NoOpMetricsSystem implements ObservableMetricsSystem {
       return fakeMetric;
     }
   }
+
+  public static class LabelCountingNoOpGauge implements LabelledGauge {
+
+    final int labelCount;
+
+    LabelCountingNoOpGauge(final int labelCount) {
+      this.labelCount = labelCount;
+    }
+
+    @Override
+    public void labels(final DoubleSupplier valueSupplier, final String... labelValues) {
+      Preconditions.checkArgument(
+          labelValues.length == labelCount,
+          "The count of labels used must match the count of labels expected.");
+    }
+  }
 }
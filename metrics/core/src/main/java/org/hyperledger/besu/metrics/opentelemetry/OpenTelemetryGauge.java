@@ -0,0 +1,60 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.metrics.opentelemetry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+import io.opentelemetry.api.common.Labels;
+import io.opentelemetry.api.metrics.Meter;
+
+public class OpenTelemetryGauge implements LabelledGauge {
+
+  private final String[] labelNames;
+  private final Map<Labels, DoubleSupplier> observationsMap = new ConcurrentHashMap<>();
+
+  public OpenTelemetryGauge(
+      final String metricName, final String help, final Meter meter, final String... labelNames) {
+    this.labelNames = labelNames;
+    meter
+        .doubleValueObserverBuilder(metricName)
+        .setDescription(help)
+        .setUpdater(
+            res ->
+                observationsMap.forEach(
+                    (labels, valueSupplier) -> res.observe(valueSupplier.getAsDouble(), labels)))
+        .build();
+  }
+
+  @Override
+  public void labels(final DoubleSupplier valueSupplier, final String... labelValues) {
+    checkArgument(
+        labelValues.length == labelNames.length,
+        "The count of labels used must match the count of labels expected.");
+    final List<String> labelKeysAndValues = new ArrayList<>();
+    for (int i = 0; i < labelNames.length; i++) {
+      labelKeysAndValues.add(labelNames[i]);
+      labelKeysAndValues.add(labelValues[i]);
+    }
+    observationsMap.put(Labels.of(labelKeysAndValues.toArray(new String[] {})), valueSupplier);
+  }
+}
@@ -20,6 +20,7 @@ import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.StandardMetricCategory;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
@@ -71,6 +72,7 @@ public class OpenTelemetrySystem implements ObservableMetricsSystem {
   private final Map<String, LabelledMetric<Counter>> cachedCounters = new ConcurrentHashMap<>();
   private final Map<String, LabelledMetric<OperationTimer>> cachedTimers =
       new ConcurrentHashMap<>();
+  private final Map<String, LabelledGauge> cachedGauges = new ConcurrentHashMap<>();
   private final SdkMeterProvider meterSdkProvider;
 
   public OpenTelemetrySystem(
@@ -208,6 +210,25 @@ public class OpenTelemetrySystem implements ObservableMetricsSystem {
     }
   }
 
+  @Override
+  public LabelledGauge createLabelledGauge(
+      final MetricCategory category,
+      final String name,
+      final String help,
+      final String... labelNames) {
+    LOG.trace("Creating a labelled gauge {}", name);
+    return cachedGauges.computeIfAbsent(
+        name,
+        (k) -> {
+          if (isCategoryEnabled(category)) {
+            final Meter meter = meterSdkProvider.get(category.getName());
+            return new OpenTelemetryGauge(name, help, meter, labelNames);
+          } else {
+            return NoOpMetricsSystem.getLabelledGauge(labelNames.length);
+          }
+        });
+  }
+
   @Override
   public Set<MetricCategory> getEnabledCategories() {
     return enabledCategories;
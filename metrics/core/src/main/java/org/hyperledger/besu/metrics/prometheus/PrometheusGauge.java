@@ -0,0 +1,62 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.metrics.prometheus;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.Collector.MetricFamilySamples.Sample;
+
+class PrometheusGauge extends Collector implements LabelledGauge {
+
+  private final String metricName;
+  private final String help;
+  private final List<String> labelNames;
+  private final Map<List<String>, DoubleSupplier> observationsMap = new ConcurrentHashMap<>();
+
+  public PrometheusGauge(final String metricName, final String help, final String... labelNames) {
+    this.metricName = metricName;
+    this.help = help;
+    this.labelNames = asList(labelNames);
+  }
+
+  @Override
+  public void labels(final DoubleSupplier valueSupplier, final String... labelValues) {
+    checkArgument(
+        labelValues.length == labelNames.size(),
+        "The count of labels used must match the count of labels expected.");
+    observationsMap.put(asList(labelValues), valueSupplier);
+  }
+
+  @Override
+  public List<MetricFamilySamples> collect() {
+    final List<Sample> samples = new ArrayList<>();
+    observationsMap.forEach(
+        (labelValues, valueSupplier) ->
+            samples.add(
+                new Sample(metricName, labelNames, labelValues, valueSupplier.getAsDouble())));
+    return singletonList(new MetricFamilySamples(metricName, Type.GAUGE, help, samples));
+  }
+}
@@ -18,6 +18,7 @@ import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.StandardMetricCategory;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
@@ -55,6 +56,7 @@ public class PrometheusMetricsSystem implements ObservableMetricsSystem {
       cachedCounters = new ConcurrentHashMap<>();
   private final Map<String, LabelledMetric<OperationTimer>> cachedTimers =
       new ConcurrentHashMap<>();
+  private final Map<String, LabelledGauge> cachedGauges = new ConcurrentHashMap<>();
 
   private final Set<MetricCategory> enabledCategories;
   private final boolean timersEnabled;
@@ -141,6 +143,26 @@ public class PrometheusMetricsSystem implements ObservableMetricsSystem {
     }
   }
 
+  @Override
+  public LabelledGauge createLabelledGauge(
+      final MetricCategory category,
+      final String name,
+      final String help,
+      final String... labelNames) {
+    final String metricName = convertToPrometheusName(category, name);
+    return cachedGauges.computeIfAbsent(
+        metricName,
+        (k) -> {
+          if (isCategoryEnabled(category)) {
+            final PrometheusGauge gauge = new PrometheusGauge(metricName, help, labelNames);
+            addCollectorUnchecked(category, gauge);
+            return gauge;
+          } else {
+            return NoOpMetricsSystem.getLabelledGauge(labelNames.length);
+          }
+        });
+  }
+
   public void addCollector(
       final MetricCategory category, final Supplier<Collector> metricSupplier) {
     if (isCategoryEnabled(category)) {
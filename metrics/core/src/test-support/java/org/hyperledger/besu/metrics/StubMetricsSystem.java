@@ -18,6 +18,7 @@ import static java.util.Arrays.asList;
 
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
@@ -34,6 +35,7 @@ public class StubMetricsSystem implements ObservableMetricsSystem {
 
   private final Map<String, StubLabelledCounter> counters = new HashMap<>();
   private final Map<String, DoubleSupplier> gauges = new HashMap<>();
+  private final Map<String, Map<List<String>, DoubleSupplier>> labelledGauges = new HashMap<>();
 
   @Override
   public LabelledMetric<Counter> createLabelledCounter(
@@ -82,6 +84,26 @@ public class StubMetricsSystem implements ObservableMetricsSystem {
     return gauge.getAsDouble();
   }
 
+  @Override
+  public LabelledGauge createLabelledGauge(
+      final MetricCategory category,
+      final String name,
+      final String help,
+      final String... labelNames) {
+    final Map<List<String>, DoubleSupplier> suppliers =
+        labelledGauges.computeIfAbsent(name, key -> new HashMap<>());
+    return (valueSupplier, labelValues) -> suppliers.put(asList(labelValues), valueSupplier);
+  }
+
+  public double getLabelledGaugeValue(final String name, final String... labels) {
+    final DoubleSupplier gauge =
+        labelledGauges.getOrDefault(name, Collections.emptyMap()).get(asList(labels));
+    if (gauge == null) {
+      throw new IllegalArgumentException("Unknown gauge: " + name);
+    }
+    return gauge.getAsDouble();
+  }
+
   @Override
   public Stream<Observation> streamObservations(final MetricCategory category) {
     throw new UnsupportedOperationException("Observations aren't actually recorded");
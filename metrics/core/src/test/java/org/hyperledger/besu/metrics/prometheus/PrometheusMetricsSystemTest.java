@@ -32,6 +32,7 @@ import org.hyperledger.besu.metrics.Observation;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
@@ -190,6 +191,34 @@ public class PrometheusMetricsSystemTest {
         .isInstanceOf(IllegalArgumentException.class);
   }
 
+  @Test
+  public void shouldCreateSeparateObservationsForEachLabelledGaugeLabelValue() {
+    final LabelledGauge gauge =
+        metricsSystem.createLabelledGauge(PEERS, "pending", "Some help string", "peer");
+    gauge.labels(() -> 3.0, "a");
+    gauge.labels(() -> 5.0, "b");
+
+    assertThat(metricsSystem.streamObservations())
+        .containsExactlyInAnyOrder(
+            new Observation(PEERS, "pending", 3.0, singletonList("a")),
+            new Observation(PEERS, "pending", 5.0, singletonList("b")));
+  }
+
+  @Test
+  public void shouldReplaceLabelledGaugeSupplierForSameLabelValues() {
+    final LabelledGauge gauge1 =
+        metricsSystem.createLabelledGauge(PEERS, "pending", "Some help string", "peer");
+    final LabelledGauge gauge2 =
+        metricsSystem.createLabelledGauge(PEERS, "pending", "Some help string", "peer");
+    assertThat(gauge1).isEqualTo(gauge2);
+
+    gauge1.labels(() -> 3.0, "a");
+    gauge2.labels(() -> 5.0, "a");
+
+    assertThat(metricsSystem.streamObservations())
+        .containsExactly(new Observation(PEERS, "pending", 5.0, singletonList("a")));
+  }
+
   @Test
   public void shouldOnlyObserveEnabledMetrics() {
     final MetricsConfiguration metricsConfiguration =
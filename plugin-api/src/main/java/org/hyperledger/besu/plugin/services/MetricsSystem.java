@@ -15,6 +15,7 @@
 package org.hyperledger.besu.plugin.services;
 
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
@@ -87,6 +88,19 @@ public interface MetricsSystem {
    */
   void createGauge(MetricCategory category, String name, String help, DoubleSupplier valueSupplier);
 
+  /**
+   * Creates a gauge with assigned labels. Each combination of label values reports the value of
+   * the supplier set for it through {@link LabelledGauge#labels}.
+   *
+   * @param category The {@link MetricCategory} this gauge is assigned to.
+   * @param name A name for this metric.
+   * @param help A human readable description of the metric.
+   * @param labelNames An array of labels to assign to the gauge.
+   * @return The created LabelledGauge instance.
+   */
+  LabelledGauge createLabelledGauge(
+      MetricCategory category, String name, String help, String... labelNames);
+
   /**
    * Creates a gauge for displaying integer values.
    *
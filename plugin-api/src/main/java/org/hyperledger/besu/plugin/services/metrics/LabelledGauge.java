@@ -0,0 +1,34 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.plugin.services.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A gauge metric with labels associated. Each combination of label values reports the current
+ * value of its own supplier.
+ */
+public interface LabelledGauge {
+
+  /**
+   * Sets the supplier of the value reported for the specified label values, replacing any supplier
+   * previously set for them.
+   *
+   * @param valueSupplier A supplier for the double value to be presented.
+   * @param labelValues An array of label values in the same order as the labels when creating this
+   *     metric. The number of values provided must match the number of labels.
+   */
+  void labels(DoubleSupplier valueSupplier, String... labelValues);
+}
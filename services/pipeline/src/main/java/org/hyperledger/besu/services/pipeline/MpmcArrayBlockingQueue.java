@@ -0,0 +1,322 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer queue backed by a ring buffer.
+ *
+ * <p>Each slot in the ring carries a sequence number which tells producers and consumers whether
+ * the slot is free, holds a published item or is still being read, so claiming a position only
+ * needs a single compare-and-set on the producer or consumer index. {@link #drainTo(Collection,
+ * int)} claims all contiguous published items with one compare-and-set.
+ *
+ * <p>The blocking operations spin, then yield, and only then wait on a condition. Producers and
+ * consumers take the lock to signal a waiting thread only while some thread is actually waiting,
+ * so the lock stays off the path of an uncontended pipe. Iterators are weakly consistent snapshots.
+ *
+ * @param <T> the type of item held in the queue.
+ */
+class MpmcArrayBlockingQueue<T> extends AbstractQueue<T> implements BlockingQueue<T> {
+  private static final int SPIN_ATTEMPTS = 100;
+  private static final int YIELD_ATTEMPTS = 10;
+
+  private final int capacity;
+  // The ring needs at least two slots so a free slot can be told apart from a published one.
+  private final int ringSize;
+  private final AtomicReferenceArray<T> buffer;
+  private final AtomicLongArray sequences;
+  private final AtomicLong producerIndex = new AtomicLong();
+  private final AtomicLong consumerIndex = new AtomicLong();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final AtomicInteger waitingConsumers = new AtomicInteger();
+  private final AtomicInteger waitingProducers = new AtomicInteger();
+
+  MpmcArrayBlockingQueue(final int capacity) {
+    checkArgument(capacity > 0, "Capacity must be greater than 0");
+    this.capacity = capacity;
+    this.ringSize = Math.max(2, capacity);
+    this.buffer = new AtomicReferenceArray<>(ringSize);
+    this.sequences = new AtomicLongArray(ringSize);
+    for (int i = 0; i < ringSize; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  @Override
+  public boolean offer(final T item) {
+    checkNotNull(item);
+    while (true) {
+      final long position = producerIndex.get();
+      if (position - consumerIndex.get() >= capacity) {
+        return false;
+      }
+      final int slot = slot(position);
+      final long sequence = sequences.get(slot);
+      if (sequence == position) {
+        if (producerIndex.compareAndSet(position, position + 1)) {
+          buffer.lazySet(slot, item);
+          sequences.set(slot, position + 1);
+          signalWaiting(waitingConsumers, notEmpty);
+          return true;
+        }
+      } else if (sequence < position) {
+        // A consumer from the previous lap is still reading this slot.
+        return false;
+      }
+      // Otherwise another producer claimed this position first so try the next one.
+    }
+  }
+
+  @Override
+  public T poll() {
+    while (true) {
+      final long position = consumerIndex.get();
+      final int slot = slot(position);
+      final long sequence = sequences.get(slot);
+      if (sequence == position + 1) {
+        if (consumerIndex.compareAndSet(position, position + 1)) {
+          return take(slot, position);
+        }
+      } else if (sequence < position + 1) {
+        // Nothing has been published at this position yet.
+        return null;
+      }
+    }
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> output, final int maxElements) {
+    int drained = 0;
+    while (drained < maxElements) {
+      final long position = consumerIndex.get();
+      int available = 0;
+      while (available < maxElements - drained
+          && sequences.get(slot(position + available)) == position + available + 1) {
+        available++;
+      }
+      if (available == 0) {
+        if (sequences.get(slot(position)) < position + 1) {
+          break;
+        }
+        // Another consumer took the item at this position so try again.
+        continue;
+      }
+      if (consumerIndex.compareAndSet(position, position + available)) {
+        for (int i = 0; i < available; i++) {
+          output.add(take(slot(position + i), position + i));
+        }
+        drained += available;
+      }
+    }
+    return drained;
+  }
+
+  @Override
+  public int drainTo(final Collection<? super T> output) {
+    return drainTo(output, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public T peek() {
+    while (true) {
+      final long position = consumerIndex.get();
+      final int slot = slot(position);
+      if (sequences.get(slot) != position + 1) {
+        return null;
+      }
+      final T item = buffer.get(slot);
+      if (consumerIndex.get() == position) {
+        return item;
+      }
+    }
+  }
+
+  @Override
+  public boolean offer(final T item, final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    return offerBlocking(item, true, unit.toNanos(timeout));
+  }
+
+  @Override
+  public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+    return pollBlocking(true, unit.toNanos(timeout));
+  }
+
+  @Override
+  public void put(final T item) throws InterruptedException {
+    offerBlocking(item, false, 0);
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    return pollBlocking(false, 0);
+  }
+
+  private boolean offerBlocking(final T item, final boolean timed, final long timeoutNanos)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + timeoutNanos;
+    for (int attempt = 0; attempt < SPIN_ATTEMPTS + YIELD_ATTEMPTS; attempt++) {
+      if (offer(item)) {
+        return true;
+      }
+      if (timed && System.nanoTime() - deadline >= 0) {
+        return false;
+      }
+      backOff(attempt);
+    }
+    lock.lockInterruptibly();
+    // Register before retrying so a consumer freeing a slot from now on signals this thread.
+    waitingProducers.incrementAndGet();
+    try {
+      while (!offer(item)) {
+        if (!timed) {
+          notFull.await();
+        } else {
+          final long remainingNanos = deadline - System.nanoTime();
+          if (remainingNanos <= 0) {
+            return false;
+          }
+          notFull.awaitNanos(remainingNanos);
+        }
+      }
+      return true;
+    } finally {
+      waitingProducers.decrementAndGet();
+      lock.unlock();
+    }
+  }
+
+  private T pollBlocking(final boolean timed, final long timeoutNanos) throws InterruptedException {
+    final long deadline = System.nanoTime() + timeoutNanos;
+    for (int attempt = 0; attempt < SPIN_ATTEMPTS + YIELD_ATTEMPTS; attempt++) {
+      final T item = poll();
+      if (item != null) {
+        return item;
+      }
+      if (timed && System.nanoTime() - deadline >= 0) {
+        return null;
+      }
+      backOff(attempt);
+    }
+    lock.lockInterruptibly();
+    // Register before retrying so a producer publishing an item from now on signals this thread.
+    waitingConsumers.incrementAndGet();
+    try {
+      T item = poll();
+      while (item == null) {
+        if (!timed) {
+          notEmpty.await();
+        } else {
+          final long remainingNanos = deadline - System.nanoTime();
+          if (remainingNanos <= 0) {
+            return null;
+          }
+          notEmpty.awaitNanos(remainingNanos);
+        }
+        item = poll();
+      }
+      return item;
+    } finally {
+      waitingConsumers.decrementAndGet();
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return capacity - size();
+  }
+
+  @Override
+  public int size() {
+    // Read the consumer index first so the difference is never negative.
+    final long consumed = consumerIndex.get();
+    final long produced = producerIndex.get();
+    return (int) Math.min(capacity, Math.max(0, produced - consumed));
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    final List<T> snapshot = new ArrayList<>();
+    final long consumed = consumerIndex.get();
+    final long produced = producerIndex.get();
+    for (long position = consumed; position < produced; position++) {
+      final int slot = slot(position);
+      if (sequences.get(slot) == position + 1) {
+        final T item = buffer.get(slot);
+        if (item != null) {
+          snapshot.add(item);
+        }
+      }
+    }
+    return Collections.unmodifiableList(snapshot).iterator();
+  }
+
+  private T take(final int slot, final long position) {
+    final T item = buffer.get(slot);
+    buffer.lazySet(slot, null);
+    sequences.set(slot, position + ringSize);
+    signalWaiting(waitingProducers, notFull);
+    return item;
+  }
+
+  private void signalWaiting(final AtomicInteger waiting, final Condition condition) {
+    if (waiting.get() > 0) {
+      lock.lock();
+      try {
+        // Wake every waiter as a signalled thread may time out without taking its turn.
+        condition.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private int slot(final long position) {
+    return (int) (position % ringSize);
+  }
+
+  private static void backOff(final int attempt) throws InterruptedException {
+    if (attempt < SPIN_ATTEMPTS) {
+      Thread.onSpinWait();
+    } else {
+      Thread.yield();
+    }
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+}
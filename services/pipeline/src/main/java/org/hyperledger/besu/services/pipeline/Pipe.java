@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.services.pipeline;
 
+import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_COUNTER;
+
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 
 import java.util.Collection;
@@ -34,6 +36,9 @@ import org.apache.logging.log4j.Logger;
  * ReadPipe} and {@link WritePipe}. These are designed to expose only the operations relevant to
  * objects either reading from or publishing to the pipe respectively.
  *
+ * <p>Time spent blocked waiting for space to add an item, or for an item to become available, is
+ * recorded in microseconds so stalled stages can be identified.
+ *
  * @param <T> the type of item that flows through the pipe.
  */
 public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
@@ -42,6 +47,8 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
   private final Counter inputCounter;
   private final Counter outputCounter;
   private final Counter abortedItemCounter;
+  private final Counter putStallCounter;
+  private final Counter getStallCounter;
   private final AtomicBoolean closed = new AtomicBoolean();
   private final AtomicBoolean aborted = new AtomicBoolean();
 
@@ -50,10 +57,28 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
       final Counter inputCounter,
       final Counter outputCounter,
       final Counter abortedItemCounter) {
-    queue = new ArrayBlockingQueue<>(capacity);
+    this(
+        new ArrayBlockingQueue<>(capacity),
+        inputCounter,
+        outputCounter,
+        abortedItemCounter,
+        NO_OP_COUNTER,
+        NO_OP_COUNTER);
+  }
+
+  Pipe(
+      final BlockingQueue<T> queue,
+      final Counter inputCounter,
+      final Counter outputCounter,
+      final Counter abortedItemCounter,
+      final Counter putStallCounter,
+      final Counter getStallCounter) {
+    this.queue = queue;
     this.inputCounter = inputCounter;
     this.outputCounter = outputCounter;
     this.abortedItemCounter = abortedItemCounter;
+    this.putStallCounter = putStallCounter;
+    this.getStallCounter = getStallCounter;
   }
 
   @Override
@@ -93,6 +118,14 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
 
   @Override
   public T get() {
+    if (!hasMore()) {
+      return null;
+    }
+    final T available = poll();
+    if (available != null) {
+      return available;
+    }
+    final long waitStartNanos = System.nanoTime();
     try {
       while (hasMore()) {
         final T value = queue.poll(1, TimeUnit.SECONDS);
@@ -103,6 +136,8 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
       }
     } catch (final InterruptedException e) {
       LOG.trace("Interrupted while waiting for next item", e);
+    } finally {
+      recordStall(getStallCounter, waitStartNanos);
     }
     return null;
   }
@@ -124,15 +159,28 @@ public class Pipe<T> implements ReadPipe<T>, WritePipe<T> {
 
   @Override
   public void put(final T value) {
-    while (isOpen()) {
-      try {
-        if (queue.offer(value, 1, TimeUnit.SECONDS)) {
-          inputCounter.inc();
-          return;
+    if (isOpen() && queue.offer(value)) {
+      inputCounter.inc();
+      return;
+    }
+    final long waitStartNanos = System.nanoTime();
+    try {
+      while (isOpen()) {
+        try {
+          if (queue.offer(value, 1, TimeUnit.SECONDS)) {
+            inputCounter.inc();
+            return;
+          }
+        } catch (final InterruptedException e) {
+          LOG.trace("Interrupted while waiting to add to output", e);
         }
-      } catch (final InterruptedException e) {
-        LOG.trace("Interrupted while waiting to add to output", e);
       }
+    } finally {
+      recordStall(putStallCounter, waitStartNanos);
     }
   }
+
+  private static void recordStall(final Counter stallCounter, final long waitStartNanos) {
+    stallCounter.inc(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - waitStartNanos));
+  }
 }
@@ -18,13 +18,19 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -53,6 +59,9 @@ public class PipelineBuilder<I, T> {
   private final LabelledMetric<Counter> outputCounter;
   private final boolean tracingEnabled;
   private final String pipelineName;
+  private final boolean lockFreePipes;
+  private final LabelledMetric<Counter> stallCounter;
+  private final LabelledGauge queueDepthGauge;
 
   public PipelineBuilder(
       final Pipe<I> inputPipe,
@@ -63,7 +72,10 @@ public class PipelineBuilder<I, T> {
       final int bufferSize,
       final LabelledMetric<Counter> outputCounter,
       final boolean tracingEnabled,
-      final String pipelineName) {
+      final String pipelineName,
+      final boolean lockFreePipes,
+      final LabelledMetric<Counter> stallCounter,
+      final LabelledGauge queueDepthGauge) {
     checkArgument(!pipes.isEmpty(), "Must have at least one pipe in a pipeline");
     this.lastStageName = lastStageName;
     this.outputCounter = outputCounter;
@@ -74,6 +86,9 @@ public class PipelineBuilder<I, T> {
     this.bufferSize = bufferSize;
     this.tracingEnabled = tracingEnabled;
     this.pipelineName = pipelineName;
+    this.lockFreePipes = lockFreePipes;
+    this.stallCounter = stallCounter;
+    this.queueDepthGauge = queueDepthGauge;
   }
 
   /**
@@ -98,7 +113,56 @@ public class PipelineBuilder<I, T> {
       final LabelledMetric<Counter> itemCounter,
       final boolean tracingEnabled,
       final String pipelineName) {
-    final Pipe<T> pipe = createPipe(bufferSize, sourceName, itemCounter);
+    return createPipelineFrom(
+        sourceName,
+        source,
+        bufferSize,
+        itemCounter,
+        tracingEnabled,
+        pipelineName,
+        false,
+        new NoOpMetricsSystem());
+  }
+
+  /**
+   * Create a new pipeline that processes inputs from <i>source</i>. The pipeline completes when
+   * <i>source</i> returns <code>false</code> from {@link Iterator#hasNext()} and the last item has
+   * been reached the end of the pipeline.
+   *
+   * @param sourceName the name of this stage. Used as the label for the output count metric.
+   * @param source the source to pull items from for processing.
+   * @param bufferSize the number of items to be buffered between each stage in the pipeline.
+   * @param itemCounter the counter to increment for each output of a stage. Must accept two labels,
+   *     the stage name and action (output or drained).
+   * @param <T> the type of items input into the pipeline.
+   * @param tracingEnabled whether this pipeline should be traced
+   * @param pipelineName the name of the pipeline for tracing purposes
+   * @param lockFreePipes whether the pipes between stages should use a lock-free ring buffer
+   *     instead of a lock based queue. Suited to pipelines moving large numbers of small items.
+   * @param metricsSystem the metrics system to report the stall time and queue depth of each pipe
+   *     to
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public static <T> PipelineBuilder<T, T> createPipelineFrom(
+      final String sourceName,
+      final Iterator<T> source,
+      final int bufferSize,
+      final LabelledMetric<Counter> itemCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final boolean lockFreePipes,
+      final MetricsSystem metricsSystem) {
+    final LabelledMetric<Counter> stallCounter = createStallCounter(metricsSystem);
+    final LabelledGauge queueDepthGauge = createQueueDepthGauge(metricsSystem);
+    final Pipe<T> pipe =
+        createPipe(
+            bufferSize,
+            sourceName,
+            itemCounter,
+            pipelineName,
+            lockFreePipes,
+            stallCounter,
+            queueDepthGauge);
     final IteratorSourceStage<T> sourceStage = new IteratorSourceStage<>(sourceName, source, pipe);
     return new PipelineBuilder<>(
         pipe,
@@ -109,7 +173,10 @@ public class PipelineBuilder<I, T> {
         bufferSize,
         itemCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        lockFreePipes,
+        stallCounter,
+        queueDepthGauge);
   }
 
   /**
@@ -131,7 +198,52 @@ public class PipelineBuilder<I, T> {
       final LabelledMetric<Counter> outputCounter,
       final boolean tracingEnabled,
       final String pipelineName) {
-    final Pipe<T> pipe = createPipe(bufferSize, sourceName, outputCounter);
+    return createPipeline(
+        sourceName,
+        bufferSize,
+        outputCounter,
+        tracingEnabled,
+        pipelineName,
+        false,
+        new NoOpMetricsSystem());
+  }
+
+  /**
+   * Create a new pipeline that processes inputs added to <i>pipe</i>. The pipeline completes when
+   * <i>pipe</i> is closed and the last item has been reached the end of the pipeline.
+   *
+   * @param sourceName the name of this stage. Used as the label for the output count metric.
+   * @param bufferSize the number of items to be buffered between each stage in the pipeline.
+   * @param outputCounter the counter to increment for each output of a stage. Must have a single
+   *     label which will be filled with the stage name.
+   * @param <T> the type of items input into the pipeline.
+   * @param tracingEnabled whether this pipeline should be traced
+   * @param pipelineName the name of the pipeline for tracing purposes
+   * @param lockFreePipes whether the pipes between stages should use a lock-free ring buffer
+   *     instead of a lock based queue. Suited to pipelines moving large numbers of small items.
+   * @param metricsSystem the metrics system to report the stall time and queue depth of each pipe
+   *     to
+   * @return a {@link PipelineBuilder} ready to extend the pipeline with additional stages.
+   */
+  public static <T> PipelineBuilder<T, T> createPipeline(
+      final String sourceName,
+      final int bufferSize,
+      final LabelledMetric<Counter> outputCounter,
+      final boolean tracingEnabled,
+      final String pipelineName,
+      final boolean lockFreePipes,
+      final MetricsSystem metricsSystem) {
+    final LabelledMetric<Counter> stallCounter = createStallCounter(metricsSystem);
+    final LabelledGauge queueDepthGauge = createQueueDepthGauge(metricsSystem);
+    final Pipe<T> pipe =
+        createPipe(
+            bufferSize,
+            sourceName,
+            outputCounter,
+            pipelineName,
+            lockFreePipes,
+            stallCounter,
+            queueDepthGauge);
     return new PipelineBuilder<>(
         pipe,
         emptyList(),
@@ -141,7 +253,10 @@ public class PipelineBuilder<I, T> {
         bufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        lockFreePipes,
+        stallCounter,
+        queueDepthGauge);
   }
 
   /**
@@ -250,7 +365,10 @@ public class PipelineBuilder<I, T> {
         (int) Math.ceil(((double) bufferSize) / maximumBatchSize),
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        lockFreePipes,
+        stallCounter,
+        queueDepthGauge);
   }
 
   /**
@@ -321,7 +439,7 @@ public class PipelineBuilder<I, T> {
       final Supplier<Processor<T, O>> createProcessor,
       final int numberOfThreads,
       final int newBufferSize) {
-    final Pipe<O> newPipeEnd = createPipe(newBufferSize, stageName, outputCounter);
+    final Pipe<O> newPipeEnd = createPipe(newBufferSize, stageName);
     final WritePipe<O> outputPipe = new SharedWritePipe<>(newPipeEnd, numberOfThreads);
     final ArrayList<Stage> newStages = new ArrayList<>(stages);
     for (int i = 0; i < numberOfThreads; i++) {
@@ -338,7 +456,10 @@ public class PipelineBuilder<I, T> {
         newBufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        lockFreePipes,
+        stallCounter,
+        queueDepthGauge);
   }
 
   private <O> PipelineBuilder<I, O> addStage(
@@ -348,7 +469,7 @@ public class PipelineBuilder<I, T> {
 
   private <O> PipelineBuilder<I, O> addStage(
       final Processor<T, O> processor, final int newBufferSize, final String stageName) {
-    final Pipe<O> outputPipe = createPipe(newBufferSize, stageName, outputCounter);
+    final Pipe<O> outputPipe = createPipe(newBufferSize, stageName);
     final Stage processStage = new ProcessingStage<>(stageName, pipeEnd, outputPipe, processor);
     final List<Stage> newStages = concat(stages, processStage);
     return new PipelineBuilder<>(
@@ -360,7 +481,10 @@ public class PipelineBuilder<I, T> {
         newBufferSize,
         outputCounter,
         tracingEnabled,
-        pipelineName);
+        pipelineName,
+        lockFreePipes,
+        stallCounter,
+        queueDepthGauge);
   }
 
   private <X> List<X> concat(final Collection<X> existing, final X newItem) {
@@ -369,15 +493,56 @@ public class PipelineBuilder<I, T> {
     return newList;
   }
 
+  private <O> Pipe<O> createPipe(final int newBufferSize, final String stageName) {
+    return createPipe(
+        newBufferSize,
+        stageName,
+        outputCounter,
+        pipelineName,
+        lockFreePipes,
+        stallCounter,
+        queueDepthGauge);
+  }
+
   private static <O> Pipe<O> createPipe(
       final int newBufferSize,
       final String stageName,
-      final LabelledMetric<Counter> outputCounter) {
+      final LabelledMetric<Counter> outputCounter,
+      final String pipelineName,
+      final boolean lockFreePipes,
+      final LabelledMetric<Counter> stallCounter,
+      final LabelledGauge queueDepthGauge) {
     final String labelName = stageName + "_outputPipe";
+    final BlockingQueue<O> queue =
+        lockFreePipes
+            ? new MpmcArrayBlockingQueue<>(newBufferSize)
+            : new ArrayBlockingQueue<>(newBufferSize);
+    queueDepthGauge.labels(queue::size, pipelineName, labelName);
     return new Pipe<>(
-        newBufferSize,
+        queue,
         outputCounter.labels(labelName, "added"),
         outputCounter.labels(labelName, "removed"),
-        outputCounter.labels(labelName, "aborted"));
+        outputCounter.labels(labelName, "aborted"),
+        stallCounter.labels(pipelineName, labelName, "put"),
+        stallCounter.labels(pipelineName, labelName, "get"));
+  }
+
+  private static LabelledMetric<Counter> createStallCounter(final MetricsSystem metricsSystem) {
+    return metricsSystem.createLabelledCounter(
+        BesuMetricCategory.EXECUTORS,
+        "pipeline_stalled_micros_total",
+        "Time stages spent blocked adding items to or taking items from each pipeline pipe",
+        "pipeline",
+        "pipe",
+        "operation");
+  }
+
+  private static LabelledGauge createQueueDepthGauge(final MetricsSystem metricsSystem) {
+    return metricsSystem.createLabelledGauge(
+        BesuMetricCategory.EXECUTORS,
+        "pipeline_queue_depth",
+        "Number of items waiting in each pipeline pipe",
+        "pipeline",
+        "pipe");
   }
 }
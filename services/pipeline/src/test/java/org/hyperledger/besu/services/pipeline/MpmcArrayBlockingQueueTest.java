@@ -0,0 +1,192 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class MpmcArrayBlockingQueueTest {
+
+  private final MpmcArrayBlockingQueue<String> queue = new MpmcArrayBlockingQueue<>(3);
+
+  @Test
+  public void shouldReturnItemsInOrder() {
+    assertThat(queue.offer("a")).isTrue();
+    assertThat(queue.offer("b")).isTrue();
+
+    assertThat(queue.peek()).isEqualTo("a");
+    assertThat(queue.poll()).isEqualTo("a");
+    assertThat(queue.poll()).isEqualTo("b");
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  public void shouldRejectItemsWhenFull() {
+    assertThat(queue.offer("a")).isTrue();
+    assertThat(queue.offer("b")).isTrue();
+    assertThat(queue.offer("c")).isTrue();
+
+    assertThat(queue.offer("d")).isFalse();
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.remainingCapacity()).isZero();
+
+    queue.poll();
+    assertThat(queue.offer("d")).isTrue();
+    assertThat(queue).containsExactly("b", "c", "d");
+  }
+
+  @Test
+  public void shouldRespectCapacityOfOne() {
+    final MpmcArrayBlockingQueue<String> singleItemQueue = new MpmcArrayBlockingQueue<>(1);
+    assertThat(singleItemQueue.offer("a")).isTrue();
+    assertThat(singleItemQueue.offer("b")).isFalse();
+
+    assertThat(singleItemQueue.poll()).isEqualTo("a");
+    assertThat(singleItemQueue.offer("b")).isTrue();
+    assertThat(singleItemQueue.poll()).isEqualTo("b");
+  }
+
+  @Test
+  public void shouldDrainUpToMaxElements() {
+    queue.offer("a");
+    queue.offer("b");
+    queue.offer("c");
+
+    final List<String> output = new ArrayList<>();
+    assertThat(queue.drainTo(output, 2)).isEqualTo(2);
+    assertThat(output).containsExactly("a", "b");
+
+    assertThat(queue.drainTo(output)).isEqualTo(1);
+    assertThat(output).containsExactly("a", "b", "c");
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldWakeBlockedConsumerWhenItemIsAdded() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<String> taken = executor.submit(queue::take);
+      // Give the consumer time to finish spinning and wait on the condition
+      Thread.sleep(100);
+      assertThat(taken).isNotDone();
+
+      queue.put("a");
+
+      assertThat(taken.get(1, TimeUnit.SECONDS)).isEqualTo("a");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldWakeBlockedProducerWhenItemIsRemoved() throws Exception {
+    queue.offer("a");
+    queue.offer("b");
+    queue.offer("c");
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> put =
+          executor.submit(
+              () -> {
+                queue.put("d");
+                return null;
+              });
+      Thread.sleep(100);
+      assertThat(put).isNotDone();
+
+      assertThat(queue.take()).isEqualTo("a");
+
+      put.get(1, TimeUnit.SECONDS);
+      assertThat(queue).containsExactly("b", "c", "d");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldTimeOutWhenNoItemAvailable() throws Exception {
+    assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  public void shouldTimeOutWhenNoCapacityAvailable() throws Exception {
+    queue.offer("a");
+    queue.offer("b");
+    queue.offer("c");
+
+    assertThat(queue.offer("d", 10, TimeUnit.MILLISECONDS)).isFalse();
+  }
+
+  @Test
+  public void shouldDeliverEveryItemExactlyOnceWithConcurrentProducersAndConsumers()
+      throws Exception {
+    final int threadCount = 4;
+    final int itemsPerProducer = 10_000;
+    final MpmcArrayBlockingQueue<Integer> sharedQueue = new MpmcArrayBlockingQueue<>(16);
+    final Set<Integer> received = ConcurrentHashMap.newKeySet();
+    final AtomicInteger receivedCount = new AtomicInteger();
+    final CountDownLatch consumersDone = new CountDownLatch(threadCount);
+    final ExecutorService executor = Executors.newFixedThreadPool(threadCount * 2);
+    try {
+      for (int producer = 0; producer < threadCount; producer++) {
+        final int firstItem = producer * itemsPerProducer;
+        executor.submit(
+            () -> {
+              for (int i = 0; i < itemsPerProducer; i++) {
+                sharedQueue.put(firstItem + i);
+              }
+              return null;
+            });
+      }
+      for (int consumer = 0; consumer < threadCount; consumer++) {
+        executor.submit(
+            () -> {
+              final List<Integer> batch = new ArrayList<>();
+              while (receivedCount.get() < threadCount * itemsPerProducer) {
+                batch.clear();
+                if (sharedQueue.drainTo(batch, 8) == 0) {
+                  final Integer item = sharedQueue.poll(1, TimeUnit.MILLISECONDS);
+                  if (item != null) {
+                    batch.add(item);
+                  }
+                }
+                received.addAll(batch);
+                receivedCount.addAndGet(batch.size());
+              }
+              consumersDone.countDown();
+              return null;
+            });
+      }
+
+      assertThat(consumersDone.await(30, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(receivedCount.get()).isEqualTo(threadCount * itemsPerProducer);
+    assertThat(received).hasSize(threadCount * itemsPerProducer);
+  }
+}
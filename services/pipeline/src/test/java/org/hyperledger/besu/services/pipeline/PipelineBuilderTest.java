@@ -25,6 +25,7 @@ import static org.assertj.core.api.Assertions.fail;
 import static org.awaitility.Awaitility.waitAtMost;
 import static org.hyperledger.besu.metrics.noop.NoOpMetricsSystem.NO_OP_LABELLED_2_COUNTER;
 
+import org.hyperledger.besu.metrics.StubMetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 
@@ -471,6 +472,27 @@ public class PipelineBuilderTest {
     assertThat(counters.get("asyncOrdered_outputPipe-batches").count).hasValueBetween(4, 15);
   }
 
+  @Test
+  public void shouldReportQueueDepthOfEachPipe() {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final Pipeline<Integer> pipeline =
+        PipelineBuilder.<Integer>createPipeline(
+                "source", 10, NO_OP_LABELLED_2_COUNTER, false, "test", false, metricsSystem)
+            .thenProcess("map", Function.identity())
+            .andFinishWith("end", new ArrayList<>()::add);
+
+    pipeline.getInputPipe().put(1);
+    pipeline.getInputPipe().put(2);
+
+    assertThat(
+            metricsSystem.getLabelledGaugeValue(
+                "pipeline_queue_depth", "test", "source_outputPipe"))
+        .isEqualTo(2.0);
+    assertThat(
+            metricsSystem.getLabelledGaugeValue("pipeline_queue_depth", "test", "map_outputPipe"))
+        .isZero();
+  }
+
   private void waitForSize(final Collection<?> collection, final int targetSize) {
     waitAtMost(10, SECONDS).untilAsserted(() -> assertThat(collection).hasSize(targetSize));
   }
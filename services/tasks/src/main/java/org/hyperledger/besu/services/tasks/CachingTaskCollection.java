@@ -16,7 +16,11 @@ package org.hyperledger.besu.services.tasks;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 
@@ -58,6 +62,21 @@ public class CachingTaskCollection<T> implements TaskCollection<T> {
     cache.add(newTask);
   }
 
+  @Override
+  public synchronized void addAll(final Collection<T> taskData) {
+    assertNotClosed();
+    final Iterator<T> iterator = taskData.iterator();
+    while (iterator.hasNext() && cacheSize() < maxCacheSize) {
+      cache.add(new CachedTask<>(this, iterator.next()));
+    }
+    if (iterator.hasNext()) {
+      // Too many tasks in the cache, push the remainder to the underlying collection in one batch
+      final List<T> overflow = new ArrayList<>();
+      iterator.forEachRemaining(overflow::add);
+      wrappedCollection.addAll(overflow);
+    }
+  }
+
   @Override
   public synchronized Task<T> remove() {
     assertNotClosed();
@@ -70,6 +89,21 @@ public class CachingTaskCollection<T> implements TaskCollection<T> {
     return pendingTask;
   }
 
+  @Override
+  public synchronized List<Task<T>> remove(final int maxTasks) {
+    assertNotClosed();
+    final List<Task<T>> tasks = new ArrayList<>(Math.min(maxTasks, cache.size()));
+    while (tasks.size() < maxTasks && !cache.isEmpty()) {
+      final Task<T> pendingTask = cache.remove();
+      outstandingTasks.add(pendingTask);
+      tasks.add(pendingTask);
+    }
+    if (tasks.size() < maxTasks) {
+      tasks.addAll(wrappedCollection.remove(maxTasks - tasks.size()));
+    }
+    return tasks;
+  }
+
   @Override
   public synchronized void clear() {
     assertNotClosed();
@@ -20,8 +20,9 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
@@ -30,25 +31,38 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 
+/**
+ * A task collection backed by a sequence of segment files. Tasks are appended through a fixed-size
+ * write buffer and read back through a fixed-size read buffer filled with positional reads, so
+ * neither the heap nor the number of open mappings grows with the number of queued tasks. Segments
+ * are deleted as soon as they have been fully consumed.
+ */
 public class FlatFileTaskCollection<T> implements TaskCollection<T> {
   private static final Logger LOG = LogManager.getLogger();
   private static final long DEFAULT_FILE_ROLL_SIZE_BYTES = 1024 * 1024 * 10; // 10Mb
+  private static final int WRITE_BUFFER_SIZE_BYTES = 1024 * 1024; // 1Mb
+  private static final int READ_BUFFER_SIZE_BYTES = 1024 * 1024; // 1Mb
   static final String FILENAME_PREFIX = "tasks";
-  private final Set<FlatFileTask<T>> outstandingTasks = new HashSet<>();
 
   private final Path storageDirectory;
   private final Function<T, Bytes> serializer;
   private final Function<Bytes, T> deserializer;
   private final long rollWhenFileSizeExceedsBytes;
 
-  private final ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+  private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE_BYTES);
+  private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE_BYTES);
 
   private FileChannel readFileChannel;
   private FileChannel writeFileChannel;
 
   private long size = 0;
+  private long outstandingTaskCount = 0;
+  // Incremented on clear so that tasks handed out before the clear are ignored when completed
+  private long generation = 0;
   private int readFileNumber = 0;
   private int writeFileNumber = 0;
+  private long readFileOffset = 0;
+  private long writeFileSize = 0;
 
   public FlatFileTaskCollection(
       final Path storageDirectory,
@@ -66,6 +80,7 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
     this.serializer = serializer;
     this.deserializer = deserializer;
     this.rollWhenFileSizeExceedsBytes = rollWhenFileSizeExceedsBytes;
+    readBuffer.limit(0);
     writeFileChannel = openWriteFileChannel(writeFileNumber);
     readFileChannel = openReadFileChannel(readFileNumber);
   }
@@ -95,15 +110,18 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
 
   @Override
   public synchronized void add(final T taskData) {
-    final Bytes data = serializer.apply(taskData);
     try {
-      writeTaskData(data);
-      size++;
-      if (writeFileChannel.size() > rollWhenFileSizeExceedsBytes) {
-        LOG.debug("Writing reached end of file {}", writeFileNumber);
-        writeFileChannel.close();
-        writeFileNumber++;
-        writeFileChannel = openWriteFileChannel(writeFileNumber);
+      writeTaskData(serializer.apply(taskData));
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  @Override
+  public synchronized void addAll(final Collection<T> taskData) {
+    try {
+      for (final T task : taskData) {
+        writeTaskData(serializer.apply(task));
       }
     } catch (final IOException e) {
       throw new StorageException(e);
@@ -116,61 +134,128 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
       return null;
     }
     try {
-      final ByteBuffer dataBuffer = readNextTaskData();
-      final T data = deserializer.apply(Bytes.wrapByteBuffer(dataBuffer));
-      final FlatFileTask<T> task = new FlatFileTask<>(this, data);
-      outstandingTasks.add(task);
-      size--;
-      return task;
+      return readTask();
     } catch (final IOException e) {
       throw new StorageException(e);
     }
   }
 
-  private ByteBuffer readNextTaskData() throws IOException {
-    final int dataLength = readDataLength();
-    final ByteBuffer dataBuffer = ByteBuffer.allocate(dataLength);
-    readBytes(dataBuffer, dataLength);
-    return dataBuffer;
+  @Override
+  public synchronized List<Task<T>> remove(final int maxTasks) {
+    final List<Task<T>> tasks = new ArrayList<>((int) Math.min(maxTasks, size));
+    try {
+      while (tasks.size() < maxTasks && !isEmpty()) {
+        tasks.add(readTask());
+      }
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+    return tasks;
+  }
+
+  private Task<T> readTask() throws IOException {
+    final T data = deserializer.apply(readNextTaskData());
+    final FlatFileTask<T> task = new FlatFileTask<>(this, data, generation);
+    outstandingTaskCount++;
+    size--;
+    return task;
   }
 
   private void writeTaskData(final Bytes data) throws IOException {
-    final long offset = writeFileChannel.size();
-    writeDataLength(data.size(), offset);
-    writeFileChannel.write(ByteBuffer.wrap(data.toArrayUnsafe()), offset + Integer.BYTES);
+    final int recordSize = Integer.BYTES + data.size();
+    if (writeBuffer.remaining() < recordSize) {
+      flushWriteBuffer();
+    }
+    if (recordSize > writeBuffer.capacity()) {
+      final ByteBuffer record = ByteBuffer.allocate(recordSize);
+      record.putInt(data.size()).put(data.toArrayUnsafe()).flip();
+      writeFully(record);
+    } else {
+      writeBuffer.putInt(data.size()).put(data.toArrayUnsafe());
+    }
+    writeFileSize += recordSize;
+    size++;
+
+    if (writeFileSize > rollWhenFileSizeExceedsBytes) {
+      LOG.debug("Writing reached end of file {}", writeFileNumber);
+      flushWriteBuffer();
+      writeFileChannel.close();
+      writeFileNumber++;
+      writeFileChannel = openWriteFileChannel(writeFileNumber);
+      writeFileSize = 0;
+    }
   }
 
-  private int readDataLength() throws IOException {
-    lengthBuffer.position(0);
-    lengthBuffer.limit(Integer.BYTES);
-    readBytes(lengthBuffer, Integer.BYTES);
-    return lengthBuffer.getInt(0);
+  private void flushWriteBuffer() throws IOException {
+    writeBuffer.flip();
+    writeFully(writeBuffer);
+    writeBuffer.clear();
   }
 
-  private void writeDataLength(final int size, final long offset) throws IOException {
-    lengthBuffer.position(0);
-    lengthBuffer.putInt(size);
-    lengthBuffer.flip();
-    writeFileChannel.write(lengthBuffer, offset);
+  private void writeFully(final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      writeFileChannel.write(buffer);
+    }
   }
 
-  private void readBytes(final ByteBuffer buffer, final int expectedLength) throws IOException {
-    int readBytes = readFileChannel.read(buffer);
+  private Bytes readNextTaskData() throws IOException {
+    fillReadBuffer(Integer.BYTES);
+    final int dataLength = readBuffer.getInt();
+    if (dataLength < 0) {
+      throw new IllegalStateException("Task queue corrupted. Invalid task length " + dataLength);
+    }
+    final byte[] data = new byte[dataLength];
+    final int buffered = Math.min(dataLength, readBuffer.remaining());
+    readBuffer.get(data, 0, buffered);
+    if (buffered < dataLength) {
+      // Read the rest of the task straight from the segment rather than refilling the buffer
+      final ByteBuffer rest = ByteBuffer.wrap(data, buffered, dataLength - buffered);
+      readFromSegment(rest, rest.remaining());
+    }
+    return Bytes.wrap(data);
+  }
 
-    if (readBytes == -1 && writeFileNumber > readFileNumber) {
+  /**
+   * Ensures at least {@code minBytes} unread bytes are buffered, moving on to the next segment (and
+   * deleting the consumed one) when the current segment is exhausted.
+   */
+  private void fillReadBuffer(final int minBytes) throws IOException {
+    if (readBuffer.remaining() >= minBytes) {
+      return;
+    }
+    // Tasks never span segments, so a segment is only exhausted once the buffer is empty
+    while (!readBuffer.hasRemaining()
+        && readFileNumber != writeFileNumber
+        && readFileOffset >= readFileChannel.size()) {
       LOG.debug("Reading reached end of file {}", readFileNumber);
       readFileChannel.close();
       readFileNumber++;
       readFileChannel = openReadFileChannel(readFileNumber);
+      readFileOffset = 0;
+    }
+    readBuffer.compact();
+    try {
+      readFromSegment(readBuffer, minBytes - readBuffer.position());
+    } finally {
+      readBuffer.flip();
+    }
+  }
 
-      readBytes = readFileChannel.read(buffer);
+  /** Reads at least {@code minBytes} from the current read segment into {@code buffer}. */
+  private void readFromSegment(final ByteBuffer buffer, final int minBytes) throws IOException {
+    if (readFileNumber == writeFileNumber && readFileChannel.size() - readFileOffset < minBytes) {
+      // Make buffered tasks visible to the reader
+      flushWriteBuffer();
     }
-    if (readBytes != expectedLength) {
-      throw new IllegalStateException(
-          "Task queue corrupted. Expected to read "
-              + expectedLength
-              + " bytes but only got "
-              + readBytes);
+    int remaining = minBytes;
+    while (remaining > 0) {
+      final int read = readFileChannel.read(buffer, readFileOffset);
+      if (read <= 0) {
+        throw new IllegalStateException(
+            "Task queue corrupted. Expected more tasks in file " + readFileNumber);
+      }
+      readFileOffset += read;
+      remaining -= read;
     }
   }
 
@@ -196,8 +281,11 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
 
   @Override
   public synchronized void clear() {
-    outstandingTasks.clear();
+    outstandingTaskCount = 0;
+    generation++;
     try {
+      readBuffer.clear().limit(0);
+      writeBuffer.clear();
       readFileChannel.close();
       writeFileChannel.close();
       for (int i = readFileNumber; i <= writeFileNumber; i++) {
@@ -208,6 +296,8 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
       }
       readFileNumber = 0;
       writeFileNumber = 0;
+      readFileOffset = 0;
+      writeFileSize = 0;
       writeFileChannel = openWriteFileChannel(writeFileNumber);
       readFileChannel = openReadFileChannel(readFileNumber);
       size = 0;
@@ -218,7 +308,7 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
 
   @Override
   public synchronized boolean allTasksCompleted() {
-    return isEmpty() && outstandingTasks.isEmpty();
+    return isEmpty() && outstandingTaskCount == 0;
   }
 
   @Override
@@ -236,7 +326,11 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
   }
 
   private synchronized boolean markTaskCompleted(final FlatFileTask<T> task) {
-    return outstandingTasks.remove(task);
+    if (task.generation != generation) {
+      return false;
+    }
+    outstandingTaskCount--;
+    return true;
   }
 
   private synchronized void handleFailedTask(final FlatFileTask<T> task) {
@@ -255,10 +349,13 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
     private final AtomicBoolean completed = new AtomicBoolean(false);
     private final FlatFileTaskCollection<T> parentQueue;
     private final T data;
+    private final long generation;
 
-    private FlatFileTask(final FlatFileTaskCollection<T> parentQueue, final T data) {
+    private FlatFileTask(
+        final FlatFileTaskCollection<T> parentQueue, final T data, final long generation) {
       this.parentQueue = parentQueue;
       this.data = data;
+      this.generation = generation;
     }
 
     @Override
@@ -15,6 +15,9 @@
 package org.hyperledger.besu.services.tasks;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 public interface TaskCollection<T> extends Closeable {
   /**
@@ -24,6 +27,15 @@ public interface TaskCollection<T> extends Closeable {
    */
   void add(T taskData);
 
+  /**
+   * Add a batch of data that needs to be processed.
+   *
+   * @param taskData The data to be processed.
+   */
+  default void addAll(final Collection<T> taskData) {
+    taskData.forEach(this::add);
+  }
+
   /**
    * Get a task for processing. This task will be tracked as a pending task until either {@code
    * Task.markCompleted} or {@code Task.requeue} is called.
@@ -32,6 +44,25 @@ public interface TaskCollection<T> extends Closeable {
    */
   Task<T> remove();
 
+  /**
+   * Get up to {@code maxTasks} tasks for processing. Each task is tracked as if it was returned
+   * from {@link #remove()}.
+   *
+   * @param maxTasks The maximum number of tasks to return.
+   * @return The tasks to be processed, empty if there are none.
+   */
+  default List<Task<T>> remove(final int maxTasks) {
+    final List<Task<T>> tasks = new ArrayList<>();
+    while (tasks.size() < maxTasks) {
+      final Task<T> task = remove();
+      if (task == null) {
+        break;
+      }
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
   /**
    * Returns the number of tasks in the queue.
    *
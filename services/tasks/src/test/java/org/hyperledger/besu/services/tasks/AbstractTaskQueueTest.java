@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.services.tasks;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
@@ -53,6 +54,33 @@ abstract class AbstractTaskQueueTest<T extends TaskCollection<Bytes>> {
     }
   }
 
+  @Test
+  public void enqueueAndDequeueInBatches() throws Exception {
+    try (final T queue = createQueue()) {
+      final List<Bytes> values = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        values.add(Bytes.of(i));
+      }
+
+      queue.addAll(values);
+      assertThat(queue.size()).isEqualTo(10);
+
+      final List<Task<Bytes>> firstBatch = queue.remove(4);
+      final List<Task<Bytes>> secondBatch = queue.remove(100);
+      assertThat(firstBatch.stream().map(Task::getData).collect(toList()))
+          .isEqualTo(values.subList(0, 4));
+      assertThat(secondBatch.stream().map(Task::getData).collect(toList()))
+          .isEqualTo(values.subList(4, 10));
+      assertThat(queue.remove(5)).isEmpty();
+      assertThat(queue.isEmpty()).isTrue();
+      assertThat(queue.allTasksCompleted()).isFalse();
+
+      firstBatch.forEach(Task::markCompleted);
+      secondBatch.forEach(Task::markCompleted);
+      assertThat(queue.allTasksCompleted()).isTrue();
+    }
+  }
+
   @Test
   public void markTaskFailed() throws Exception {
     try (final T queue = createQueue()) {
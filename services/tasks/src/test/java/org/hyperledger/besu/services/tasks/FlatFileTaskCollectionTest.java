@@ -82,6 +82,29 @@ public class FlatFileTaskCollectionTest
     }
   }
 
+  @Test
+  public void shouldDeleteConsumedFiles() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    try (final FlatFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      final List<Bytes> tasks = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        tasks.add(Bytes.of(i));
+      }
+      queue.addAll(tasks);
+      assertThat(queue.getWriteFileNumber()).isGreaterThan(1);
+
+      final List<Bytes> removedTasks = new ArrayList<>();
+      while (!queue.isEmpty()) {
+        removedTasks.add(queue.remove().getData());
+      }
+
+      assertThat(removedTasks).isEqualTo(tasks);
+      for (int i = 0; i < queue.getReadFileNumber(); i++) {
+        assertThat(dataDir.resolve(FlatFileTaskCollection.FILENAME_PREFIX + i)).doesNotExist();
+      }
+    }
+  }
+
   private void addItem(
       final FlatFileTaskCollection<Bytes> queue, final List<Bytes> tasks, final int value) {
     tasks.add(Bytes.of(value));
@@ -81,6 +81,7 @@ public class RollingFileReader implements Closeable {
     fileNumber = index.readUnsignedShort();
     currentPosition = index.readInt();
     if (oldFile != fileNumber) {
+      in.close();
       in = new RandomAccessFile(filenameGenerator.apply(fileNumber, compressed).toFile(), "r");
     }
     in.seek(currentPosition);